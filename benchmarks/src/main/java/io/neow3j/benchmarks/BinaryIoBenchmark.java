@@ -0,0 +1,88 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips of primitives and variable-length data through {@link BinaryWriter} and
+ * {@link BinaryReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryIoBenchmark {
+
+    @Param({"32", "1024"})
+    public int varBytesLength;
+
+    private byte[] varBytes;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        varBytes = new byte[varBytesLength];
+        new Random(42).nextBytes(varBytes);
+        serialized = write();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            writer.writeByte((byte) 0x80);
+            writer.writeInt(123456789);
+            writer.writeLong(1234567890123L);
+            writer.writeVarInt(varBytes.length);
+            writer.writeVarBytes(varBytes);
+            writer.writeVarString("neow3j");
+            writer.flush();
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+        try (BinaryReader reader = new BinaryReader(new ByteArrayInputStream(serialized))) {
+            long sum = reader.readByte();
+            sum += reader.readInt();
+            sum += reader.readLong();
+            sum += reader.readVarInt();
+            sum += reader.readVarBytes().length;
+            sum += reader.readVarString().length();
+            return sum;
+        }
+    }
+
+    @Benchmark
+    public long roundTrip() throws IOException {
+        try (BinaryReader reader = new BinaryReader(new ByteArrayInputStream(write()))) {
+            long sum = reader.readByte();
+            sum += reader.readInt();
+            sum += reader.readLong();
+            sum += reader.readVarInt();
+            sum += reader.readVarBytes().length;
+            sum += reader.readVarString().length();
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.Base58;
+import io.neow3j.crypto.Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hash functions and the Base58 codec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashBenchmark {
+
+    @Param({"32", "1024"})
+    public int length;
+
+    private byte[] input;
+    private String base58;
+    private String base58Check;
+
+    @Setup
+    public void setUp() {
+        input = new byte[length];
+        new Random(42).nextBytes(input);
+        base58 = Base58.encode(input);
+        base58Check = Hash.base58CheckEncode(input);
+    }
+
+    @Benchmark
+    public byte[] sha256() {
+        return Hash.sha256(input);
+    }
+
+    @Benchmark
+    public byte[] sha256AndThenRipemd160() {
+        return Hash.sha256AndThenRipemd160(input);
+    }
+
+    @Benchmark
+    public String base58Encode() {
+        return Base58.encode(input);
+    }
+
+    @Benchmark
+    public byte[] base58Decode() {
+        return Base58.decode(base58);
+    }
+
+    @Benchmark
+    public String base58CheckEncode() {
+        return Hash.base58CheckEncode(input);
+    }
+
+    @Benchmark
+    public byte[] base58CheckDecode() {
+        return Hash.base58CheckDecode(base58Check);
+    }
+}
@@ -0,0 +1,82 @@
+package io.neow3j.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoGetAccountState;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson deserialization of JSON-RPC responses, using the fixtures of the response tests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParsingBenchmark {
+
+    private static final Map<String, Class<? extends Response<?>>> TYPES = new HashMap<>();
+
+    static {
+        TYPES.put("getblock", NeoGetBlock.class);
+        TYPES.put("gettransaction", NeoGetTransaction.class);
+        TYPES.put("getaccountstate", NeoGetAccountState.class);
+        TYPES.put("getunspents", NeoGetUnspents.class);
+        TYPES.put("getnep5balances", NeoGetNep5Balances.class);
+    }
+
+    @Param({"getblock", "gettransaction", "getaccountstate", "getunspents", "getnep5balances"})
+    public String fixture;
+
+    private ObjectMapper objectMapper;
+    private byte[] json;
+    private Class<? extends Response<?>> type;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = ObjectMapperFactory.getObjectMapper();
+        json = readFixture(fixture);
+        type = TYPES.get(fixture);
+    }
+
+    @Benchmark
+    public Response<?> parse() throws IOException {
+        return objectMapper.readValue(json, type);
+    }
+
+    private static byte[] readFixture(String name) throws IOException {
+        try (InputStream in = JsonParsingBenchmark.class
+                .getResourceAsStream("/fixtures/" + name + ".json")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.KeyUtils;
+import io.neow3j.crypto.Keys;
+import io.neow3j.crypto.Sign;
+import io.neow3j.utils.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and the key, script hash and address conversions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyBenchmark {
+
+    private static final String PRIVATE_KEY =
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3";
+
+    private static final String ADDRESS = "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ";
+
+    private ECKeyPair keyPair;
+    private byte[] message;
+    private byte[] scriptHash;
+    private String scriptHashHex;
+
+    @Setup
+    public void setUp() {
+        keyPair = ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+        message = "A transaction to be signed".getBytes(StandardCharsets.UTF_8);
+        scriptHash = KeyUtils.toScriptHash(ADDRESS);
+        scriptHashHex = Numeric.toHexStringNoPrefix(scriptHash);
+    }
+
+    @Benchmark
+    public Sign.SignatureData signMessage() {
+        return Sign.signMessage(message, keyPair);
+    }
+
+    @Benchmark
+    public ECKeyPair createKeyPairFromPrivateKey() {
+        return ECKeyPair.create(Numeric.hexStringToByteArray(PRIVATE_KEY));
+    }
+
+    @Benchmark
+    public String publicKeyToAddress() {
+        return Keys.getAddress(keyPair);
+    }
+
+    @Benchmark
+    public String scriptHashToAddress() {
+        return KeyUtils.toAddress(scriptHash);
+    }
+
+    @Benchmark
+    public String scriptHashHexToAddress() {
+        return KeyUtils.scriptHashToAddress(scriptHashHex);
+    }
+
+    @Benchmark
+    public byte[] addressToScriptHash() {
+        return KeyUtils.toScriptHash(ADDRESS);
+    }
+}
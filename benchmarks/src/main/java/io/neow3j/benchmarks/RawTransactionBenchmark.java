@@ -0,0 +1,75 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.transaction.ContractTransaction;
+import io.neow3j.crypto.transaction.RawInvocationScript;
+import io.neow3j.crypto.transaction.RawScript;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+import io.neow3j.crypto.transaction.RawVerificationScript;
+import io.neow3j.io.NeoSerializableInterface;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.utils.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of a signed contract transaction with one input and two
+ * outputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RawTransactionBenchmark {
+
+    private RawTransaction transaction;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        transaction = RawTransaction.createContractTransaction(
+                null,
+                null,
+                Arrays.asList(
+                        new RawTransactionInput("c94d0f94b0ac9bacd86737c428344cb2d8be9aad296659e85c065d4f88cd2dd2", 0)
+                ),
+                Arrays.asList(
+                        new RawTransactionOutput(0, NEOAsset.HASH_ID, "10.0", "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y"),
+                        new RawTransactionOutput(1, NEOAsset.HASH_ID, "90.0", "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ")
+                ),
+                Arrays.asList(
+                        new RawScript(
+                                Arrays.asList(
+                                        new RawInvocationScript(Numeric.hexStringToByteArray("a1c29ef0b8215d5bf8f3649ff1eae3fd5d74bf38c92007ce6aceea60efa5a986ed1c3d7669f9073f572a52dbbdc7ad7908fe22c2859e85d979e405807ce3d644"))
+                                ),
+                                new RawVerificationScript(Arrays.asList(Numeric.toBigIntNoPrefix("0265bf906bf385fbf3f777832e55a87991bcfbe19b097fb7c5ca2e4025a4d5e5d6")), 1)
+                        )
+                )
+        );
+        serialized = transaction.toArray();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return transaction.toArray();
+    }
+
+    @Benchmark
+    public ContractTransaction deserialize() throws Exception {
+        return NeoSerializableInterface.from(serialized, ContractTransaction.class);
+    }
+}
@@ -0,0 +1,55 @@
+package io.neow3j.benchmarks;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Wallet;
+import io.neow3j.crypto.WalletFile;
+import io.neow3j.utils.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NEP-2 encryption and decryption with the standard scrypt parameters. Both are dominated by
+ * scrypt, so few iterations are enough.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WalletBenchmark {
+
+    private static final String PASSWORD = "Insecure Pa55w0rd";
+
+    private ECKeyPair keyPair;
+    private WalletFile wallet;
+    private WalletFile.Account account;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyPair = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3"));
+        wallet = Wallet.createStandardWallet();
+        account = Wallet.createStandardAccount(PASSWORD, keyPair);
+    }
+
+    @Benchmark
+    public byte[] encrypt() throws Exception {
+        return Wallet.encryptStandard(PASSWORD, keyPair);
+    }
+
+    @Benchmark
+    public ECKeyPair decrypt() throws Exception {
+        return Wallet.decryptStandard(PASSWORD, wallet, account);
+    }
+}
@@ -0,0 +1,67 @@
+package io.neow3j.protocol;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Input stream adding the number of bytes read to a counter.
+ *
+ * <p>A reset takes back the bytes read since the mark, or since the start of this stream if the
+ * underlying stream was marked before it was wrapped, so that bytes read twice, e.g. to keep
+ * the raw response, are counted once.</p>
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private final AtomicLong counter;
+    private long count;
+    private long markedCount;
+
+    public CountingInputStream(InputStream in, AtomicLong counter) {
+        super(in);
+        this.counter = counter;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        super.mark(readlimit);
+        markedCount = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        count(markedCount - count);
+    }
+
+    private void count(long n) {
+        count += n;
+        counter.addAndGet(n);
+    }
+}
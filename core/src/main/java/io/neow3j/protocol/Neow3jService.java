@@ -2,6 +2,7 @@ package io.neow3j.protocol;
 
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.metrics.MetricsListener;
 import io.neow3j.protocol.notifications.Notification;
 import rx.Observable;
 
@@ -60,6 +61,20 @@ public interface Neow3jService {
             String unsubscribeMethod,
             Class<T> responseType);
 
+    /**
+     * Sets a listener that is notified with the counts, sizes and phase latencies of every
+     * request performed by this service. Pass null to stop collecting metrics.
+     *
+     * @param metricsListener the listener, or null
+     * @throws UnsupportedOperationException if the service does not support metrics
+     */
+    default void setMetricsListener(MetricsListener metricsListener) {
+        throw new UnsupportedOperationException(
+                String.format(
+                        "Service %s does not support metrics",
+                        this.getClass().getSimpleName()));
+    }
+
     /**
      * Closes resources used by the service.
      *
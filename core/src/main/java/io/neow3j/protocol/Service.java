@@ -1,7 +1,11 @@
 package io.neow3j.protocol;
 
+import io.neow3j.jfr.EventScope;
+import io.neow3j.jfr.FlightRecorderEvents;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.metrics.MetricsListener;
+import io.neow3j.protocol.metrics.RequestMetrics;
 import io.neow3j.protocol.notifications.Notification;
 import io.neow3j.utils.Async;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,6 +14,7 @@ import rx.Observable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Base service implementation.
@@ -18,15 +23,31 @@ public abstract class Service implements Neow3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private volatile MetricsListener metricsListener;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    @Override
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
+        MetricsListener listener = metricsListener;
+        EventScope event = FlightRecorderEvents.rpcCall(request.getMethod());
+        if (listener != null || event.isEnabled()) {
+            return sendMeasured(request, responseType, listener, event);
+        }
         String payload = objectMapper.writeValueAsString(request);
 
         try (InputStream result = performIO(payload)) {
@@ -38,6 +59,70 @@ public abstract class Service implements Neow3jService {
         }
     }
 
+    private <T extends Response> T sendMeasured(
+            Request request, Class<T> responseType, MetricsListener listener,
+            EventScope event) throws IOException {
+        long serializeNanos = 0;
+        long ioNanos = 0;
+        long parseNanos = 0;
+        long bytesOut = 0;
+        AtomicLong bytesIn = new AtomicLong();
+        T response = null;
+        Throwable exception = null;
+        long start = System.nanoTime();
+        try {
+            String payload = objectMapper.writeValueAsString(request);
+            long serialized = System.nanoTime();
+            serializeNanos = serialized - start;
+            bytesOut = utf8Length(payload);
+
+            InputStream result = performIO(payload);
+            long received = System.nanoTime();
+            ioNanos = received - serialized;
+
+            if (result != null) {
+                try (InputStream in = new CountingInputStream(result, bytesIn)) {
+                    response = objectMapper.readValue(in, responseType);
+                } finally {
+                    parseNanos = System.nanoTime() - received;
+                }
+            }
+            return response;
+        } catch (IOException | RuntimeException | Error e) {
+            exception = e;
+            throw e;
+        } finally {
+            boolean rpcError = response != null && response.hasError();
+            event.setSize(bytesOut);
+            event.setResultSize(bytesIn.get());
+            event.setSuccessful(!rpcError && exception == null);
+            event.close();
+            if (listener != null) {
+                listener.onRequest(new RequestMetrics(request.getMethod(), serializeNanos,
+                        ioNanos, parseNanos, bytesOut, bytesIn.get(), rpcError, exception));
+            }
+        }
+    }
+
+    private static long utf8Length(String s) {
+        long length = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length += 1;
+                } else if (Character.isHighSurrogate(c)) {
+                    // a surrogate pair is 2 chars and 4 bytes
+                    length += 1;
+                    i++;
+                } else {
+                    length += 2;
+                }
+            }
+        }
+        return length;
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
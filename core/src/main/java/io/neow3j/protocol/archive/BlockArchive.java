@@ -0,0 +1,392 @@
+package io.neow3j.protocol.archive;
+
+import io.neow3j.utils.Observables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.exceptions.Exceptions;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Local append-only store of raw blocks, i.e. the serialized blocks returned by
+ * <code>getblock</code> with verbose set to 0.
+ *
+ * <p>Blocks are appended in index order to segment files of a fixed maximum size. An index file
+ * maps each block index to its segment, offset and length; it is loaded into memory when the
+ * archive is opened. Reads return read-only slices of memory-mapped segments, so replaying the
+ * archive touches neither the node nor the Java heap for the block data. The mapping of the
+ * segment being written grows geometrically; blocks appended since it was last mapped are read
+ * into the heap until the segment has doubled in size.</p>
+ *
+ * <p>Data is written before its index entry. When the archive is opened after a crash, index
+ * entries that point past the end of their segment and data without an index entry are
+ * discarded.</p>
+ *
+ * <p>Appends are serialized; reads may happen concurrently with appends. The buffers returned by
+ * {@link #read(long)} stay valid after the archive is closed.</p>
+ */
+public class BlockArchive implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlockArchive.class);
+
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+    static final String INDEX_FILE = "blocks.idx";
+
+    private static final int MAGIC = 0x4E334A41;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 12;
+
+    private final File directory;
+    private final int segmentSize;
+    private final FileChannel indexChannel;
+    private final List<FileChannel> segments = new ArrayList<>();
+    private final List<MappedByteBuffer> mappings = new ArrayList<>();
+
+    private long firstIndex = -1;
+    private int count;
+    private int[] entrySegments = new int[1024];
+    private int[] entryOffsets = new int[1024];
+    private int[] entryLengths = new int[1024];
+    private int mapCount;
+
+    /**
+     * Opens the archive in the given directory, creating it if necessary.
+     *
+     * @param directory the directory of the archive
+     * @throws IOException if the archive cannot be opened
+     */
+    public BlockArchive(File directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the archive in the given directory, creating it if necessary.
+     *
+     * @param directory   the directory of the archive
+     * @param segmentSize the maximum size of a segment file in bytes; only applies to new
+     *                    segments
+     * @throws IOException if the archive cannot be opened
+     */
+    public BlockArchive(File directory, int segmentSize) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("The segment size must be positive.");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create the archive directory " + directory + ".");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexChannel = FileChannel.open(new File(directory, INDEX_FILE).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            closeChannels();
+            throw e;
+        }
+    }
+
+    private void load() throws IOException {
+        if (indexChannel.size() < HEADER_SIZE) {
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(indexChannel, header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a block archive: " + directory);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported block archive version " + version + ".");
+        }
+        firstIndex = header.getLong();
+
+        long entries = (indexChannel.size() - HEADER_SIZE) / ENTRY_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(entries, 1 << 16) * ENTRY_SIZE);
+        long position = HEADER_SIZE;
+        long segmentLength = 0;
+        while (count < entries) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (entries - count) * ENTRY_SIZE));
+            readFully(indexChannel, buffer, position);
+            position += buffer.limit();
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                int segment = buffer.getInt();
+                int offset = buffer.getInt();
+                int length = buffer.getInt();
+                if (segment == segments.size() && segmentFile(segment).exists()) {
+                    segments.add(openSegment(segment));
+                    mappings.add(null);
+                    segmentLength = segments.get(segment).size();
+                }
+                if (segment != segments.size() - 1 || offset < 0 || length < 0
+                        || (long) offset + length > segmentLength) {
+                    LOG.warn("Discarding {} incomplete entries of the block archive {}.",
+                            entries - count, directory);
+                    entries = count;
+                    break;
+                }
+                addEntry(segment, offset, length);
+            }
+        }
+        indexChannel.truncate(HEADER_SIZE + (long) count * ENTRY_SIZE);
+        truncateUnindexedData();
+    }
+
+    private void truncateUnindexedData() throws IOException {
+        int lastSegment = count > 0 ? entrySegments[count - 1] : -1;
+        while (segments.size() > lastSegment + 1) {
+            segments.remove(segments.size() - 1).close();
+            mappings.remove(mappings.size() - 1);
+        }
+        if (lastSegment >= 0) {
+            segments.get(lastSegment).truncate(
+                    (long) entryOffsets[count - 1] + entryLengths[count - 1]);
+        }
+        for (int segment = lastSegment + 1; segmentFile(segment).exists(); segment++) {
+            if (!segmentFile(segment).delete()) {
+                throw new IOException("Failed to delete " + segmentFile(segment) + ".");
+            }
+        }
+    }
+
+    /**
+     * Appends a block. Blocks must be appended in index order without gaps.
+     *
+     * @param index    the index of the block
+     * @param rawBlock the serialized block
+     * @throws IOException if the block cannot be written
+     */
+    public synchronized void append(long index, byte[] rawBlock) throws IOException {
+        if (count > 0 && index != getNextIndex()) {
+            throw new IllegalArgumentException("Expected block " + getNextIndex()
+                    + " but got block " + index + ".");
+        }
+        if (rawBlock.length > segmentSize) {
+            throw new IllegalArgumentException("The block is larger than the segment size.");
+        }
+        if (count == 0) {
+            writeHeader(index);
+        }
+        int segment = segments.size() - 1;
+        long offset = segment < 0 ? 0 : segments.get(segment).size();
+        if (segment < 0 || offset + rawBlock.length > segmentSize) {
+            segment++;
+            offset = 0;
+            segments.add(openSegment(segment));
+            mappings.add(null);
+        }
+        writeFully(segments.get(segment), ByteBuffer.wrap(rawBlock), offset);
+
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+        entry.putInt(segment).putInt((int) offset).putInt(rawBlock.length).flip();
+        writeFully(indexChannel, entry, HEADER_SIZE + (long) count * ENTRY_SIZE);
+        addEntry(segment, (int) offset, rawBlock.length);
+    }
+
+    /**
+     * Appends a block if it is the next block of the archive, or the archive is empty. Unlike
+     * checking {@link #getNextIndex()} before {@link #append(long, byte[])}, this is atomic, so
+     * concurrent writers of the same blocks do not fail.
+     *
+     * @param index    the index of the block
+     * @param rawBlock the serialized block
+     * @return true if the block was appended
+     * @throws IOException if the block cannot be written
+     */
+    public synchronized boolean appendIfNext(long index, byte[] rawBlock) throws IOException {
+        if (count > 0 && index != getNextIndex()) {
+            return false;
+        }
+        append(index, rawBlock);
+        return true;
+    }
+
+    private void writeHeader(long index) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(index).flip();
+        indexChannel.truncate(0);
+        writeFully(indexChannel, header, 0);
+        firstIndex = index;
+    }
+
+    private void addEntry(int segment, int offset, int length) {
+        if (count == entrySegments.length) {
+            int capacity = count * 2;
+            entrySegments = Arrays.copyOf(entrySegments, capacity);
+            entryOffsets = Arrays.copyOf(entryOffsets, capacity);
+            entryLengths = Arrays.copyOf(entryLengths, capacity);
+        }
+        entrySegments[count] = segment;
+        entryOffsets[count] = offset;
+        entryLengths[count] = length;
+        count++;
+    }
+
+    /**
+     * Returns a block as a read-only buffer backed by the memory-mapped segment.
+     *
+     * @param index the index of the block
+     * @return the serialized block
+     * @throws IOException if the segment cannot be mapped
+     * @throws NoSuchElementException if the block is not archived
+     */
+    public ByteBuffer read(long index) throws IOException {
+        int segment;
+        int offset;
+        int length;
+        MappedByteBuffer mapping;
+        synchronized (this) {
+            if (!contains(index)) {
+                throw new NoSuchElementException("Block " + index + " is not archived.");
+            }
+            int entry = (int) (index - firstIndex);
+            segment = entrySegments[entry];
+            offset = entryOffsets[entry];
+            length = entryLengths[entry];
+            mapping = mappings.get(segment);
+            if (mapping == null || mapping.capacity() < offset + length) {
+                FileChannel channel = segments.get(segment);
+                long size = channel.size();
+                boolean written = segment < segments.size() - 1;
+                if (!written && mapping != null && size < 2L * mapping.capacity()) {
+                    ByteBuffer block = ByteBuffer.allocate(length);
+                    readFully(channel, block, offset);
+                    block.flip();
+                    return block.asReadOnlyBuffer();
+                }
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mappings.set(segment, mapping);
+                mapCount++;
+            }
+        }
+        ByteBuffer block = mapping.duplicate();
+        block.position(offset).limit(offset + length);
+        return block.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Emits the archived blocks of a range as read-only buffers.
+     *
+     * @param startIndex the first block to emit
+     * @param endIndex   the last block to emit
+     * @param ascending  the direction to iterate through the range
+     * @return Observable to emit the serialized blocks
+     */
+    public Observable<ByteBuffer> replay(long startIndex, long endIndex, boolean ascending) {
+        if (!contains(startIndex) || !contains(endIndex)) {
+            return Observable.error(new NoSuchElementException(
+                    "Blocks " + startIndex + " to " + endIndex + " are not all archived."));
+        }
+        return Observables.range(startIndex, endIndex, ascending, index -> {
+            try {
+                return read(index);
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        });
+    }
+
+    public synchronized boolean contains(long index) {
+        return count > 0 && index >= firstIndex && index < firstIndex + count;
+    }
+
+    /**
+     * @return the index of the first archived block, or -1 if the archive is empty.
+     */
+    public synchronized long getFirstIndex() {
+        return count > 0 ? firstIndex : -1;
+    }
+
+    /**
+     * @return the index of the next block to append, or -1 if the archive is empty.
+     */
+    public synchronized long getNextIndex() {
+        return count > 0 ? firstIndex + count : -1;
+    }
+
+    public synchronized int getBlockCount() {
+        return count;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    synchronized int getMapCount() {
+        return mapCount;
+    }
+
+    /**
+     * Forces the appended blocks to the storage device, data before index.
+     *
+     * @throws IOException if flushing fails
+     */
+    public synchronized void flush() throws IOException {
+        if (!segments.isEmpty()) {
+            segments.get(segments.size() - 1).force(false);
+        }
+        indexChannel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            closeChannels();
+        }
+    }
+
+    private void closeChannels() throws IOException {
+        for (FileChannel segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        mappings.clear();
+        indexChannel.close();
+    }
+
+    private FileChannel openSegment(int segment) throws IOException {
+        return FileChannel.open(segmentFile(segment).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    File segmentFile(int segment) {
+        return new File(directory, String.format(Locale.ROOT, "blocks-%05d.seg", segment));
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of the block archive.");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
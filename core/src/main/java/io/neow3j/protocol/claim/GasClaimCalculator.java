@@ -0,0 +1,150 @@
+package io.neow3j.protocol.claim;
+
+import io.neow3j.crypto.Claim;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.core.methods.response.NeoGetClaimable;
+import io.neow3j.protocol.utxo.Utxo;
+import io.neow3j.utils.Numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Calculates the GAS generated by NEO locally, without the claim plugins of the node.
+ *
+ * <p>NEO held from a start height up to an end height (exclusive) generates its share of the
+ * GAS created by the blocks in between, according to the generation schedule, plus its share of
+ * the system fees paid in those blocks. For spent outputs, the start height is the block of the
+ * transaction that created the output and the end height is the block of the transaction that
+ * spent it; that GAS can be claimed. Unspent outputs generate GAS up to the current block, which
+ * only becomes claimable once they are spent.</p>
+ *
+ * <p>The generated GAS is a prefix sum over the schedule and the system fees come from a
+ * {@link SysFeeTable}, so every output is calculated in constant time.</p>
+ */
+public class GasClaimCalculator {
+
+    /**
+     * The GAS created per block, by interval of {@link #DECREMENT_INTERVAL} blocks. No GAS is
+     * created after the last interval.
+     */
+    public static final int[] GENERATION_AMOUNTS =
+            {8, 7, 6, 5, 4, 3, 2, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+
+    public static final long DECREMENT_INTERVAL = 2_000_000;
+
+    // one NEO is 1 / 100,000,000 of the total supply
+    private static final int FIXED8_SCALE = 8;
+
+    // the GAS created by all intervals before the index
+    private static final long[] GENERATED_BEFORE_INTERVAL;
+
+    static {
+        GENERATED_BEFORE_INTERVAL = new long[GENERATION_AMOUNTS.length + 1];
+        for (int i = 0; i < GENERATION_AMOUNTS.length; i++) {
+            GENERATED_BEFORE_INTERVAL[i + 1] = GENERATED_BEFORE_INTERVAL[i]
+                    + GENERATION_AMOUNTS[i] * DECREMENT_INTERVAL;
+        }
+    }
+
+    private final SysFeeTable sysFees;
+
+    /**
+     * @param sysFees the system fees, which must contain the end heights of the calculations
+     */
+    public GasClaimCalculator(SysFeeTable sysFees) {
+        this.sysFees = sysFees;
+    }
+
+    /**
+     * Calculates the GAS generated by NEO held from the start height up to the end height.
+     *
+     * @param neoValue    the amount of NEO
+     * @param startHeight the block in which the NEO was received
+     * @param endHeight   the block in which the NEO was spent, exclusive
+     * @return the generated GAS
+     * @throws IllegalStateException if the system fees of the end height are not cached
+     */
+    public BigDecimal calculate(BigDecimal neoValue, long startHeight, long endHeight) {
+        if (startHeight < 0 || endHeight < startHeight) {
+            throw new IllegalArgumentException("Invalid height range " + startHeight + " to "
+                    + endHeight + ".");
+        }
+        long perNeo = generated(endHeight) - generated(startHeight)
+                + sysFees.get(endHeight - 1) - sysFees.get(startHeight - 1);
+        return BigDecimal.valueOf(
+                Math.multiplyExact(neoValue.longValueExact(), perNeo), FIXED8_SCALE);
+    }
+
+    /**
+     * Calculates the claimable GAS of a spent output.
+     *
+     * @param txId        the transaction that created the output
+     * @param index       the index of the output
+     * @param neoValue    the amount of NEO
+     * @param startHeight the block of the transaction that created the output
+     * @param endHeight   the block of the transaction that spent the output
+     * @return the claim, e.g. for {@link io.neow3j.crypto.transaction.ClaimTransaction#fromClaims}
+     */
+    public Claim calculateClaim(String txId, int index, BigInteger neoValue, int startHeight,
+            int endHeight) {
+        return new Claim(calculate(new BigDecimal(neoValue), startHeight, endHeight), txId,
+                index, neoValue, startHeight, endHeight);
+    }
+
+    /**
+     * Recalculates the claimable GAS of a claim reported by <code>getclaimable</code>.
+     *
+     * @param claim the claim of the node
+     * @return the claim with the locally calculated GAS
+     */
+    public Claim calculateClaim(NeoGetClaimable.Claim claim) {
+        return calculateClaim(claim.getTxId(), claim.getIndex(), claim.getNeoValue(),
+                claim.getStartHeight().intValueExact(), claim.getEndHeight().intValueExact());
+    }
+
+    /**
+     * Calculates the GAS generated by unspent NEO outputs up to the given height. The GAS
+     * becomes claimable once the outputs are spent. Outputs of other assets are ignored.
+     *
+     * @param unspents  the unspent outputs with their heights, e.g. of a
+     *                  {@link io.neow3j.protocol.utxo.UtxoIndex}
+     * @param endHeight the height up to which GAS is generated, exclusive, usually the current
+     *                  height plus one
+     * @return the generated GAS
+     */
+    public BigDecimal calculateUnavailable(Collection<Utxo> unspents, long endHeight) {
+        BigDecimal total = BigDecimal.valueOf(0, FIXED8_SCALE);
+        for (Utxo utxo : unspents) {
+            if (isNeo(utxo.getAssetId())) {
+                if (utxo.getHeight() < 0) {
+                    throw new IllegalArgumentException("The height of output " + utxo.getTxId()
+                            + ":" + utxo.getIndex() + " is unknown.");
+                }
+                total = total.add(calculate(utxo.getValue(), utxo.getHeight(), endHeight));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @param height the block height
+     * @return the GAS created by the blocks before the height in whole GAS, which is also the
+     *         share of one NEO in fixed8
+     */
+    static long generated(long height) {
+        long interval = height / DECREMENT_INTERVAL;
+        if (interval >= GENERATION_AMOUNTS.length) {
+            return GENERATED_BEFORE_INTERVAL[GENERATION_AMOUNTS.length];
+        }
+        return GENERATED_BEFORE_INTERVAL[(int) interval]
+                + (height % DECREMENT_INTERVAL) * GENERATION_AMOUNTS[(int) interval];
+    }
+
+    private static boolean isNeo(String assetId) {
+        return Numeric.cleanHexPrefix(assetId).toLowerCase(Locale.ROOT)
+                .equals(Numeric.cleanHexPrefix(NEOAsset.HASH_ID));
+    }
+}
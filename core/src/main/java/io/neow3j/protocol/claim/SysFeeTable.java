@@ -0,0 +1,214 @@
+package io.neow3j.protocol.claim;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.rx.Fetches;
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Local cache of the cumulative system fees of the blocks, as returned by
+ * <code>getblocksysfee</code>: the entry of a height is the sum of the system fees of all blocks
+ * up to and including it, in whole GAS. The system fees of a range of blocks are the difference
+ * of two entries.
+ *
+ * <p>The entries are kept in a single long array without gaps, starting at the genesis block.
+ * They are added from the node with {@link #sync(Neow3j, long)} or from verbose blocks with
+ * {@link #addBlock(NeoBlock)}, and can be written to and read from a file.</p>
+ *
+ * <p>Entries can be read, e.g. by a {@link GasClaimCalculator}, while a sync adds new
+ * ones.</p>
+ */
+public class SysFeeTable {
+
+    private static final int MAGIC = 0x4E335346;
+    private static final int VERSION = 1;
+
+    private long[] fees = new long[1024];
+    private int size;
+
+    /**
+     * Fetches the missing entries up to the given height from the node, with up to
+     * {@value Fetches#DEFAULT_CONCURRENCY} requests in flight on the I/O scheduler.
+     *
+     * @param neow3j   the node
+     * @param toHeight the last height to fetch
+     * @return Observable to emit every added height
+     */
+    public Observable<Long> sync(Neow3j neow3j, long toHeight) {
+        return sync(neow3j, toHeight, Fetches.DEFAULT_CONCURRENCY, Schedulers.io());
+    }
+
+    /**
+     * Fetches the missing entries up to the given height from the node. The entries are
+     * fetched concurrently and added in order.
+     *
+     * @param neow3j      the node
+     * @param toHeight    the last height to fetch
+     * @param concurrency the maximum number of requests in flight
+     * @param scheduler   the scheduler to send the requests on
+     * @return Observable to emit every added height
+     */
+    public Observable<Long> sync(Neow3j neow3j, long toHeight, int concurrency,
+            Scheduler scheduler) {
+        Observable.Transformer<Integer, Long> fetch = Fetches.inOrder(
+                height -> Fetches.fetch(neow3j.getBlockSysFee(new BlockParameterIndex(height)),
+                        "the system fee of block " + height, scheduler)
+                        .map(response -> Long.parseLong(response.getFee())), concurrency);
+        return Observable.defer(() -> {
+            int from = size();
+            if (toHeight < from) {
+                return Observable.empty();
+            }
+            return Observable.range(from, Math.toIntExact(toHeight - from + 1))
+                    .compose(fetch)
+                    .map(new Adder(from)::add);
+        });
+    }
+
+    /**
+     * Adds the entry of the next block from its transactions.
+     *
+     * @param block the next block, with full transaction objects
+     * @throws IllegalStateException if the block is not the next one
+     */
+    public synchronized void addBlock(NeoBlock block) {
+        if (block.getTransactions() == null) {
+            throw new IllegalArgumentException("The block does not contain transactions.");
+        }
+        BigDecimal fee = BigDecimal.ZERO;
+        for (Transaction tx : block.getTransactions()) {
+            if (tx.getSysFee() != null) {
+                fee = fee.add(new BigDecimal(tx.getSysFee()));
+            }
+        }
+        // like the node, whole GAS per block
+        long previous = size == 0 ? 0 : fees[size - 1];
+        add(block.getIndex(), previous + fee.longValue());
+    }
+
+    /**
+     * Adds the entry of the next height.
+     *
+     * @param height         the height, which must be the next one
+     * @param cumulativeFees the system fees up to and including the height, in whole GAS
+     * @throws IllegalStateException if the height is not the next one
+     */
+    public synchronized void add(long height, long cumulativeFees) {
+        if (height != size) {
+            throw new IllegalStateException("Expected the system fees of block " + size
+                    + " but got block " + height + ".");
+        }
+        if (size == fees.length) {
+            fees = Arrays.copyOf(fees, size * 2);
+        }
+        fees[size++] = cumulativeFees;
+    }
+
+    /**
+     * @param height the block height
+     * @return the system fees up to and including the height in whole GAS, or 0 for height -1
+     * @throws IllegalStateException if the height is not cached
+     */
+    public synchronized long get(long height) {
+        if (height == -1) {
+            return 0;
+        }
+        if (height < 0 || height >= size) {
+            throw new IllegalStateException("The system fees of block " + height
+                    + " are not cached.");
+        }
+        return fees[(int) height];
+    }
+
+    /**
+     * @return the number of cached heights.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the last cached height, or -1 if the table is empty.
+     */
+    public synchronized long getHeight() {
+        return size - 1;
+    }
+
+    /**
+     * Writes the table to a file.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public synchronized void writeSnapshot(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(fees[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a table from a snapshot file.
+     *
+     * @param file the snapshot
+     * @return the table
+     * @throws IOException if reading fails or the file is not a snapshot
+     */
+    public static SysFeeTable readSnapshot(File file) throws IOException {
+        SysFeeTable table = new SysFeeTable();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a system fee snapshot: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported system fee snapshot version " + version + ".");
+            }
+            int size = in.readInt();
+            table.fees = new long[Math.max(size, 1024)];
+            for (int i = 0; i < size; i++) {
+                table.fees[i] = in.readLong();
+            }
+            table.size = size;
+        }
+        return table;
+    }
+
+    /**
+     * Adds the fetched entries, which arrive in order starting at a height.
+     */
+    private class Adder {
+
+        private long height;
+
+        private Adder(long height) {
+            this.height = height;
+        }
+
+        private long add(long cumulativeFees) {
+            SysFeeTable.this.add(height, cumulativeFees);
+            return height++;
+        }
+    }
+}
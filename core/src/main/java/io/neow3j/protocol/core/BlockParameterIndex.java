@@ -10,14 +10,18 @@ import java.math.BigInteger;
  */
 public class BlockParameterIndex implements BlockParameter {
 
-    private BigInteger blockIndex;
+    private final long blockIndex;
 
+    /**
+     * @param blockIndex the block index
+     * @throws ArithmeticException if the index does not fit in a long
+     */
     public BlockParameterIndex(BigInteger blockIndex) {
-        this.blockIndex = blockIndex;
+        this(blockIndex.longValueExact());
     }
 
     public BlockParameterIndex(long blockIndex) {
-        this(BigInteger.valueOf(blockIndex));
+        this.blockIndex = blockIndex;
     }
 
     @Override
@@ -27,6 +31,10 @@ public class BlockParameterIndex implements BlockParameter {
     }
 
     public BigInteger getBlockIndex() {
+        return BigInteger.valueOf(blockIndex);
+    }
+
+    public long getIndex() {
         return blockIndex;
     }
 }
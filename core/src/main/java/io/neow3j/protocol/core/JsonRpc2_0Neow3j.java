@@ -3,6 +3,7 @@ package io.neow3j.protocol.core;
 import io.neow3j.model.types.ContractParameter;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.archive.BlockArchive;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoBlockHash;
 import io.neow3j.protocol.core.methods.response.NeoConnectionCount;
@@ -37,12 +38,16 @@ import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.protocol.core.methods.response.NeoSendToAddress;
 import io.neow3j.protocol.core.methods.response.NeoSubmitBlock;
 import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
+import io.neow3j.protocol.core.methods.response.Transaction;
 import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.core.polling.AdaptiveBlockPolling;
+import io.neow3j.protocol.rx.BlockEvent;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
 import io.neow3j.utils.Async;
 import rx.Observable;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -114,7 +119,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
         if (returnFullTransactionObjects) {
             return new Request<>(
                     "getblock",
-                    Arrays.asList(blockIndex.getBlockIndex(), 1),
+                    Arrays.asList(blockIndex.getIndex(), 1),
                     neow3jService,
                     NeoGetBlock.class);
         } else {
@@ -126,7 +131,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     public Request<?, NeoGetRawBlock> getRawBlock(BlockParameterIndex blockIndex) {
         return new Request<>(
                 "getblock",
-                Arrays.asList(blockIndex.getBlockIndex(), 0),
+                Arrays.asList(blockIndex.getIndex(), 0),
                 neow3jService,
                 NeoGetRawBlock.class);
     }
@@ -153,7 +158,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     public Request<?, NeoBlockHash> getBlockHash(BlockParameterIndex blockIndex) {
         return new Request<>(
                 "getblockhash",
-                Arrays.asList(blockIndex.getBlockIndex()),
+                Arrays.asList(blockIndex.getIndex()),
                 neow3jService,
                 NeoBlockHash.class);
     }
@@ -171,7 +176,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     public Request<?, NeoGetBlock> getBlockHeader(BlockParameterIndex blockIndex) {
         return new Request<>(
                 "getblockheader",
-                Arrays.asList(blockIndex.getBlockIndex(), 1),
+                Arrays.asList(blockIndex.getIndex(), 1),
                 neow3jService,
                 NeoGetBlock.class);
     }
@@ -189,7 +194,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     public Request<?, NeoGetRawBlock> getRawBlockHeader(BlockParameterIndex blockIndex) {
         return new Request<>(
                 "getblockheader",
-                Arrays.asList(blockIndex.getBlockIndex(), 0),
+                Arrays.asList(blockIndex.getIndex(), 0),
                 neow3jService,
                 NeoGetRawBlock.class);
     }
@@ -279,7 +284,7 @@ public class JsonRpc2_0Neow3j implements Neow3j {
     public Request<?, NeoGetBlockSysFee> getBlockSysFee(BlockParameterIndex blockIndex) {
         return new Request<>(
                 "getblocksysfee",
-                Arrays.asList(blockIndex.getBlockIndex()),
+                Arrays.asList(blockIndex.getIndex()),
                 neow3jService,
                 NeoGetBlockSysFee.class);
     }
@@ -487,6 +492,20 @@ public class JsonRpc2_0Neow3j implements Neow3j {
         return neow3jRx.blockObservable(fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Observable<NeoGetBlock> adaptiveBlockObservable(boolean fullTransactionObjects) {
+        return neow3jRx.adaptiveBlockObservable(fullTransactionObjects,
+                AdaptiveBlockPolling.DEFAULT_MIN_POLLING_INTERVAL,
+                Math.max(blockTime, AdaptiveBlockPolling.DEFAULT_MIN_POLLING_INTERVAL));
+    }
+
+    @Override
+    public Observable<BlockEvent> reorgAwareBlockObservable(boolean fullTransactionObjects,
+            int confirmations) {
+        return neow3jRx.reorgAwareBlockObservable(fullTransactionObjects, confirmations,
+                blockTime);
+    }
+
     @Override
     public Observable<NeoGetBlock> replayBlocksObservable(
             BlockParameter startBlock, BlockParameter endBlock,
@@ -502,6 +521,12 @@ public class JsonRpc2_0Neow3j implements Neow3j {
                 fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Observable<ByteBuffer> replayRawBlocksObservable(
+            BlockArchive archive, BlockParameter startBlock, BlockParameter endBlock) {
+        return neow3jRx.replayRawBlocksObservable(archive, startBlock, endBlock);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects,
@@ -516,6 +541,12 @@ public class JsonRpc2_0Neow3j implements Neow3j {
         return neow3jRx.catchUpToLatestBlockObservable(startBlock, fullTransactionObjects);
     }
 
+    @Override
+    public Observable<Transaction> catchUpToLatestTransactionObservable(
+            BlockParameter startBlock) {
+        return neow3jRx.catchUpToLatestTransactionObservable(startBlock);
+    }
+
     @Override
     public Observable<NeoGetBlock> catchUpToLatestAndSubscribeToNewBlocksObservable(
             BlockParameter startBlock, boolean fullTransactionObjects) {
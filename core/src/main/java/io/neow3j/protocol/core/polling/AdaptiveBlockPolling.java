@@ -0,0 +1,247 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Block poller that adapts its polling rate to the block production of the chain.
+ *
+ * <p>{@link BlockPolling} asks for the block count at a fixed rate, so a new block is seen half
+ * an interval late on average. This poller estimates when the next block arrives and sends one
+ * poll shortly after that moment. While it is in phase with the chain that single poll sees the
+ * block, so it needs about one request per block, like a fixed poller at the block interval, but
+ * sees new blocks within <code>minPollingInterval</code>.</p>
+ *
+ * <p>The block interval is the average over the timestamps of the last
+ * {@value #INTERVAL_BLOCKS} blocks, fetched with two block headers at the start and again every
+ * {@value #REFRESH_BLOCKS} blocks. The arrival times are learned from the polls themselves: a
+ * block that shows up right after a poll that did not see it arrived in between. Until the
+ * arrival is known to within <code>minPollingInterval</code>, the polls around the expected
+ * arrival narrow it down block by block, and every {@value #RESYNC_BLOCKS} blocks one poll is
+ * sent slightly early to measure it again. A late block is polled for with an exponential
+ * backoff from <code>minPollingInterval</code> to <code>maxPollingInterval</code>, which is also
+ * used until the interval is known and after errors.</p>
+ */
+public class AdaptiveBlockPolling {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBlockPolling.class);
+
+    public static final long DEFAULT_MIN_POLLING_INTERVAL = 500;
+
+    static final int INTERVAL_BLOCKS = 100;
+    static final int REFRESH_BLOCKS = 1000;
+    static final int RESYNC_BLOCKS = 16;
+
+    private final Neow3j neow3j;
+    private final Callback<BigInteger> callback;
+    private final long minPollingInterval;
+    private final long maxPollingInterval;
+    private final LongSupplier clock;
+
+    private long interval = -1;
+    private long intervalBlock = -1;
+
+    private long currentBlock = -1;
+    private long lastPollTime = -1;
+    // the measured or extrapolated arrival time of the current block, -1 if unknown
+    private long arrival = -1;
+    // half the time window in which the arrival was last measured
+    private long uncertainty;
+    private int extrapolatedBlocks;
+    // the time of the first poll for the next block
+    private long target;
+    private boolean missed;
+    private long backoff;
+
+    private volatile ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> schedule;
+    private volatile boolean cancelled;
+
+    /**
+     * @param neow3j             the client
+     * @param callback           receives the index of every new block
+     * @param minPollingInterval the shortest polling interval in milliseconds, used while a
+     *                           block is due
+     * @param maxPollingInterval the polling interval in milliseconds when nothing is known
+     *                           about the next block
+     */
+    public AdaptiveBlockPolling(Neow3j neow3j, Callback<BigInteger> callback,
+                                long minPollingInterval, long maxPollingInterval) {
+        this(neow3j, callback, minPollingInterval, maxPollingInterval,
+                System::currentTimeMillis);
+    }
+
+    AdaptiveBlockPolling(Neow3j neow3j, Callback<BigInteger> callback,
+                         long minPollingInterval, long maxPollingInterval, LongSupplier clock) {
+        if (minPollingInterval <= 0 || maxPollingInterval < minPollingInterval) {
+            throw new IllegalArgumentException("Invalid polling intervals.");
+        }
+        this.neow3j = neow3j;
+        this.callback = callback;
+        this.minPollingInterval = minPollingInterval;
+        this.maxPollingInterval = maxPollingInterval;
+        this.clock = clock;
+        this.backoff = minPollingInterval;
+    }
+
+    public synchronized BigInteger getCurrentBlock() {
+        return currentBlock < 0 ? null : BigInteger.valueOf(currentBlock);
+    }
+
+    /**
+     * @return the learned block interval in milliseconds, or -1 if it is not known yet.
+     */
+    public synchronized long getEstimatedBlockInterval() {
+        return interval;
+    }
+
+    public void run(ScheduledExecutorService scheduledExecutorService) {
+        this.executor = scheduledExecutorService;
+        scheduleNext(0);
+    }
+
+    public void cancel() {
+        cancelled = true;
+        ScheduledFuture<?> s = schedule;
+        if (s != null) {
+            s.cancel(false);
+        }
+    }
+
+    private void scheduleNext(long delay) {
+        if (!cancelled) {
+            schedule = executor.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void tick() {
+        long delay;
+        try {
+            delay = poll();
+        } catch (Throwable e) {
+            LOG.error("Error on polling: {}", e);
+            synchronized (this) {
+                arrival = -1;
+            }
+            delay = maxPollingInterval;
+        }
+        scheduleNext(delay);
+    }
+
+    /**
+     * Polls the block count once, emits new blocks and returns the delay until the next poll.
+     *
+     * @return the delay in milliseconds
+     * @throws IOException if a request fails
+     */
+    long poll() throws IOException {
+        long now = clock.getAsLong();
+        long latest = neow3j.getBlockCount().send().getBlockIndex().longValue() - 1;
+        long learned = isIntervalDue(latest) ? learnInterval(latest) : -1;
+        long previous;
+        long delay;
+        synchronized (this) {
+            if (isIntervalDue(latest)) {
+                intervalBlock = latest;
+                if (learned > 0) {
+                    interval = learned;
+                }
+            }
+            previous = currentBlock;
+            delay = update(now, latest);
+        }
+        if (previous >= 0) {
+            for (long blockIndex = previous + 1; blockIndex <= latest; blockIndex++) {
+                callback.onEvent(BigInteger.valueOf(blockIndex));
+            }
+        }
+        return delay;
+    }
+
+    private synchronized boolean isIntervalDue(long latest) {
+        return latest > 0 && (intervalBlock < 0 || latest - intervalBlock >= REFRESH_BLOCKS);
+    }
+
+    private long learnInterval(long latest) throws IOException {
+        long first = Math.max(0, latest - INTERVAL_BLOCKS);
+        NeoBlock from = neow3j.getBlockHeader(new BlockParameterIndex(first)).send().getBlock();
+        NeoBlock to = neow3j.getBlockHeader(new BlockParameterIndex(latest)).send().getBlock();
+        if (from == null || to == null || to.getTime() <= from.getTime()) {
+            return -1;
+        }
+        return TimeUnit.SECONDS.toMillis(to.getTime() - from.getTime()) / (latest - first);
+    }
+
+    private long update(long now, long latest) {
+        long previousPoll = lastPollTime;
+        lastPollTime = now;
+        if (currentBlock < 0) {
+            currentBlock = latest;
+            return maxPollingInterval;
+        }
+        if (latest <= currentBlock) {
+            return delayWhileWaiting(now);
+        }
+        long newBlocks = latest - currentBlock;
+        currentBlock = latest;
+        if (interval < 0) {
+            return maxPollingInterval;
+        }
+        if (!missed && arrival >= 0 && uncertainty <= minPollingInterval / 2
+                && now >= arrival + newBlocks * interval) {
+            // seen by the first poll after its expected arrival, so it arrived on schedule
+            arrival += newBlocks * interval;
+            extrapolatedBlocks++;
+        } else {
+            // the block arrived between the previous poll and now
+            arrival = now - (now - previousPoll) / 2;
+            uncertainty = (now - previousPoll) / 2;
+            extrapolatedBlocks = 0;
+        }
+        missed = false;
+        backoff = clamp(uncertainty);
+
+        long next = arrival + interval;
+        if (uncertainty > minPollingInterval / 2) {
+            // narrow down the arrival, starting at the earliest possible time
+            target = next - uncertainty;
+        } else if (extrapolatedBlocks >= RESYNC_BLOCKS) {
+            // poll once before the block to measure its arrival again
+            target = next - minPollingInterval;
+        } else {
+            target = next + uncertainty;
+        }
+        return clamp(target - now);
+    }
+
+    private long delayWhileWaiting(long now) {
+        if (arrival < 0 || interval < 0) {
+            return maxPollingInterval;
+        }
+        if (now < target) {
+            // the target was further away than the maximum polling interval
+            return clamp(target - now);
+        }
+        missed = true;
+        long delay = backoff;
+        if (now >= arrival + interval + uncertainty) {
+            // the block is late, back off
+            backoff = Math.min(backoff * 2, maxPollingInterval);
+        }
+        return delay;
+    }
+
+    private long clamp(long delay) {
+        return Math.max(minPollingInterval, Math.min(delay, maxPollingInterval));
+    }
+}
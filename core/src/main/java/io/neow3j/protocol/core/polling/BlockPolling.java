@@ -1,5 +1,7 @@
 package io.neow3j.protocol.core.polling;
 
+import io.neow3j.jfr.EventScope;
+import io.neow3j.jfr.FlightRecorderEvents;
 import io.neow3j.protocol.Neow3j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,54 +12,82 @@ import java.math.BigInteger;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
 public class BlockPolling {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockPolling.class);
 
-    private BigInteger currentBlock;
+    private volatile long currentBlock = -1;
 
     private final Neow3j neow3j;
-    private final Callback<BigInteger> callback;
+    private final LongCallback callback;
 
     private ScheduledFuture<?> schedule;
 
     public BlockPolling(Neow3j neow3j, Callback<BigInteger> callback) {
+        this(neow3j, (LongCallback) blockIndex -> callback.onEvent(BigInteger.valueOf(blockIndex)));
+    }
+
+    private BlockPolling(Neow3j neow3j, LongCallback callback) {
         this.neow3j = neow3j;
         this.callback = callback;
     }
 
+    /**
+     * Creates a block polling that reports the new block indexes as primitive longs.
+     *
+     * @param neow3j   the client to poll
+     * @param callback the callback receiving the index of each new block
+     * @return the block polling
+     */
+    public static BlockPolling withLongCallback(Neow3j neow3j, LongCallback callback) {
+        return new BlockPolling(neow3j, callback);
+    }
+
     public BigInteger getCurrentBlock() {
+        long current = getCurrentBlockIndex();
+        return current < 0 ? null : BigInteger.valueOf(current);
+    }
+
+    /**
+     * @return the index of the last reported block, or -1 before the first poll.
+     */
+    public long getCurrentBlockIndex() {
         return currentBlock;
     }
 
     public synchronized void nextBlock() {
-        this.currentBlock = this.currentBlock.add(BigInteger.ONE);
+        this.currentBlock++;
     }
 
-    private BigInteger getLatestBlockIndex() throws IOException {
-        return neow3j.getBlockCount().send().getBlockIndex();
+    private long getLatestBlockIndex() throws IOException {
+        return neow3j.getBlockCount().send().getBlockIndex().longValue();
     }
 
     public void run(ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
         this.schedule = scheduledExecutorService.scheduleAtFixedRate(
                 () -> {
+                    EventScope event = FlightRecorderEvents.blockPollingTick();
                     try {
-                        BigInteger latestBlockNumber = getLatestBlockIndex().subtract(BigInteger.ONE);
-                        if (this.currentBlock == null) {
+                        long latestBlockNumber = getLatestBlockIndex() - 1;
+                        if (getCurrentBlockIndex() < 0) {
                             this.currentBlock = latestBlockNumber;
                         }
-                        if (latestBlockNumber.compareTo(getCurrentBlock()) == 1) {
-                            IntStream.rangeClosed(getCurrentBlock().add(BigInteger.ONE).intValue(), latestBlockNumber.intValue())
-                                    .forEachOrdered((blockIndex) -> {
-                                        callback.onEvent(BigInteger.valueOf(blockIndex));
-                                        nextBlock();
-                                    });
+                        event.setSize(latestBlockNumber);
+                        if (latestBlockNumber > getCurrentBlockIndex()) {
+                            event.setResultSize(latestBlockNumber - getCurrentBlockIndex());
+                            for (long blockIndex = getCurrentBlockIndex() + 1;
+                                    blockIndex <= latestBlockNumber; blockIndex++) {
+                                callback.onEvent(blockIndex);
+                                nextBlock();
+                            }
                         }
                     } catch (Throwable e) {
+                        event.setSuccessful(false);
                         LOG.error("Error on polling: {}", e);
                         Observable.error(e);
+                    } finally {
+                        event.close();
                     }
                 },
                 0, pollingInterval, TimeUnit.MILLISECONDS);
@@ -0,0 +1,8 @@
+package io.neow3j.protocol.core.polling;
+
+/**
+ * Callback interface for primitive long values, e.g. block indexes.
+ */
+public interface LongCallback {
+    void onEvent(long value);
+}
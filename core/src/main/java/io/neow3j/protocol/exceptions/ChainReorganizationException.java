@@ -0,0 +1,23 @@
+package io.neow3j.protocol.exceptions;
+
+/**
+ * Thrown when the node switched to a fork that diverges deeper than the tracked block history,
+ * so that the blocks to roll back are no longer known.
+ */
+public class ChainReorganizationException extends RuntimeException {
+
+    private final long oldestTrackedIndex;
+
+    public ChainReorganizationException(String message, long oldestTrackedIndex) {
+        super(message);
+        this.oldestTrackedIndex = oldestTrackedIndex;
+    }
+
+    /**
+     * @return the index of the oldest block that was still tracked, and did not match the node
+     */
+    public long getOldestTrackedIndex() {
+        return oldestTrackedIndex;
+    }
+
+}
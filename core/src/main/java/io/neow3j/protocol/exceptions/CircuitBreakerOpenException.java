@@ -0,0 +1,14 @@
+package io.neow3j.protocol.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request while the circuit breaker of an endpoint is open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+}
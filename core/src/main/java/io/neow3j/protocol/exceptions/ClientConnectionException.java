@@ -4,8 +4,28 @@ package io.neow3j.protocol.exceptions;
  * Client connection exception.
  */
 public class ClientConnectionException extends RuntimeException {
+
+    /**
+     * Status code used when the failure is not related to an HTTP response.
+     */
+    public static final int NO_STATUS_CODE = -1;
+
+    private final int statusCode;
+
     public ClientConnectionException(String message) {
+        this(message, NO_STATUS_CODE);
+    }
+
+    public ClientConnectionException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @return the HTTP status code received from the node, or {@link #NO_STATUS_CODE}
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
 
 }
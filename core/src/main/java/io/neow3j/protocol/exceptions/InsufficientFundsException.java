@@ -0,0 +1,38 @@
+package io.neow3j.protocol.exceptions;
+
+import java.math.BigDecimal;
+
+/**
+ * Thrown when the unspent outputs available for a transaction do not cover its outputs.
+ */
+public class InsufficientFundsException extends RuntimeException {
+
+    private final String assetId;
+    private final BigDecimal required;
+    private final BigDecimal available;
+
+    public InsufficientFundsException(String assetId, BigDecimal required, BigDecimal available) {
+        super("Insufficient funds of asset " + assetId + ": required " + required.toPlainString()
+                + " but only " + available.toPlainString() + " can be spent.");
+        this.assetId = assetId;
+        this.required = required;
+        this.available = available;
+    }
+
+    public String getAssetId() {
+        return assetId;
+    }
+
+    public BigDecimal getRequired() {
+        return required;
+    }
+
+    /**
+     * @return the amount that can be spent, taking reserved outputs and the input limit into
+     * account
+     */
+    public BigDecimal getAvailable() {
+        return available;
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.neow3j.protocol.exceptions;
+
+/**
+ * Thrown when the node rejects a transaction, or when a broadcast transaction is not included in
+ * a block after all rebroadcasts.
+ */
+public class TransactionBroadcastException extends RuntimeException {
+
+    private final String txId;
+
+    public TransactionBroadcastException(String message, String txId) {
+        super(message);
+        this.txId = txId;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+}
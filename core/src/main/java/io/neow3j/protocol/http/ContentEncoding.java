@@ -0,0 +1,29 @@
+package io.neow3j.protocol.http;
+
+/**
+ * HTTP content codings supported by the {@link HttpService}.
+ */
+public enum ContentEncoding {
+
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String value;
+
+    ContentEncoding(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ContentEncoding fromValue(String value) {
+        for (ContentEncoding encoding : values()) {
+            if (encoding.value.equalsIgnoreCase(value.trim())) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package io.neow3j.protocol.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder of the {@link OkHttpClient} used by an {@link HttpService}, exposing the settings that
+ * limit the throughput against a single node.
+ *
+ * <p>{@link HttpService} executes its calls synchronously on the calling thread, so the number
+ * of concurrent requests is only bounded by the callers; the limits of the OkHttp dispatcher
+ * apply to asynchronously enqueued calls only and are therefore not configured here. What
+ * matters for many parallel calls against one node is the connection pool: the OkHttp default
+ * keeps only 5 idle connections, so under higher concurrency connections are closed and opened
+ * again all the time. The defaults of this class keep enough connections alive instead, and
+ * HTTP/2 multiplexes all calls over one connection where the node supports it.
+ */
+public class HttpClientConfig {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 64;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    public static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+    private long connectTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private long readTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private long writeTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private boolean http2PriorKnowledge;
+
+    /**
+     * @param maxIdleConnections the number of idle connections kept open for reuse
+     * @param keepAlive          how long an idle connection is kept open
+     * @param unit               the unit of the keep-alive duration
+     * @return this configuration
+     */
+    public HttpClientConfig connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveMillis = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * @param connect the connect timeout
+     * @param read    the read timeout
+     * @param write   the write timeout
+     * @param unit    the unit of the timeouts, zero means no timeout
+     * @return this configuration
+     */
+    public HttpClientConfig timeouts(long connect, long read, long write, TimeUnit unit) {
+        this.connectTimeoutMillis = unit.toMillis(connect);
+        this.readTimeoutMillis = unit.toMillis(read);
+        this.writeTimeoutMillis = unit.toMillis(write);
+        return this;
+    }
+
+    /**
+     * Uses cleartext HTTP/2 without the HTTP/1.1 upgrade handshake (h2c prior knowledge), which
+     * multiplexes all calls over a single connection. Only use this for nodes known to speak
+     * HTTP/2 over plain text, e.g. local nodes behind a h2c capable proxy. Over TLS, HTTP/2 is
+     * negotiated automatically.
+     *
+     * @param http2PriorKnowledge true to enable h2c prior knowledge
+     * @return this configuration
+     */
+    public HttpClientConfig http2PriorKnowledge(boolean http2PriorKnowledge) {
+        this.http2PriorKnowledge = http2PriorKnowledge;
+        return this;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public boolean isHttp2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
+    /**
+     * @return a new builder with these settings applied
+     */
+    public OkHttpClient.Builder toBuilder() {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS))
+                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        if (http2PriorKnowledge) {
+            builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        } else {
+            builder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        }
+        return builder;
+    }
+}
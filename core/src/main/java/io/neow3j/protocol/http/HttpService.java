@@ -1,5 +1,6 @@
 package io.neow3j.protocol.http;
 
+import io.neow3j.protocol.CountingInputStream;
 import io.neow3j.protocol.Service;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
 import okhttp3.Headers;
@@ -14,10 +15,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * HTTP implementation of the Service API.
@@ -29,6 +43,12 @@ public class HttpService extends Service {
 
     public static final String DEFAULT_URL = "http://localhost:10333/";
 
+    public static final int NO_REQUEST_COMPRESSION = -1;
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
 
     private OkHttpClient httpClient;
@@ -39,6 +59,18 @@ public class HttpService extends Service {
 
     private HashMap<String, String> headers = new HashMap<>();
 
+    // null leaves content negotiation to OkHttp, which transparently requests gzip
+    private List<ContentEncoding> acceptedEncodings;
+
+    private ContentEncoding requestEncoding = ContentEncoding.GZIP;
+
+    private int requestCompressionThreshold = NO_REQUEST_COMPRESSION;
+
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong requestWireBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final AtomicLong responseWireBytes = new AtomicLong();
+
     public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
         super(includeRawResponses);
         this.url = url;
@@ -66,6 +98,14 @@ public class HttpService extends Service {
         this(DEFAULT_URL, httpClient);
     }
 
+    public HttpService(String url, HttpClientConfig config) {
+        this(url, config, false);
+    }
+
+    public HttpService(String url, HttpClientConfig config, boolean includeRawResponse) {
+        this(url, createOkHttpClient(config), includeRawResponse);
+    }
+
     public HttpService(boolean includeRawResponse) {
         this(DEFAULT_URL, includeRawResponse);
     }
@@ -80,6 +120,12 @@ public class HttpService extends Service {
         return builder.build();
     }
 
+    private static OkHttpClient createOkHttpClient(HttpClientConfig config) {
+        OkHttpClient.Builder builder = config.toBuilder();
+        configureLogging(builder);
+        return builder.build();
+    }
+
     private static void configureLogging(OkHttpClient.Builder builder) {
         if (log.isDebugEnabled()) {
             HttpLoggingInterceptor logging = new HttpLoggingInterceptor(log::debug);
@@ -91,8 +137,10 @@ public class HttpService extends Service {
     @Override
     protected InputStream performIO(String request) throws IOException {
 
-        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, request);
-        Headers headers = buildHeaders();
+        byte[] payload = request.getBytes(StandardCharsets.UTF_8);
+        boolean compressed = isRequestCompressed(payload);
+        RequestBody requestBody = buildRequestBody(payload, compressed);
+        Headers headers = buildHeaders(compressed);
 
         okhttp3.Request httpRequest = new okhttp3.Request.Builder()
                 .url(url)
@@ -104,7 +152,7 @@ public class HttpService extends Service {
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
             if (responseBody != null) {
-                return buildInputStream(responseBody);
+                return buildInputStream(responseBody, response.header(CONTENT_ENCODING));
             } else {
                 return null;
             }
@@ -112,12 +160,84 @@ public class HttpService extends Service {
             int code = response.code();
             String text = responseBody == null ? "N/A" : responseBody.string();
 
-            throw new ClientConnectionException("Invalid response received: " + code + "; " + text);
+            throw new ClientConnectionException(
+                    "Invalid response received: " + code + "; " + text, code);
+        }
+    }
+
+    private RequestBody buildRequestBody(byte[] payload, boolean compressed) throws IOException {
+        requestBytes.addAndGet(payload.length);
+        if (compressed) {
+            payload = encode(payload, requestEncoding);
+        }
+        requestWireBytes.addAndGet(payload.length);
+        return RequestBody.create(JSON_MEDIA_TYPE, payload);
+    }
+
+    private boolean isRequestCompressed(byte[] payload) {
+        return requestCompressionThreshold != NO_REQUEST_COMPRESSION
+                && payload.length >= requestCompressionThreshold;
+    }
+
+    private static byte[] encode(byte[] payload, ContentEncoding encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4 + 64);
+        try (DeflaterOutputStream compressing = encoding == ContentEncoding.GZIP
+                ? new GZIPOutputStream(out) : new DeflaterOutputStream(out)) {
+            compressing.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    private InputStream buildInputStream(ResponseBody responseBody, String contentEncoding)
+            throws IOException {
+        ContentEncoding encoding = null;
+        if (contentEncoding != null && acceptedEncodings != null
+                && !contentEncoding.equalsIgnoreCase("identity")) {
+            encoding = ContentEncoding.fromValue(contentEncoding);
+            if (encoding == null) {
+                responseBody.close();
+                throw new ClientConnectionException(
+                        "Unsupported response content encoding: " + contentEncoding);
+            }
+        }
+        if (encoding != null) {
+            InputStream wire = new CountingInputStream(responseBody.byteStream(), responseWireBytes);
+            InputStream decoded = new CountingInputStream(decode(wire, encoding), responseBytes);
+            if (includeRawResponse) {
+                // the raw response is read again after parsing, so it has to be buffered
+                return new ByteArrayInputStream(readFully(decoded));
+            }
+            return decoded;
+        }
+        return buildInputStream(responseBody);
+    }
+
+    private static InputStream decode(InputStream in, ContentEncoding encoding)
+            throws IOException {
+        if (encoding == ContentEncoding.GZIP) {
+            return new GZIPInputStream(in);
+        }
+        return new InflaterInputStream(in);
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
         }
     }
 
     private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        InputStream inputStream = responseBody.byteStream();
+        InputStream inputStream = new CountingInputStream(responseBody.byteStream(), responseBytes);
+        if (acceptedEncodings != null) {
+            // no transparent decompression, what we read is what went over the wire
+            inputStream = new CountingInputStream(inputStream, responseWireBytes);
+        }
 
         if (includeRawResponse) {
             // we have to buffer the entire input payload, so that after processing
@@ -145,8 +265,19 @@ public class HttpService extends Service {
         }
     }
 
-    private Headers buildHeaders() {
-        return Headers.of(headers);
+    private Headers buildHeaders(boolean compressed) {
+        Headers.Builder builder = Headers.of(headers).newBuilder();
+        if (acceptedEncodings != null) {
+            builder.set(ACCEPT_ENCODING, acceptedEncodings.isEmpty()
+                    ? "identity"
+                    : acceptedEncodings.stream()
+                    .map(ContentEncoding::getValue)
+                    .collect(Collectors.joining(", ")));
+        }
+        if (compressed) {
+            builder.set(CONTENT_ENCODING, requestEncoding.getValue());
+        }
+        return builder.build();
     }
 
     public void addHeader(String key, String value) {
@@ -161,6 +292,78 @@ public class HttpService extends Service {
         return headers;
     }
 
+    /**
+     * Sets the content codings advertised in the <code>Accept-Encoding</code> header. Compressed
+     * responses are decompressed while they are parsed and the wire and decoded sizes are
+     * counted separately. An empty list requests uncompressed responses.
+     *
+     * <p>By default the negotiation is left to OkHttp, which asks for gzip and decompresses the
+     * response before this service sees it. In that case wire sizes are not available.
+     *
+     * @param encodings the accepted encodings in order of preference
+     */
+    public void setAcceptedEncodings(ContentEncoding... encodings) {
+        this.acceptedEncodings = Collections.unmodifiableList(
+                new ArrayList<>(Arrays.asList(encodings)));
+    }
+
+    public List<ContentEncoding> getAcceptedEncodings() {
+        return acceptedEncodings;
+    }
+
+    /**
+     * Enables compression of request bodies, e.g. for large <code>sendrawtransaction</code> or
+     * <code>invokescript</code> payloads. Only enable this if the node accepts compressed
+     * requests.
+     *
+     * @param encoding  the encoding to compress with
+     * @param threshold the minimum payload size in bytes to compress, or
+     *                  {@link #NO_REQUEST_COMPRESSION} to disable compression
+     */
+    public void setRequestCompression(ContentEncoding encoding, int threshold) {
+        this.requestEncoding = encoding;
+        this.requestCompressionThreshold = threshold;
+    }
+
+    /**
+     * @return a snapshot of the connection pool and the calls in flight of the HTTP client
+     */
+    public PoolStatistics getPoolStatistics() {
+        return new PoolStatistics(
+                httpClient.connectionPool().connectionCount(),
+                httpClient.connectionPool().idleConnectionCount(),
+                httpClient.dispatcher().runningCallsCount());
+    }
+
+    /**
+     * @return the number of request payload bytes before compression
+     */
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * @return the number of request payload bytes sent over the wire
+     */
+    public long getRequestWireBytes() {
+        return requestWireBytes.get();
+    }
+
+    /**
+     * @return the number of decoded response bytes read
+     */
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    /**
+     * @return the number of response bytes received over the wire, only counted when the
+     * accepted encodings are set explicitly
+     */
+    public long getResponseWireBytes() {
+        return responseWireBytes.get();
+    }
+
     @Override
     public void close() throws IOException {
 
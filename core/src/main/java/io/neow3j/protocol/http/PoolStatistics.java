@@ -0,0 +1,48 @@
+package io.neow3j.protocol.http;
+
+/**
+ * Snapshot of the connection usage of an {@link HttpService}.
+ */
+public class PoolStatistics {
+
+    private final int connectionCount;
+    private final int idleConnectionCount;
+    private final int runningCallsCount;
+
+    public PoolStatistics(int connectionCount, int idleConnectionCount,
+                          int runningCallsCount) {
+        this.connectionCount = connectionCount;
+        this.idleConnectionCount = idleConnectionCount;
+        this.runningCallsCount = runningCallsCount;
+    }
+
+    /**
+     * @return the number of open connections, in use or idle
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * @return the number of open connections waiting to be reused
+     */
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    /**
+     * @return the number of calls being executed
+     */
+    public int getRunningCallsCount() {
+        return runningCallsCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStatistics{" +
+                "connectionCount=" + connectionCount +
+                ", idleConnectionCount=" + idleConnectionCount +
+                ", runningCallsCount=" + runningCallsCount +
+                '}';
+    }
+}
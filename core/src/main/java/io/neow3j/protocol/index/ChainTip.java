@@ -0,0 +1,141 @@
+package io.neow3j.protocol.index;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The last block applied to a local index, and the undo logs of the most recent blocks.
+ *
+ * <p>A block is accepted if it extends the tip, i.e. its index follows the tip and its previous
+ * hash is the hash of the tip. A rollback takes the undo log of the tip off the history and
+ * moves the tip back to the previous block. Only the tip is written to snapshots, behind the
+ * magic number and format version of the index; the undo logs are not, so blocks loaded from a
+ * snapshot cannot be rolled back.</p>
+ *
+ * <p>Not thread-safe; the index guards it with its own lock.</p>
+ *
+ * @param <U> the type of the undo log of a block
+ */
+public final class ChainTip<U> {
+
+    private final int maxRollbackDepth;
+    private final Deque<U> undoLogs = new ArrayDeque<>();
+
+    private long height = -1;
+    private String blockHash;
+
+    /**
+     * @param maxRollbackDepth the number of most recent blocks that can be rolled back
+     */
+    public ChainTip(int maxRollbackDepth) {
+        if (maxRollbackDepth < 0) {
+            throw new IllegalArgumentException("The rollback depth must not be negative.");
+        }
+        this.maxRollbackDepth = maxRollbackDepth;
+    }
+
+    /**
+     * @param block the next block
+     * @throws IllegalStateException if the block does not extend the tip
+     */
+    public void checkExtends(NeoBlock block) {
+        if (height >= 0 && (block.getIndex() != height + 1
+                || !blockHash.equals(block.getPrevBlockHash()))) {
+            throw new IllegalStateException("Block " + block.getIndex()
+                    + " does not extend the indexed chain at block " + height + ".");
+        }
+    }
+
+    /**
+     * Moves the tip to a block that was checked with {@link #checkExtends(NeoBlock)}.
+     *
+     * @param block   the new tip
+     * @param undoLog the changes of the block, to revert them on a rollback
+     */
+    public void advance(NeoBlock block, U undoLog) {
+        height = block.getIndex();
+        blockHash = block.getHash();
+        if (maxRollbackDepth > 0) {
+            undoLogs.addLast(undoLog);
+            if (undoLogs.size() > maxRollbackDepth) {
+                undoLogs.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Moves the tip back to the previous block.
+     *
+     * @param block the block to roll back
+     * @return the undo log of the block
+     * @throws IllegalStateException if the block is not the tip, or if it is beyond the rollback
+     *                               depth
+     */
+    public U rollBack(NeoBlock block) {
+        if (block.getIndex() != height || !block.getHash().equals(blockHash)) {
+            throw new IllegalStateException("Block " + block.getIndex()
+                    + " is not the last indexed block.");
+        }
+        if (undoLogs.isEmpty()) {
+            throw new IllegalStateException("Block " + block.getIndex()
+                    + " is beyond the rollback depth.");
+        }
+        height--;
+        blockHash = block.getPrevBlockHash();
+        return undoLogs.removeLast();
+    }
+
+    /**
+     * @return the index of the last applied block, or -1 if no block was applied.
+     */
+    public long getHeight() {
+        return height;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    /**
+     * Writes the header of a snapshot: the magic number, the format version and the tip.
+     *
+     * @param out     the snapshot
+     * @param magic   the magic number of the index
+     * @param version the format version of the index
+     * @throws IOException if writing fails
+     */
+    public void writeHeader(DataOutputStream out, int magic, int version) throws IOException {
+        out.writeInt(magic);
+        out.writeInt(version);
+        out.writeLong(height);
+        out.writeUTF(blockHash == null ? "" : blockHash);
+    }
+
+    /**
+     * Reads the header of a snapshot and moves the tip to its block.
+     *
+     * @param in      the snapshot
+     * @param magic   the magic number of the index
+     * @param version the format version of the index
+     * @param kind    the kind of snapshot for error messages, e.g. "UTXO snapshot"
+     * @throws IOException if reading fails or the header does not match
+     */
+    public void readHeader(DataInputStream in, int magic, int version, String kind)
+            throws IOException {
+        if (in.readInt() != magic) {
+            throw new IOException("Not a " + kind + ".");
+        }
+        int actual = in.readInt();
+        if (actual != version) {
+            throw new IOException("Unsupported " + kind + " version " + actual + ".");
+        }
+        height = in.readLong();
+        String hash = in.readUTF();
+        blockHash = hash.isEmpty() ? null : hash;
+    }
+}
@@ -0,0 +1,119 @@
+package io.neow3j.protocol.index;
+
+import io.neow3j.utils.Numeric;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps the strings of a local index, e.g. addresses, to dense int ids, so that the index can
+ * store ids in primitive arrays. Ids are assigned in the order in which the strings are added,
+ * starting at 0, and never change.
+ *
+ * <p>Not thread-safe; the index guards it with its own lock.</p>
+ */
+public final class Dictionary {
+
+    private final boolean hashes;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private Dictionary(boolean hashes) {
+        this.hashes = hashes;
+    }
+
+    /**
+     * @return a dictionary of strings that are compared as they are, e.g. addresses
+     */
+    public static Dictionary ofNames() {
+        return new Dictionary(false);
+    }
+
+    /**
+     * @return a dictionary of hex hashes, e.g. asset ids or contract script hashes, that are
+     *         stored lower case with a 0x prefix, see {@link #normalizeHash(String)}
+     */
+    public static Dictionary ofHashes() {
+        return new Dictionary(true);
+    }
+
+    /**
+     * @param name the string
+     * @return the id of the string, which is added if it is not known yet
+     */
+    public int add(String name) {
+        String key = normalize(name);
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = names.size();
+            ids.put(key, id);
+            names.add(key);
+        }
+        return id;
+    }
+
+    /**
+     * @param name the string
+     * @return the id of the string, or -1 if it is not known
+     */
+    public int idOf(String name) {
+        return ids.getOrDefault(normalize(name), -1);
+    }
+
+    /**
+     * @param id the id
+     * @return the string of the id, normalized if this is a dictionary of hashes
+     */
+    public String get(int id) {
+        return names.get(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Writes the strings in the order of their ids.
+     *
+     * @param out the output
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    /**
+     * Adds the strings written by {@link #write(DataOutputStream)}. Read into an empty
+     * dictionary, they get their written ids back.
+     *
+     * @param in the input
+     * @throws IOException if reading fails
+     */
+    public void read(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            add(in.readUTF());
+        }
+    }
+
+    /**
+     * @param hash a hex hash, with or without 0x prefix
+     * @return the hash lower case with a 0x prefix
+     */
+    public static String normalizeHash(String hash) {
+        return Numeric.prependHexPrefix(Numeric.cleanHexPrefix(hash).toLowerCase(Locale.ROOT));
+    }
+
+    private String normalize(String name) {
+        return hashes ? normalizeHash(name) : name;
+    }
+}
@@ -0,0 +1,13 @@
+package io.neow3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.channels.ByteChannel;
+
+/**
+ * Opens the blocking channels used by the {@link PipelinedIpcService}.
+ */
+@FunctionalInterface
+public interface ChannelFactory {
+
+    ByteChannel open() throws IOException;
+}
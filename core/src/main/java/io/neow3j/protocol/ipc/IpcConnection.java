@@ -0,0 +1,230 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A single pipelined IPC connection.
+ *
+ * <p>Requests are written as newline terminated JSON messages, without waiting for the responses
+ * of earlier requests. A reader thread splits the incoming bytes into messages at newlines
+ * (which cannot occur unescaped inside JSON) and completes the pending request with the same id.
+ * Both directions use reusable direct buffers, and every byte is scanned for the delimiter only
+ * once.
+ */
+class IpcConnection implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IpcConnection.class);
+
+    private static final byte DELIMITER = '\n';
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ByteChannel channel;
+    private final ConcurrentMap<Long, CompletableFuture<byte[]>> pending =
+            new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private ByteBuffer writeBuffer;
+
+    private final ByteBuffer readBuffer;
+    // holds the beginning of a message that did not fit into the read buffer
+    private final ByteArrayOutputStream overflow = new ByteArrayOutputStream();
+
+    private volatile IOException failure;
+
+    IpcConnection(ByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.readBuffer = ByteBuffer.allocateDirect(bufferSize);
+        this.writeBuffer = ByteBuffer.allocateDirect(bufferSize);
+        Thread reader = new Thread(this::readLoop, "neow3j-ipc-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Sends a request without waiting for its response.
+     *
+     * @param id      the JSON-RPC id of the request
+     * @param payload the serialized request
+     * @return a future completed with the serialized response
+     * @throws IOException if the connection is broken
+     */
+    CompletableFuture<byte[]> send(long id, byte[] payload) throws IOException {
+        checkOpen();
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+        if (pending.putIfAbsent(id, response) != null) {
+            throw new IOException("A request with id " + id + " is already in flight.");
+        }
+        if (failure != null) {
+            // the reader failed in the meantime and may have missed this request
+            pending.remove(id);
+            checkOpen();
+        }
+        try {
+            synchronized (writeLock) {
+                if (writeBuffer.capacity() < payload.length + 1) {
+                    writeBuffer = ByteBuffer.allocateDirect(payload.length + 1);
+                }
+                writeBuffer.clear();
+                writeBuffer.put(payload).put(DELIMITER).flip();
+                while (writeBuffer.hasRemaining()) {
+                    channel.write(writeBuffer);
+                }
+            }
+        } catch (IOException e) {
+            pending.remove(id);
+            fail(e);
+            throw e;
+        }
+        return response;
+    }
+
+    void cancel(long id) {
+        pending.remove(id);
+    }
+
+    boolean isOpen() {
+        return failure == null;
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    private void checkOpen() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw new IOException("IPC connection is closed.", e);
+        }
+    }
+
+    private void readLoop() {
+        try {
+            int scanned = 0;
+            while (failure == null) {
+                if (channel.read(readBuffer) == -1) {
+                    throw new IOException("IPC connection closed by the node.");
+                }
+                int frameStart = 0;
+                int end = readBuffer.position();
+                for (int i = scanned; i < end; i++) {
+                    if (readBuffer.get(i) == DELIMITER) {
+                        dispatch(frame(frameStart, i));
+                        frameStart = i + 1;
+                    }
+                }
+                // keep the unterminated rest, only the new bytes are scanned next time
+                readBuffer.flip();
+                readBuffer.position(frameStart);
+                if (frameStart == 0 && end == readBuffer.capacity()) {
+                    moveToOverflow();
+                } else {
+                    readBuffer.compact();
+                }
+                scanned = readBuffer.position();
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    private void moveToOverflow() {
+        byte[] bytes = new byte[readBuffer.remaining()];
+        readBuffer.get(bytes);
+        overflow.write(bytes, 0, bytes.length);
+        readBuffer.clear();
+    }
+
+    private byte[] frame(int start, int end) {
+        byte[] frame = new byte[overflow.size() + end - start];
+        int offset = 0;
+        if (overflow.size() > 0) {
+            byte[] head = overflow.toByteArray();
+            System.arraycopy(head, 0, frame, 0, head.length);
+            offset = head.length;
+            overflow.reset();
+        }
+        ByteBuffer view = readBuffer.duplicate();
+        view.limit(end).position(start);
+        view.get(frame, offset, end - start);
+        return frame;
+    }
+
+    private void dispatch(byte[] frame) {
+        if (frame.length == 0) {
+            return;
+        }
+        Long id = readId(frame);
+        CompletableFuture<byte[]> response = id == null ? null : pending.remove(id);
+        if (response != null) {
+            response.complete(frame);
+        } else {
+            LOG.warn("Discarding IPC message without matching request, id {}.", id);
+        }
+    }
+
+    /**
+     * Reads the top level id of a JSON-RPC message, skipping over all other values without
+     * building them.
+     */
+    static Long readId(byte[] message) {
+        try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(name)) {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        return parser.getLongValue();
+                    } else if (value == JsonToken.VALUE_STRING) {
+                        return Long.valueOf(parser.getText());
+                    }
+                    return null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.warn("Cannot read the id of an IPC message.", e);
+        }
+        return null;
+    }
+
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            try {
+                channel.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+        }
+        for (Long id : pending.keySet()) {
+            CompletableFuture<byte[]> response = pending.remove(id);
+            if (response != null) {
+                response.completeExceptionally(failure);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        fail(new IOException("IPC connection closed."));
+    }
+}
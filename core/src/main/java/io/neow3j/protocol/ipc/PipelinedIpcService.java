@@ -0,0 +1,142 @@
+package io.neow3j.protocol.ipc;
+
+import io.neow3j.protocol.Service;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IPC implementation of the Service API with persistent, pipelined connections.
+ *
+ * <p>Unlike {@link UnixIpcService}, which opens a socket per request and exchanges one message
+ * at a time, this service keeps a pool of open sockets and writes requests without waiting for
+ * earlier responses. Responses are matched to requests by their JSON-RPC id, so concurrent
+ * callers share the connections with minimal latency.
+ */
+public class PipelinedIpcService extends Service {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedIpcService.class);
+
+    public static final int DEFAULT_POOL_SIZE = 2;
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    private final ChannelFactory channelFactory;
+    private final IpcConnection[] connections;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final AtomicInteger nextConnection = new AtomicInteger();
+
+    public PipelinedIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, DEFAULT_POOL_SIZE, false);
+    }
+
+    public PipelinedIpcService(String ipcSocketPath, int poolSize, boolean includeRawResponses) {
+        this(() -> UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath)),
+                poolSize, DEFAULT_BUFFER_SIZE, DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS,
+                includeRawResponses);
+    }
+
+    /**
+     * @param channelFactory      opens the connections to the node
+     * @param poolSize            the number of connections to spread the requests over
+     * @param bufferSize          the initial size of the read and write buffers per connection
+     * @param timeout             how long to wait for a response
+     * @param unit                the unit of the timeout
+     * @param includeRawResponses if the raw JSON should be attached to the responses
+     */
+    public PipelinedIpcService(ChannelFactory channelFactory, int poolSize, int bufferSize,
+                               long timeout, TimeUnit unit, boolean includeRawResponses) {
+        super(includeRawResponses);
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("The pool needs at least one connection.");
+        }
+        this.channelFactory = channelFactory;
+        this.connections = new IpcConnection[poolSize];
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = unit.toMillis(timeout);
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        byte[] request = payload.getBytes(StandardCharsets.UTF_8);
+        Long id = IpcConnection.readId(request);
+        if (id == null) {
+            throw new IOException("Requests without id cannot be correlated: " + payload);
+        }
+        log.debug(">> {}", payload);
+
+        IpcConnection connection = connection();
+        CompletableFuture<byte[]> future = connection.send(id, request);
+        byte[] response;
+        try {
+            response = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            connection.cancel(id);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response.");
+        } catch (TimeoutException e) {
+            connection.cancel(id);
+            throw new IOException("No response for request " + id + " within "
+                    + timeoutMillis + " ms.");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException
+                    ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("<< {}", new String(response, StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(response);
+    }
+
+    private IpcConnection connection() throws IOException {
+        int slot = Math.floorMod(nextConnection.getAndIncrement(), connections.length);
+        synchronized (connections) {
+            IpcConnection connection = connections[slot];
+            if (connection == null || !connection.isOpen()) {
+                connection = new IpcConnection(channelFactory.open(), bufferSize);
+                connections[slot] = connection;
+            }
+            return connection;
+        }
+    }
+
+    /**
+     * @return the number of requests waiting for a response
+     */
+    public int getPendingCount() {
+        int count = 0;
+        synchronized (connections) {
+            for (IpcConnection connection : connections) {
+                if (connection != null) {
+                    count += connection.getPendingCount();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (connections) {
+            for (int i = 0; i < connections.length; i++) {
+                if (connections[i] != null) {
+                    connections[i].close();
+                    connections[i] = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetricsListener} that aggregates request counts, errors, bytes and latency histograms
+ * per JSON-RPC method in memory.
+ */
+public class InMemoryMetricsListener implements MetricsListener {
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequest(RequestMetrics metrics) {
+        MethodMetrics methodMetrics = methods.get(metrics.getMethod());
+        if (methodMetrics == null) {
+            methodMetrics = methods.computeIfAbsent(metrics.getMethod(), MethodMetrics::new);
+        }
+        methodMetrics.record(metrics);
+    }
+
+    /**
+     * @param method the JSON-RPC method name
+     * @return the metrics of the method, or null if it has not been called yet.
+     */
+    public MethodMetrics getMethodMetrics(String method) {
+        return methods.get(method);
+    }
+
+    /**
+     * @return the metrics of all methods called so far, keyed by method name.
+     */
+    public Map<String, MethodMetrics> getMethodMetrics() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * Clears all collected values.
+     */
+    public void reset() {
+        methods.values().forEach(MethodMetrics::reset);
+    }
+}
@@ -0,0 +1,86 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated metrics of one JSON-RPC method, as collected by {@link InMemoryMetricsListener}.
+ */
+public class MethodMetrics {
+
+    private final String method;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LatencyHistogram serializeLatency = new LatencyHistogram();
+    private final LatencyHistogram ioLatency = new LatencyHistogram();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+
+    MethodMetrics(String method) {
+        this.method = method;
+    }
+
+    void record(RequestMetrics metrics) {
+        requests.increment();
+        if (metrics.isFailed()) {
+            errors.increment();
+        }
+        bytesOut.add(metrics.getBytesOut());
+        bytesIn.add(metrics.getBytesIn());
+        serializeLatency.record(metrics.getSerializeNanos());
+        ioLatency.record(metrics.getIoNanos());
+        parseLatency.record(metrics.getParseNanos());
+        totalLatency.record(metrics.getTotalNanos());
+    }
+
+    void reset() {
+        requests.reset();
+        errors.reset();
+        bytesOut.reset();
+        bytesIn.reset();
+        serializeLatency.reset();
+        ioLatency.reset();
+        parseLatency.reset();
+        totalLatency.reset();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of requests that threw an exception or returned a JSON-RPC error.
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public LatencyHistogram getSerializeLatency() {
+        return serializeLatency;
+    }
+
+    public LatencyHistogram getIoLatency() {
+        return ioLatency;
+    }
+
+    public LatencyHistogram getParseLatency() {
+        return parseLatency;
+    }
+
+    public LatencyHistogram getTotalLatency() {
+        return totalLatency;
+    }
+}
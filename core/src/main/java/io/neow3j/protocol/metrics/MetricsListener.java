@@ -0,0 +1,20 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * Receives timing and size information about every JSON-RPC request performed by a
+ * {@link io.neow3j.protocol.Service}.
+ *
+ * <p>Listeners are called on the thread that performed the request, after the response has
+ * been parsed or the request has failed. Implementations must be thread-safe and should return
+ * quickly.
+ */
+@FunctionalInterface
+public interface MetricsListener {
+
+    /**
+     * Called once per request.
+     *
+     * @param metrics the measurements of the request
+     */
+    void onRequest(RequestMetrics metrics);
+}
@@ -0,0 +1,91 @@
+package io.neow3j.protocol.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MetricsListener} that publishes request metrics to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Micrometer is an optional dependency; it has to be on the classpath to use this class.
+ * The following meters are registered, all tagged with the JSON-RPC <code>method</code>:
+ * <ul>
+ * <li><code>neow3j.rpc.requests</code> - counter of requests,</li>
+ * <li><code>neow3j.rpc.errors</code> - counter of failed requests,</li>
+ * <li><code>neow3j.rpc.latency</code> - timer tagged with the <code>phase</code>
+ * (serialize, io, parse, total),</li>
+ * <li><code>neow3j.rpc.payload</code> - distribution summary in bytes tagged with the
+ * <code>direction</code> (out, in).</li>
+ * </ul>
+ */
+public class MicrometerMetricsListener implements MetricsListener {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequest(RequestMetrics metrics) {
+        Meters m = meters.get(metrics.getMethod());
+        if (m == null) {
+            m = meters.computeIfAbsent(metrics.getMethod(), Meters::new);
+        }
+        m.requests.increment();
+        if (metrics.isFailed()) {
+            m.errors.increment();
+        }
+        m.serialize.record(metrics.getSerializeNanos(), TimeUnit.NANOSECONDS);
+        m.io.record(metrics.getIoNanos(), TimeUnit.NANOSECONDS);
+        m.parse.record(metrics.getParseNanos(), TimeUnit.NANOSECONDS);
+        m.total.record(metrics.getTotalNanos(), TimeUnit.NANOSECONDS);
+        m.bytesOut.record(metrics.getBytesOut());
+        m.bytesIn.record(metrics.getBytesIn());
+    }
+
+    private class Meters {
+
+        private final Counter requests;
+        private final Counter errors;
+        private final Timer serialize;
+        private final Timer io;
+        private final Timer parse;
+        private final Timer total;
+        private final DistributionSummary bytesOut;
+        private final DistributionSummary bytesIn;
+
+        private Meters(String method) {
+            requests = Counter.builder("neow3j.rpc.requests")
+                    .tag("method", method).register(registry);
+            errors = Counter.builder("neow3j.rpc.errors")
+                    .tag("method", method).register(registry);
+            serialize = timer(method, "serialize");
+            io = timer(method, "io");
+            parse = timer(method, "parse");
+            total = timer(method, "total");
+            bytesOut = payload(method, "out");
+            bytesIn = payload(method, "in");
+        }
+
+        private Timer timer(String method, String phase) {
+            return Timer.builder("neow3j.rpc.latency")
+                    .tag("method", method)
+                    .tag("phase", phase)
+                    .register(registry);
+        }
+
+        private DistributionSummary payload(String method, String direction) {
+            return DistributionSummary.builder("neow3j.rpc.payload")
+                    .baseUnit("bytes")
+                    .tag("method", method)
+                    .tag("direction", direction)
+                    .register(registry);
+        }
+    }
+}
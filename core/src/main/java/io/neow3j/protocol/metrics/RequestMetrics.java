@@ -0,0 +1,106 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * Measurements of a single JSON-RPC request.
+ *
+ * <p>The request is split into three phases:
+ * <ul>
+ * <li><b>serialize</b> - writing the request object to JSON,</li>
+ * <li><b>io</b> - sending the payload until the response stream is available,</li>
+ * <li><b>parse</b> - reading the response stream into the response object. Transports that
+ * stream the response body (e.g. HTTP) also spend part of the network transfer here.</li>
+ * </ul>
+ * Phases that were not reached because of an earlier failure have a duration of 0.
+ */
+public class RequestMetrics {
+
+    private final String method;
+    private final long serializeNanos;
+    private final long ioNanos;
+    private final long parseNanos;
+    private final long bytesOut;
+    private final long bytesIn;
+    private final boolean rpcError;
+    private final Throwable exception;
+
+    public RequestMetrics(String method, long serializeNanos, long ioNanos, long parseNanos,
+                          long bytesOut, long bytesIn, boolean rpcError, Throwable exception) {
+        this.method = method;
+        this.serializeNanos = serializeNanos;
+        this.ioNanos = ioNanos;
+        this.parseNanos = parseNanos;
+        this.bytesOut = bytesOut;
+        this.bytesIn = bytesIn;
+        this.rpcError = rpcError;
+        this.exception = exception;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos;
+    }
+
+    public long getIoNanos() {
+        return ioNanos;
+    }
+
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    public long getTotalNanos() {
+        return serializeNanos + ioNanos + parseNanos;
+    }
+
+    /**
+     * @return the size of the request payload in bytes (UTF-8).
+     */
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * @return the number of response bytes read by the parser.
+     */
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * @return true if the node answered with a JSON-RPC error object.
+     */
+    public boolean isRpcError() {
+        return rpcError;
+    }
+
+    /**
+     * @return the exception that terminated the request, or null.
+     */
+    public Throwable getException() {
+        return exception;
+    }
+
+    /**
+     * @return true if the request threw an exception or the node answered with an error.
+     */
+    public boolean isFailed() {
+        return rpcError || exception != null;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestMetrics{"
+                + "method='" + method + '\''
+                + ", serializeNanos=" + serializeNanos
+                + ", ioNanos=" + ioNanos
+                + ", parseNanos=" + parseNanos
+                + ", bytesOut=" + bytesOut
+                + ", bytesIn=" + bytesIn
+                + ", rpcError=" + rpcError
+                + ", exception=" + exception
+                + '}';
+    }
+}
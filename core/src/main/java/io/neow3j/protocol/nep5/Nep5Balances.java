@@ -0,0 +1,310 @@
+package io.neow3j.protocol.nep5;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.index.ChainTip;
+import io.neow3j.protocol.index.Dictionary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local NEP-5 token balances, built incrementally from the transfers of each block, see
+ * {@link Nep5Indexer}.
+ *
+ * <p>Blocks must be added in chain order, starting at the genesis block (or at a snapshot) for
+ * the balances to be complete. The most recent blocks can be rolled back when the node switches
+ * forks.</p>
+ *
+ * <p>Contracts and addresses are mapped to dictionary ids. A linear-probing hash table maps the
+ * (contract id, address id) pair, packed into a long, to the balance as a long. Balances that do
+ * not fit into a long are kept as {@link BigInteger}s in a separate map, so lookups of a balance
+ * take constant time.</p>
+ *
+ * <p>Balances can be queried while the indexer adds blocks on another thread; a query sees the
+ * balances after a whole block.</p>
+ */
+public class Nep5Balances {
+
+    public static final int DEFAULT_MAX_ROLLBACK_DEPTH = 100;
+
+    private static final int MAGIC = 0x4E334E35;
+    private static final int VERSION = 1;
+    private static final long EMPTY = -1;
+    // marks a balance kept in the map of large balances
+    private static final long LARGE = Long.MIN_VALUE;
+
+    private long[] keys = newTable(1024);
+    private long[] values = new long[1024];
+    private int size;
+    private final Map<Long, BigInteger> largeValues = new HashMap<>();
+
+    private final Dictionary contracts = Dictionary.ofHashes();
+    private final Dictionary addresses = Dictionary.ofNames();
+
+    private final ChainTip<List<Nep5Transfer>> tip;
+
+    public Nep5Balances() {
+        this(DEFAULT_MAX_ROLLBACK_DEPTH);
+    }
+
+    /**
+     * @param maxRollbackDepth the number of most recent blocks that can be rolled back
+     */
+    public Nep5Balances(int maxRollbackDepth) {
+        this.tip = new ChainTip<>(maxRollbackDepth);
+    }
+
+    /**
+     * Applies the transfers of a block.
+     *
+     * @param block     the next block
+     * @param transfers the transfers of the block
+     * @throws IllegalStateException if the block does not extend the indexed chain
+     */
+    public synchronized void addBlock(NeoBlock block, List<Nep5Transfer> transfers) {
+        tip.checkExtends(block);
+        for (Nep5Transfer transfer : transfers) {
+            apply(transfer, transfer.getAmount());
+        }
+        tip.advance(block, new ArrayList<>(transfers));
+    }
+
+    /**
+     * Reverts the transfers of the last added block.
+     *
+     * @param block the block to roll back
+     * @throws IllegalStateException if the block is not the last added block, or if it is
+     *                               beyond the rollback depth
+     */
+    public synchronized void rollBack(NeoBlock block) {
+        List<Nep5Transfer> transfers = tip.rollBack(block);
+        for (int i = transfers.size() - 1; i >= 0; i--) {
+            apply(transfers.get(i), transfers.get(i).getAmount().negate());
+        }
+    }
+
+    /**
+     * @param contract the script hash of the token contract
+     * @param address  the address
+     * @return the balance in the smallest unit of the token, zero if unknown
+     */
+    public synchronized BigInteger getBalance(String contract, String address) {
+        int contractId = contracts.idOf(contract);
+        int addressId = addresses.idOf(address);
+        if (contractId < 0 || addressId < 0) {
+            return BigInteger.ZERO;
+        }
+        long key = key(contractId, addressId);
+        int slot = find(key);
+        return slot < 0 ? BigInteger.ZERO : value(key, slot);
+    }
+
+    /**
+     * @param address the address
+     * @return the non-zero balances of the address by contract script hash
+     */
+    public synchronized Map<String, BigInteger> getBalances(String address) {
+        Map<String, BigInteger> balances = new LinkedHashMap<>();
+        int addressId = addresses.idOf(address);
+        for (int contractId = 0; addressId >= 0 && contractId < contracts.size(); contractId++) {
+            long key = key(contractId, addressId);
+            int slot = find(key);
+            if (slot >= 0) {
+                BigInteger balance = value(key, slot);
+                if (balance.signum() != 0) {
+                    balances.put(contracts.get(contractId), balance);
+                }
+            }
+        }
+        return balances;
+    }
+
+    /**
+     * @return the number of (contract, address) pairs with a balance entry.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the index of the last added block, or -1 if no block was added.
+     */
+    public synchronized long getHeight() {
+        return tip.getHeight();
+    }
+
+    public synchronized String getBlockHash() {
+        return tip.getBlockHash();
+    }
+
+    /**
+     * Writes the balances and the last added block to a file. Blocks added before the snapshot
+     * cannot be rolled back after reading it.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public synchronized void writeSnapshot(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            tip.writeHeader(out, MAGIC, VERSION);
+            contracts.write(out);
+            addresses.write(out);
+            out.writeInt(size);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] == EMPTY) {
+                    continue;
+                }
+                out.writeLong(keys[slot]);
+                out.writeLong(values[slot]);
+                if (values[slot] == LARGE) {
+                    byte[] value = largeValues.get(keys[slot]).toByteArray();
+                    out.writeInt(value.length);
+                    out.write(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads balances from a snapshot file.
+     *
+     * @param file             the snapshot
+     * @param maxRollbackDepth the number of blocks added after loading that can be rolled back
+     * @return the balances
+     * @throws IOException if reading fails or the file is not a snapshot
+     */
+    public static Nep5Balances readSnapshot(File file, int maxRollbackDepth) throws IOException {
+        Nep5Balances balances = new Nep5Balances(maxRollbackDepth);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            balances.tip.readHeader(in, MAGIC, VERSION, "NEP-5 balance snapshot");
+            balances.contracts.read(in);
+            balances.addresses.read(in);
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                long key = in.readLong();
+                long value = in.readLong();
+                int slot = balances.insert(key);
+                balances.values[slot] = value;
+                if (value == LARGE) {
+                    byte[] large = new byte[in.readInt()];
+                    in.readFully(large);
+                    balances.largeValues.put(key, new BigInteger(large));
+                }
+            }
+        }
+        return balances;
+    }
+
+    private void apply(Nep5Transfer transfer, BigInteger amount) {
+        int contractId = contracts.add(transfer.getContract());
+        if (transfer.getFrom() != null) {
+            add(key(contractId, addresses.add(transfer.getFrom())), amount.negate());
+        }
+        if (transfer.getTo() != null) {
+            add(key(contractId, addresses.add(transfer.getTo())), amount);
+        }
+    }
+
+    private void add(long key, BigInteger amount) {
+        int slot = find(key);
+        if (slot < 0) {
+            slot = insert(key);
+        }
+        long current = values[slot];
+        if (current != LARGE && amount.bitLength() < Long.SIZE) {
+            long sum = current + amount.longValue();
+            // no overflow if the signs of the result and of at least one summand agree
+            if (((current ^ sum) & (amount.longValue() ^ sum)) >= 0 && sum != LARGE) {
+                values[slot] = sum;
+                return;
+            }
+        }
+        BigInteger sum = value(key, slot).add(amount);
+        if (sum.bitLength() < Long.SIZE && sum.longValue() != LARGE) {
+            values[slot] = sum.longValue();
+            largeValues.remove(key);
+        } else {
+            values[slot] = LARGE;
+            largeValues.put(key, sum);
+        }
+    }
+
+    private BigInteger value(long key, int slot) {
+        long value = values[slot];
+        return value == LARGE ? largeValues.get(key) : BigInteger.valueOf(value);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(long key) {
+        size++;
+        if (2 * size > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = 0;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = newTable(capacity);
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static long[] newTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static long key(int contractId, int addressId) {
+        return ((long) contractId << 32) | addressId;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,268 @@
+package io.neow3j.protocol.nep5;
+
+import io.neow3j.model.types.StackItemType;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.stack.Item;
+import io.neow3j.protocol.index.Dictionary;
+import io.neow3j.protocol.rx.ApplicationLogEnricher;
+import io.neow3j.protocol.rx.BlockEvent;
+import io.neow3j.protocol.rx.Fetches;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Indexes NEP-5 transfers and balances from the application logs of the invocation
+ * transactions.
+ *
+ * <p>The application logs of consecutive blocks are fetched concurrently, across block
+ * boundaries, with a fixed maximum number of requests in flight. The transfers are decoded and
+ * applied to the {@link Nep5Balances} strictly in chain order. Blocks without invocation
+ * transactions cost no request. The node needs the application log plugin, see
+ * {@link ApplicationLogEnricher}.</p>
+ *
+ * <p>Transfers are decoded from the notifications <code>["transfer", from, to, amount]</code> of
+ * executions that did not fault. An empty sender or recipient is a mint or a burn.</p>
+ *
+ * <p>Optionally, the balances are written to a snapshot file every given number of blocks. The
+ * file is replaced atomically, so a crash never leaves a partial snapshot behind.</p>
+ */
+public class Nep5Indexer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Nep5Indexer.class);
+
+    private static final String TRANSFER = "transfer";
+    private static final String FAULT = "FAULT";
+
+    private final Neow3j neow3j;
+    private final Nep5Balances balances;
+    private final Observable.Transformer<Step, Step> fetchLogs;
+
+    private volatile File snapshotFile;
+    private volatile int snapshotInterval;
+
+    public Nep5Indexer(Neow3j neow3j, Nep5Balances balances) {
+        this(neow3j, balances, Fetches.DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * @param neow3j      the node to fetch the application logs from
+     * @param balances    the balances to update
+     * @param concurrency the maximum number of application log requests in flight
+     */
+    public Nep5Indexer(Neow3j neow3j, Nep5Balances balances, int concurrency) {
+        this.neow3j = neow3j;
+        this.balances = balances;
+        this.fetchLogs = Fetches.inOrder(this::fetch, concurrency);
+    }
+
+    /**
+     * Writes a snapshot of the balances after every given number of blocks.
+     *
+     * @param file     the snapshot file, see {@link Nep5Balances#readSnapshot(File, int)}
+     * @param interval the number of blocks between snapshots
+     * @return this indexer
+     */
+    public Nep5Indexer snapshotEvery(File file, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The snapshot interval must be positive.");
+        }
+        this.snapshotFile = file;
+        this.snapshotInterval = interval;
+        return this;
+    }
+
+    public Nep5Balances getBalances() {
+        return balances;
+    }
+
+    /**
+     * Indexes the blocks after the height of the balances up to the latest block, and then the
+     * new blocks as they are created.
+     *
+     * @return Observable to emit the transfers once their block is applied
+     */
+    public Observable<Nep5Transfer> catchUpAndIndex() {
+        return Observable.defer(() -> indexBlocks(
+                neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                        new BlockParameterIndex(balances.getHeight() + 1), true)
+                        .map(NeoGetBlock::getBlock)));
+    }
+
+    /**
+     * Indexes blocks in chain order.
+     *
+     * @param blocks the blocks, with full transaction objects
+     * @return Observable to emit the transfers once their block is applied
+     */
+    public Observable<Nep5Transfer> indexBlocks(Observable<NeoBlock> blocks) {
+        return index(blocks.map(BlockEvent::added));
+    }
+
+    /**
+     * Indexes the events of a {@link io.neow3j.protocol.rx.ReorgAwareBlockStream}. The transfers
+     * of rolled back blocks are reverted and not emitted again.
+     *
+     * @param events the block events, with full transaction objects
+     * @return Observable to emit the transfers once their block is applied
+     */
+    public Observable<Nep5Transfer> index(Observable<BlockEvent> events) {
+        return Observable.defer(() -> {
+            Applier applier = new Applier();
+            return events
+                    .concatMap(this::steps)
+                    .compose(fetchLogs)
+                    .concatMap(applier::apply);
+        });
+    }
+
+    /**
+     * Decodes the NEP-5 transfers of an application log.
+     *
+     * @param log        the application log of a transaction
+     * @param blockIndex the index of the block of the transaction
+     * @return the transfers in the order of their notifications
+     */
+    public static List<Nep5Transfer> decodeTransfers(NeoApplicationLog log, long blockIndex) {
+        List<Nep5Transfer> transfers = new ArrayList<>();
+        if (log.getExecutions() == null) {
+            return transfers;
+        }
+        for (NeoApplicationLog.Execution execution : log.getExecutions()) {
+            if (execution.getState() != null && execution.getState().contains(FAULT)) {
+                continue;
+            }
+            for (NeoApplicationLog.Notification notification : execution.getNotifications()) {
+                Nep5Transfer transfer = decodeTransfer(log.getTransactionId(), blockIndex,
+                        notification);
+                if (transfer != null) {
+                    transfers.add(transfer);
+                }
+            }
+        }
+        return transfers;
+    }
+
+    private static Nep5Transfer decodeTransfer(String txId, long blockIndex,
+            NeoApplicationLog.Notification notification) {
+        Item state = notification.getItem();
+        if (state == null || state.getType() != StackItemType.ARRAY
+                || state.getArray().size() != 4
+                || !TRANSFER.equals(state.getArray().get(0).getAsString())) {
+            return null;
+        }
+        List<Item> values = state.getArray();
+        String from = values.get(1).getAsAddress();
+        String to = values.get(2).getAsAddress();
+        BigInteger amount = values.get(3).getAsNumber();
+        if (from == null || to == null || amount == null) {
+            LOG.debug("Ignoring a malformed transfer notification in transaction {}.", txId);
+            return null;
+        }
+        return new Nep5Transfer(txId, blockIndex,
+                Dictionary.normalizeHash(notification.getContract()),
+                from.isEmpty() ? null : from, to.isEmpty() ? null : to, amount);
+    }
+
+    /**
+     * Splits a block event into one step per invocation transaction, followed by the step that
+     * applies the block.
+     */
+    private Observable<Step> steps(BlockEvent event) {
+        List<Step> steps = new ArrayList<>();
+        NeoBlock block = event.getBlock();
+        if (!event.isRollback()) {
+            if (block.getTransactions() == null) {
+                return Observable.error(new IllegalArgumentException(
+                        "Block " + block.getIndex() + " does not contain transactions."));
+            }
+            for (Transaction tx : block.getTransactions()) {
+                if (tx.getType() == TransactionType.INVOCATION_TRANSACTION) {
+                    steps.add(new Step(event, tx.getTransactionId()));
+                }
+            }
+        }
+        steps.add(new Step(event, null));
+        return Observable.from(steps);
+    }
+
+    private Observable<Step> fetch(Step step) {
+        if (step.txId == null) {
+            return Observable.just(step);
+        }
+        return ApplicationLogEnricher.fetchApplicationLog(neow3j, step.txId, Schedulers.io())
+                .map(log -> {
+                    step.transfers = decodeTransfers(log, step.event.getBlock().getIndex());
+                    return step;
+                });
+    }
+
+    private void maybeWriteSnapshot(long height) {
+        File file = snapshotFile;
+        if (file == null || height % snapshotInterval != 0) {
+            return;
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            balances.writeSnapshot(temp);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to write the NEP-5 balance snapshot at block {}.", height, e);
+        }
+    }
+
+    /**
+     * Collects the transfers of a block in order and applies them with the block.
+     */
+    private class Applier {
+
+        private final List<Nep5Transfer> transfers = new ArrayList<>();
+
+        private Observable<Nep5Transfer> apply(Step step) {
+            if (step.txId != null) {
+                transfers.addAll(step.transfers);
+                return Observable.empty();
+            }
+            NeoBlock block = step.event.getBlock();
+            if (step.event.isRollback()) {
+                balances.rollBack(block);
+                return Observable.empty();
+            }
+            List<Nep5Transfer> applied = new ArrayList<>(transfers);
+            transfers.clear();
+            balances.addBlock(block, applied);
+            maybeWriteSnapshot(block.getIndex());
+            return Observable.from(applied);
+        }
+    }
+
+    private static class Step {
+
+        private final BlockEvent event;
+        // null for the step that applies the block
+        private final String txId;
+        private List<Nep5Transfer> transfers = Collections.emptyList();
+
+        private Step(BlockEvent event, String txId) {
+            this.event = event;
+            this.txId = txId;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.neow3j.protocol.nep5;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A <code>transfer</code> notification of a NEP-5 token contract.
+ */
+public class Nep5Transfer {
+
+    private final String txId;
+    private final long blockIndex;
+    private final String contract;
+    private final String from;
+    private final String to;
+    private final BigInteger amount;
+
+    public Nep5Transfer(String txId, long blockIndex, String contract, String from, String to,
+            BigInteger amount) {
+        this.txId = txId;
+        this.blockIndex = blockIndex;
+        this.contract = contract;
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public long getBlockIndex() {
+        return blockIndex;
+    }
+
+    /**
+     * @return the script hash of the token contract.
+     */
+    public String getContract() {
+        return contract;
+    }
+
+    /**
+     * @return the sender address, or null if the tokens were minted.
+     */
+    public String getFrom() {
+        return from;
+    }
+
+    /**
+     * @return the recipient address, or null if the tokens were burned.
+     */
+    public String getTo() {
+        return to;
+    }
+
+    /**
+     * @return the amount in the smallest unit of the token.
+     */
+    public BigInteger getAmount() {
+        return amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Nep5Transfer)) {
+            return false;
+        }
+        Nep5Transfer transfer = (Nep5Transfer) o;
+        return blockIndex == transfer.blockIndex
+                && Objects.equals(txId, transfer.txId)
+                && Objects.equals(contract, transfer.contract)
+                && Objects.equals(from, transfer.from)
+                && Objects.equals(to, transfer.to)
+                && Objects.equals(amount, transfer.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(txId, blockIndex, contract, from, to, amount);
+    }
+
+    @Override
+    public String toString() {
+        return "Nep5Transfer{"
+                + "txId='" + txId + '\''
+                + ", blockIndex=" + blockIndex
+                + ", contract='" + contract + '\''
+                + ", from='" + from + '\''
+                + ", to='" + to + '\''
+                + ", amount=" + amount
+                + '}';
+    }
+}
@@ -0,0 +1,63 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.crypto.transaction.ContractTransaction;
+import io.neow3j.protocol.utxo.CoinSelection;
+
+/**
+ * A signed transaction of a {@link TransactionPipeline}, ready to be sent with
+ * {@link io.neow3j.protocol.core.Neo#sendRawTransaction(String)}.
+ *
+ * <p>Its inputs stay reserved until the selection is marked as spent after sending, or released
+ * if the transaction is dropped.</p>
+ */
+public class SignedTransaction {
+
+    private final TransferIntent intent;
+    private final ContractTransaction transaction;
+    private final CoinSelection selection;
+    private final String txId;
+    private final String hex;
+
+    SignedTransaction(TransferIntent intent, ContractTransaction transaction,
+            CoinSelection selection, String txId, String hex) {
+        this.intent = intent;
+        this.transaction = transaction;
+        this.selection = selection;
+        this.txId = txId;
+        this.hex = hex;
+    }
+
+    public TransferIntent getIntent() {
+        return intent;
+    }
+
+    public ContractTransaction getTransaction() {
+        return transaction;
+    }
+
+    public CoinSelection getSelection() {
+        return selection;
+    }
+
+    /**
+     * @return the transaction id, prefixed with "0x" as in the responses of the node.
+     */
+    public String getTxId() {
+        return txId;
+    }
+
+    /**
+     * @return the serialized transaction as hex string without prefix.
+     */
+    public String getHex() {
+        return hex;
+    }
+
+    @Override
+    public String toString() {
+        return "SignedTransaction{"
+                + "txId='" + txId + '\''
+                + ", intent=" + intent
+                + '}';
+    }
+}
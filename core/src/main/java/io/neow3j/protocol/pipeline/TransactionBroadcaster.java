@@ -0,0 +1,330 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.exceptions.TransactionBroadcastException;
+import io.neow3j.protocol.utxo.CoinSelection;
+import io.neow3j.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends transactions to the node and tracks them until they are included in a block.
+ *
+ * <p>At most a fixed number of <code>sendrawtransaction</code> requests are in flight; further
+ * transactions wait in a queue. Sent transactions are kept in a pending set, which is matched
+ * against the transaction ids of every new block once, instead of polling the node per
+ * transaction. Blocks come from {@link #subscribeToBlocks()} or are passed to
+ * {@link #onBlock(NeoBlock)}, e.g. from a {@link io.neow3j.protocol.rx.ReorgAwareBlockStream} to
+ * only confirm transactions at a certain depth.</p>
+ *
+ * <p>When a new block arrives, transactions that were sent longer than the rebroadcast timeout
+ * ago are sent again, since the node may have dropped them from its memory pool. Rejections of
+ * rebroadcasts are ignored, as the node also rejects transactions it already knows. A
+ * transaction fails with a {@link TransactionBroadcastException} if its first broadcast is
+ * rejected or if it is not included after the maximum number of broadcasts. Requests that fail
+ * with an I/O error count as sent.</p>
+ *
+ * <p>For transactions of a {@link TransactionPipeline}, the inputs are marked as spent on
+ * confirmation and released on failure or cancellation of the returned future.</p>
+ *
+ * <p>Transactions may be broadcast from any thread, also while a block is being matched; the
+ * futures of confirmed transactions complete on the thread that passes the block.</p>
+ */
+public class TransactionBroadcaster {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionBroadcaster.class);
+
+    public static final int DEFAULT_MAX_CONCURRENT_SENDS = 16;
+    public static final long DEFAULT_REBROADCAST_TIMEOUT_MILLIS = 60_000;
+    public static final int DEFAULT_MAX_BROADCASTS = 5;
+
+    private final Neow3j neow3j;
+    private final int maxConcurrentSends;
+    private final long rebroadcastTimeoutNanos;
+    private final int maxBroadcasts;
+
+    private final Map<String, Pending> pending = new HashMap<>();
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private int sending;
+
+    public TransactionBroadcaster(Neow3j neow3j) {
+        this(neow3j, DEFAULT_MAX_CONCURRENT_SENDS, DEFAULT_REBROADCAST_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS, DEFAULT_MAX_BROADCASTS);
+    }
+
+    /**
+     * @param neow3j             the node to send to
+     * @param maxConcurrentSends the maximum number of send requests in flight
+     * @param rebroadcastTimeout the time after which a transaction not included in a block is
+     *                           sent again
+     * @param unit               the unit of the rebroadcast timeout
+     * @param maxBroadcasts      the maximum number of times a transaction is sent
+     */
+    public TransactionBroadcaster(Neow3j neow3j, int maxConcurrentSends, long rebroadcastTimeout,
+            TimeUnit unit, int maxBroadcasts) {
+        if (maxConcurrentSends <= 0 || maxBroadcasts <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximum numbers of sends and broadcasts must be positive.");
+        }
+        this.neow3j = neow3j;
+        this.maxConcurrentSends = maxConcurrentSends;
+        this.rebroadcastTimeoutNanos = unit.toNanos(rebroadcastTimeout);
+        this.maxBroadcasts = maxBroadcasts;
+    }
+
+    /**
+     * Tracks the transactions in the blocks of the node.
+     *
+     * @return the subscription to the blocks, to stop tracking
+     */
+    public Subscription subscribeToBlocks() {
+        return subscribeToBlocks(neow3j.blockObservable(true).map(NeoGetBlock::getBlock));
+    }
+
+    /**
+     * Tracks the transactions in the given blocks, which must contain the transactions.
+     *
+     * @param blocks the blocks
+     * @return the subscription to the blocks, to stop tracking
+     */
+    public Subscription subscribeToBlocks(Observable<NeoBlock> blocks) {
+        return blocks.subscribe(this::onBlock,
+                e -> LOG.error("The block stream of the transaction broadcaster failed.", e));
+    }
+
+    /**
+     * Broadcasts a signed transaction of a {@link TransactionPipeline}.
+     *
+     * @param transaction the transaction
+     * @return a future completed when the transaction is included in a block
+     */
+    public CompletableFuture<TransactionConfirmation> broadcast(SignedTransaction transaction) {
+        return broadcast(transaction.getTxId(), transaction.getHex(),
+                transaction.getSelection());
+    }
+
+    /**
+     * Broadcasts a transaction. Broadcasting a transaction that is already pending returns the
+     * future of the pending transaction.
+     *
+     * @param txId the transaction id
+     * @param hex  the serialized transaction
+     * @return a future completed when the transaction is included in a block
+     */
+    public CompletableFuture<TransactionConfirmation> broadcast(String txId, String hex) {
+        return broadcast(txId, hex, null);
+    }
+
+    private CompletableFuture<TransactionConfirmation> broadcast(String txId, String hex,
+            CoinSelection selection) {
+        Pending transaction;
+        synchronized (this) {
+            Pending existing = pending.get(normalize(txId));
+            if (existing != null) {
+                return existing.future;
+            }
+            transaction = new Pending(txId, hex, selection);
+            pending.put(transaction.key, transaction);
+            queue.add(transaction);
+        }
+        transaction.future.whenComplete((confirmation, e) -> {
+            if (transaction.future.isCancelled()) {
+                remove(transaction);
+                release(transaction);
+            }
+        });
+        drain();
+        return transaction.future;
+    }
+
+    private void drain() {
+        List<Pending> toSend = new ArrayList<>();
+        synchronized (this) {
+            while (sending < maxConcurrentSends && !queue.isEmpty()) {
+                Pending transaction = queue.poll();
+                if (pending.get(transaction.key) != transaction) {
+                    continue;
+                }
+                sending++;
+                transaction.state = State.SENDING;
+                transaction.broadcasts++;
+                transaction.lastSent = System.nanoTime();
+                toSend.add(transaction);
+            }
+        }
+        for (Pending transaction : toSend) {
+            CompletableFuture<NeoSendRawTransaction> response;
+            try {
+                response = neow3j.sendRawTransaction(transaction.hex).sendAsync();
+            } catch (RuntimeException e) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            }
+            response.whenComplete((r, e) -> {
+                onSent(transaction, r, e);
+                drain();
+            });
+        }
+    }
+
+    private void onSent(Pending transaction, NeoSendRawTransaction response, Throwable error) {
+        String rejection = null;
+        if (error == null && response.hasError()) {
+            rejection = response.getError().getMessage();
+        } else if (error == null && !Boolean.TRUE.equals(response.getSendRawTransaction())) {
+            rejection = "not accepted";
+        }
+        boolean failed;
+        synchronized (this) {
+            sending--;
+            transaction.state = State.SENT;
+            failed = rejection != null && transaction.broadcasts == 1
+                    && pending.remove(transaction.key, transaction);
+        }
+        if (failed) {
+            fail(transaction, new TransactionBroadcastException("The node rejected transaction "
+                    + transaction.txId + ": " + rejection, transaction.txId));
+        } else if (error != null) {
+            LOG.warn("Failed to send transaction {}, it will be sent again: {}",
+                    transaction.txId, error.toString());
+        } else if (rejection != null) {
+            LOG.debug("The node rejected the rebroadcast of transaction {}: {}",
+                    transaction.txId, rejection);
+        }
+    }
+
+    /**
+     * Confirms the pending transactions contained in a block and rebroadcasts the transactions
+     * whose rebroadcast timeout expired.
+     *
+     * @param block a block with its transactions
+     */
+    public void onBlock(NeoBlock block) {
+        List<Pending> confirmed = new ArrayList<>();
+        List<Pending> expired = new ArrayList<>();
+        synchronized (this) {
+            if (block.getTransactions() != null) {
+                for (Transaction tx : block.getTransactions()) {
+                    Pending transaction = pending.remove(normalize(tx.getTransactionId()));
+                    if (transaction != null) {
+                        confirmed.add(transaction);
+                    }
+                }
+            }
+            long now = System.nanoTime();
+            for (Pending transaction : pending.values()) {
+                if (transaction.state == State.SENT
+                        && now - transaction.lastSent >= rebroadcastTimeoutNanos) {
+                    if (transaction.broadcasts >= maxBroadcasts) {
+                        expired.add(transaction);
+                    } else {
+                        transaction.state = State.QUEUED;
+                        queue.add(transaction);
+                    }
+                }
+            }
+            for (Pending transaction : expired) {
+                pending.remove(transaction.key);
+            }
+        }
+        for (Pending transaction : confirmed) {
+            if (transaction.selection != null) {
+                try {
+                    transaction.selection.markSpent();
+                } catch (IllegalStateException e) {
+                    LOG.warn("The inputs of transaction {} were released before it was "
+                            + "confirmed.", transaction.txId);
+                }
+            }
+            transaction.future.complete(new TransactionConfirmation(transaction.txId,
+                    block.getIndex(), block.getHash(), transaction.broadcasts));
+        }
+        for (Pending transaction : expired) {
+            fail(transaction, new TransactionBroadcastException("Transaction "
+                    + transaction.txId + " was not included in a block after "
+                    + transaction.broadcasts + " broadcasts.", transaction.txId));
+        }
+        drain();
+    }
+
+    /**
+     * @return the number of transactions that are not yet included in a block.
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of send requests in flight.
+     */
+    public synchronized int getSendingCount() {
+        return sending;
+    }
+
+    /**
+     * @return the number of transactions waiting for a free send slot.
+     */
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    private synchronized void remove(Pending transaction) {
+        pending.remove(transaction.key, transaction);
+    }
+
+    private static void fail(Pending transaction, TransactionBroadcastException e) {
+        release(transaction);
+        transaction.future.completeExceptionally(e);
+    }
+
+    private static void release(Pending transaction) {
+        if (transaction.selection != null) {
+            transaction.selection.release();
+        }
+    }
+
+    private static String normalize(String txId) {
+        return Numeric.prependHexPrefix(Numeric.cleanHexPrefix(txId).toLowerCase(Locale.ROOT));
+    }
+
+    private enum State {
+        QUEUED, SENDING, SENT
+    }
+
+    private static class Pending {
+
+        private final String txId;
+        private final String key;
+        private final String hex;
+        private final CoinSelection selection;
+        private final CompletableFuture<TransactionConfirmation> future =
+                new CompletableFuture<>();
+        // guarded by the broadcaster
+        private State state = State.QUEUED;
+        private int broadcasts;
+        private long lastSent;
+
+        private Pending(String txId, String hex, CoinSelection selection) {
+            this.txId = txId;
+            this.key = normalize(txId);
+            this.hex = hex;
+            this.selection = selection;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.neow3j.protocol.pipeline;
+
+/**
+ * The inclusion of a broadcast transaction in a block.
+ */
+public class TransactionConfirmation {
+
+    private final String txId;
+    private final long blockIndex;
+    private final String blockHash;
+    private final int broadcasts;
+
+    public TransactionConfirmation(String txId, long blockIndex, String blockHash,
+            int broadcasts) {
+        this.txId = txId;
+        this.blockIndex = blockIndex;
+        this.blockHash = blockHash;
+        this.broadcasts = broadcasts;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public long getBlockIndex() {
+        return blockIndex;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    /**
+     * @return how often the transaction was sent to the node.
+     */
+    public int getBroadcasts() {
+        return broadcasts;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionConfirmation{"
+                + "txId='" + txId + '\''
+                + ", blockIndex=" + blockIndex
+                + ", blockHash='" + blockHash + '\''
+                + ", broadcasts=" + broadcasts
+                + '}';
+    }
+}
@@ -0,0 +1,160 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.transaction.ContractTransaction;
+import io.neow3j.crypto.transaction.RawInvocationScript;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.protocol.utxo.CoinSelection;
+import io.neow3j.protocol.utxo.CoinSelectionStrategy;
+import io.neow3j.protocol.utxo.CoinSelector;
+import io.neow3j.protocol.utxo.Utxo;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Action0;
+import rx.schedulers.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Turns transfer intents into signed contract transactions.
+ *
+ * <p>Transactions are built one after the other in the order of the intents: a
+ * {@link CoinSelector} picks and reserves the inputs and adds the change outputs. They are then
+ * signed in parallel on a scheduler. Each transaction is serialized only once; its signature,
+ * id and hex string are all derived from that serialization.</p>
+ *
+ * <p>The emitted transactions keep their inputs reserved, see {@link SignedTransaction}. If the
+ * stream fails, e.g. because the funds of an intent are insufficient, the transactions that were
+ * built but not yet emitted are released.</p>
+ */
+public class TransactionPipeline {
+
+    private final CoinSelector selector;
+    private final Function<String, Collection<Utxo>> unspents;
+    private final CoinSelectionStrategy strategy;
+    private final Scheduler scheduler;
+    private final int parallelism;
+
+    /**
+     * Creates a pipeline that signs on the computation scheduler, with one transaction per
+     * available processor in flight.
+     *
+     * @param selector the selector to reserve the inputs with
+     * @param unspents provides the unspent outputs of a sender address, e.g.
+     *                 <code>address -&gt; utxoIndex.getUnspents(address)</code>
+     */
+    public TransactionPipeline(CoinSelector selector,
+            Function<String, Collection<Utxo>> unspents) {
+        this(selector, unspents, CoinSelectionStrategy.BRANCH_AND_BOUND, Schedulers.computation(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param selector    the selector to reserve the inputs with
+     * @param unspents    provides the unspent outputs of a sender address
+     * @param strategy    the coin selection strategy
+     * @param scheduler   the scheduler to sign on
+     * @param parallelism the maximum number of transactions signed at the same time
+     */
+    public TransactionPipeline(CoinSelector selector, Function<String, Collection<Utxo>> unspents,
+            CoinSelectionStrategy strategy, Scheduler scheduler, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+        this.selector = selector;
+        this.unspents = unspents;
+        this.strategy = strategy;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Builds and signs a transaction for every intent. The transactions are emitted in the
+     * order their signing completes.
+     *
+     * @param intents the transfers to send
+     * @return Observable to emit the signed transactions
+     */
+    public Observable<SignedTransaction> process(Observable<TransferIntent> intents) {
+        return Observable.defer(() -> {
+            // built and not yet emitted; each is either emitted or released, never both
+            Set<CoinSelection> inFlight = ConcurrentHashMap.newKeySet();
+            Action0 releaseInFlight = () -> {
+                for (CoinSelection selection : inFlight) {
+                    if (inFlight.remove(selection)) {
+                        selection.release();
+                    }
+                }
+            };
+            return intents
+                    .map(intent -> {
+                        CoinSelection selection = selector.select(
+                                unspents.apply(intent.getSenderAddress()), intent.getPayments(),
+                                intent.getSenderAddress(), strategy);
+                        inFlight.add(selection);
+                        return new Build(intent, selection);
+                    })
+                    .flatMap(build -> Observable.fromCallable(
+                            () -> sign(build.intent, build.selection))
+                            .subscribeOn(scheduler), parallelism)
+                    .filter(signed -> inFlight.remove(signed.getSelection()))
+                    .doOnTerminate(releaseInFlight)
+                    .doOnUnsubscribe(releaseInFlight);
+        });
+    }
+
+    public Observable<SignedTransaction> process(Iterable<TransferIntent> intents) {
+        return process(Observable.from(intents));
+    }
+
+    /**
+     * Signs the transaction of a selection with the key of the sender.
+     *
+     * @param intent    the intent the selection was made for
+     * @param selection the inputs and outputs of the transaction
+     * @return the signed transaction
+     */
+    public static SignedTransaction sign(TransferIntent intent, CoinSelection selection) {
+        ContractTransaction transaction = selection.toContractTransaction();
+        byte[] unsigned = transaction.toArray();
+
+        ECKeyPair sender = intent.getSender();
+        // NEO only uses r and s, so the recovery id that Sign.signMessage searches is not needed
+        byte[] signature = sender.signAndGetArrayBytes(Hash.sha256(unsigned));
+        transaction.addScript(Collections.singletonList(new RawInvocationScript(signature)),
+                sender.getVerificationScriptFromPublicKey());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(unsigned.length + 128);
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            writer.write(unsigned);
+            writer.writeSerializableVariable(transaction.getScripts());
+            writer.flush();
+        } catch (IOException e) {
+            throw new UnsupportedOperationException(e);
+        }
+        String txId = Numeric.toHexString(
+                ArrayUtils.reverseArray(Hash.sha256(Hash.sha256(unsigned))));
+        return new SignedTransaction(intent, transaction, selection, txId,
+                Numeric.toHexStringNoPrefix(out.toByteArray()));
+    }
+
+    private static class Build {
+
+        private final TransferIntent intent;
+        private final CoinSelection selection;
+
+        private Build(TransferIntent intent, CoinSelection selection) {
+            this.intent = intent;
+            this.selection = selection;
+        }
+    }
+}
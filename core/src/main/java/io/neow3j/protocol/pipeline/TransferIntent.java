@@ -0,0 +1,54 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Keys;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Payments from one account, to be sent in one contract transaction by a
+ * {@link TransactionPipeline}. The change goes back to the address of the sender.
+ */
+public class TransferIntent {
+
+    private final ECKeyPair sender;
+    private final String senderAddress;
+    private final List<RawTransactionOutput> payments;
+
+    public TransferIntent(ECKeyPair sender, List<RawTransactionOutput> payments) {
+        if (payments.isEmpty()) {
+            throw new IllegalArgumentException("No payments to send.");
+        }
+        this.sender = sender;
+        this.senderAddress = Keys.getAddress(sender);
+        this.payments = Collections.unmodifiableList(new ArrayList<>(payments));
+    }
+
+    public TransferIntent(ECKeyPair sender, String assetId, String value, String toAddress) {
+        this(sender, Collections.singletonList(
+                new RawTransactionOutput(0, assetId, value, toAddress)));
+    }
+
+    public ECKeyPair getSender() {
+        return sender;
+    }
+
+    public String getSenderAddress() {
+        return senderAddress;
+    }
+
+    public List<RawTransactionOutput> getPayments() {
+        return payments;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferIntent{"
+                + "senderAddress='" + senderAddress + '\''
+                + ", payments=" + payments
+                + '}';
+    }
+}
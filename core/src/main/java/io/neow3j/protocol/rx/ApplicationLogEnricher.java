@@ -0,0 +1,89 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pairs the invocation transactions of a block stream with their application logs.
+ *
+ * <p>Apply it to a replay or live block stream with full transaction objects, e.g.
+ * <code>neow3j.replayBlocksObservable(start, end, true).map(NeoGetBlock::getBlock)
+ * .compose(new ApplicationLogEnricher(neow3j))</code>. The application logs are fetched
+ * concurrently, across block boundaries, with a fixed maximum number of requests in flight, and
+ * emitted in the order of the blocks and of the transactions within each block. The requests
+ * block while they wait for the node, so they are sent on a scheduler for I/O. Requests that
+ * fail with an I/O error are retried. The node needs the application log plugin.</p>
+ */
+public class ApplicationLogEnricher
+        implements Observable.Transformer<NeoBlock, EnrichedTransaction> {
+
+    private final Observable.Transformer<EnrichedTransaction, EnrichedTransaction> fetchLogs;
+
+    /**
+     * Creates an enricher that sends the requests on the I/O scheduler.
+     *
+     * @param neow3j the node to fetch the application logs from
+     */
+    public ApplicationLogEnricher(Neow3j neow3j) {
+        this(neow3j, Fetches.DEFAULT_CONCURRENCY, Schedulers.io());
+    }
+
+    /**
+     * @param neow3j      the node to fetch the application logs from
+     * @param concurrency the maximum number of application log requests in flight
+     * @param scheduler   the scheduler to send the requests on
+     */
+    public ApplicationLogEnricher(Neow3j neow3j, int concurrency, Scheduler scheduler) {
+        this.fetchLogs = Fetches.inOrder(pending -> fetchApplicationLog(neow3j,
+                pending.getTransaction().getTransactionId(), scheduler)
+                .map(log -> new EnrichedTransaction(pending.getBlock(),
+                        pending.getTransaction(), log)), concurrency);
+    }
+
+    @Override
+    public Observable<EnrichedTransaction> call(Observable<NeoBlock> blocks) {
+        return blocks
+                .concatMap(block -> {
+                    if (block.getTransactions() == null) {
+                        return Observable.error(new IllegalArgumentException(
+                                "Block " + block.getIndex() + " does not contain transactions."));
+                    }
+                    List<EnrichedTransaction> invocations = new ArrayList<>();
+                    for (Transaction tx : block.getTransactions()) {
+                        if (tx.getType() == TransactionType.INVOCATION_TRANSACTION) {
+                            invocations.add(new EnrichedTransaction(block, tx, null));
+                        }
+                    }
+                    return Observable.from(invocations);
+                })
+                .compose(fetchLogs);
+    }
+
+    /**
+     * Fetches the application log of a transaction. Requests that fail with an I/O error are
+     * retried.
+     *
+     * @param neow3j    the node
+     * @param txId      the transaction id
+     * @param scheduler the scheduler to send the request on
+     * @return Observable to emit the application log, or an {@link IOException} if the node
+     *         answers with an error, e.g. because it does not know the transaction
+     */
+    public static Observable<NeoApplicationLog> fetchApplicationLog(Neow3j neow3j, String txId,
+            Scheduler scheduler) {
+        return Fetches.fetch(neow3j.getApplicationLog(txId),
+                "the application log of transaction " + txId, scheduler)
+                .map(NeoGetApplicationLog::getApplicationLog);
+    }
+}
@@ -0,0 +1,77 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+
+import java.util.Objects;
+
+/**
+ * A block added to or rolled back from the chain followed by a {@link ReorgAwareBlockStream}.
+ */
+public class BlockEvent {
+
+    public enum Type {
+        /**
+         * The block extends the chain.
+         */
+        ADDED,
+        /**
+         * The block was previously added but is no longer part of the chain, because the node
+         * switched to another fork. Rollbacks are emitted from the highest block down.
+         */
+        ROLLED_BACK
+    }
+
+    private final Type type;
+    private final NeoBlock block;
+
+    public BlockEvent(Type type, NeoBlock block) {
+        this.type = type;
+        this.block = block;
+    }
+
+    public static BlockEvent added(NeoBlock block) {
+        return new BlockEvent(Type.ADDED, block);
+    }
+
+    public static BlockEvent rolledBack(NeoBlock block) {
+        return new BlockEvent(Type.ROLLED_BACK, block);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public NeoBlock getBlock() {
+        return block;
+    }
+
+    public boolean isRollback() {
+        return type == Type.ROLLED_BACK;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlockEvent)) {
+            return false;
+        }
+        BlockEvent that = (BlockEvent) o;
+        return type == that.type && Objects.equals(block, that.block);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, block);
+    }
+
+    @Override
+    public String toString() {
+        return "BlockEvent{"
+                + "type=" + type
+                + ", index=" + block.getIndex()
+                + ", hash='" + block.getHash() + '\''
+                + '}';
+    }
+}
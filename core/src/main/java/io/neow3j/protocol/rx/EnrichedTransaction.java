@@ -0,0 +1,46 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+/**
+ * An invocation transaction paired with its application log, emitted by an
+ * {@link ApplicationLogEnricher}.
+ */
+public class EnrichedTransaction {
+
+    private final NeoBlock block;
+    private final Transaction transaction;
+    private final NeoApplicationLog applicationLog;
+
+    public EnrichedTransaction(NeoBlock block, Transaction transaction,
+            NeoApplicationLog applicationLog) {
+        this.block = block;
+        this.transaction = transaction;
+        this.applicationLog = applicationLog;
+    }
+
+    /**
+     * @return the block that contains the transaction.
+     */
+    public NeoBlock getBlock() {
+        return block;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public NeoApplicationLog getApplicationLog() {
+        return applicationLog;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrichedTransaction{"
+                + "blockIndex=" + block.getIndex()
+                + ", txId='" + transaction.getTransactionId() + '\''
+                + '}';
+    }
+}
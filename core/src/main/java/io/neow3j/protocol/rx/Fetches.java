@@ -0,0 +1,107 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func1;
+
+import java.io.IOException;
+
+/**
+ * Fetching of chain data that many requests are sent for, e.g. the blocks or application logs of
+ * a range of blocks.
+ *
+ * <p>Requests that fail with an I/O error are retried {@value #RETRIES} times. A response with
+ * an error becomes an {@link IOException} naming what was fetched; it is not retried, since the
+ * node would answer the same again.</p>
+ */
+public final class Fetches {
+
+    /**
+     * The default maximum number of requests in flight.
+     */
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    static final int RETRIES = 2;
+
+    private Fetches() {
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     *
+     * @param request the request
+     * @param what    what is fetched, e.g. "block 5", for the error message
+     * @param <T>     the type of the response
+     * @return the response, without an error
+     * @throws IOException if the request fails after the retries or the node answers with an
+     *                     error
+     */
+    public static <T extends Response<?>> T send(Request<?, T> request, String what)
+            throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            T response;
+            try {
+                response = request.send();
+            } catch (IOException e) {
+                if (attempt == RETRIES) {
+                    throw e;
+                }
+                continue;
+            }
+            return checked(response, what);
+        }
+    }
+
+    /**
+     * Sends a request on the given scheduler. Request.observable() sends on the subscribing
+     * thread, so the scheduler is what allows several requests to be in flight.
+     *
+     * @param request   the request
+     * @param what      what is fetched, e.g. "block 5", for the error message
+     * @param scheduler the scheduler to send the request on
+     * @param <T>       the type of the response
+     * @return Observable to emit the response, without an error
+     */
+    public static <T extends Response<?>> Observable<T> fetch(Request<?, T> request, String what,
+            Scheduler scheduler) {
+        return request.observable()
+                .subscribeOn(scheduler)
+                .retry(RETRIES)
+                .flatMap(response -> {
+                    try {
+                        return Observable.just(checked(response, what));
+                    } catch (IOException e) {
+                        return Observable.error(e);
+                    }
+                });
+    }
+
+    /**
+     * Maps each element to a fetch, with up to the given number of fetches in flight, and emits
+     * the results in the order of the elements.
+     *
+     * @param fetch       the fetch of an element
+     * @param concurrency the maximum number of fetches in flight
+     * @param <T>         the type of the elements
+     * @param <R>         the type of the results
+     * @return an operator to fetch the elements of a stream
+     */
+    public static <T, R> Observable.Transformer<T, R> inOrder(
+            Func1<? super T, ? extends Observable<? extends R>> fetch, int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency must be positive.");
+        }
+        return elements -> elements.concatMapEager(fetch, DEFAULT_CONCURRENCY, concurrency);
+    }
+
+    private static <T extends Response<?>> T checked(T response, String what)
+            throws IOException {
+        if (response.hasError()) {
+            throw new IOException("Failed to fetch " + what + ": "
+                    + response.getError().getMessage());
+        }
+        return response;
+    }
+}
@@ -1,22 +1,30 @@
 package io.neow3j.protocol.rx;
 
 import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.archive.BlockArchive;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.BlockParameterIndex;
 import io.neow3j.protocol.core.BlockParameterName;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.polling.AdaptiveBlockPolling;
 import io.neow3j.protocol.core.polling.BlockPolling;
+import io.neow3j.utils.Numeric;
 import io.neow3j.utils.Observables;
 import rx.Observable;
 import rx.Scheduler;
+import rx.exceptions.Exceptions;
 import rx.schedulers.Schedulers;
 import rx.subscriptions.Subscriptions;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -28,21 +36,50 @@ public class JsonRpc2_0Rx {
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final ConcurrentMap<Long, SharedBlockSource> sharedBlockSources;
 
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
         this.neow3j = neow3j;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.sharedBlockSources = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the block source shared by all subscribers polling with the given interval. It
+     * polls the node and fetches each block once, regardless of the number of subscribers.
+     *
+     * @param pollingInterval the polling interval in milliseconds
+     * @return the shared block source
+     */
+    public SharedBlockSource sharedBlockSource(long pollingInterval) {
+        return sharedBlockSources.computeIfAbsent(pollingInterval,
+                interval -> new SharedBlockSource(
+                        neow3j, pollingBlockObservable(interval), Schedulers.io()));
     }
 
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
+        return sharedBlockSource(pollingInterval).blockIndexObservable();
+    }
+
+    private Observable<Long> pollingBlockObservable(long pollingInterval) {
         return Observable.create(subscriber -> {
-            BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
+            BlockPolling blockPolling = BlockPolling.withLongCallback(neow3j, subscriber::onNext);
             blockPolling.run(scheduledExecutorService, pollingInterval);
             subscriber.add(Subscriptions.create(blockPolling::cancel));
         });
     }
 
+    public Observable<BigInteger> adaptiveNeoBlockObservable(
+            long minPollingInterval, long maxPollingInterval) {
+        return Observable.create(subscriber -> {
+            AdaptiveBlockPolling blockPolling = new AdaptiveBlockPolling(
+                    neow3j, subscriber::onNext, minPollingInterval, maxPollingInterval);
+            blockPolling.run(scheduledExecutorService);
+            subscriber.add(Subscriptions.create(blockPolling::cancel));
+        });
+    }
+
     public Observable<NeoGetBlock> replayBlocksObservable(
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects) {
@@ -68,22 +105,58 @@ public class JsonRpc2_0Rx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending) {
 
-        BigInteger startBlockNumber = null;
-        BigInteger endBlockNumber = null;
+        long startBlockNumber;
+        long endBlockNumber;
         try {
             startBlockNumber = getBlockNumber(startBlock);
             endBlockNumber = getBlockNumber(endBlock);
         } catch (IOException e) {
-            Observable.error(e);
+            return Observable.error(e);
         }
 
-        if (ascending) {
-            return Observables.range(startBlockNumber, endBlockNumber)
-                    .flatMap(i -> neow3j.getBlock(new BlockParameterIndex(i), fullTransactionObjects).observable());
-        } else {
-            return Observables.range(startBlockNumber, endBlockNumber, false)
-                    .flatMap(i -> neow3j.getBlock(new BlockParameterIndex(i), fullTransactionObjects).observable());
+        return Observables.range(startBlockNumber, endBlockNumber, ascending,
+                BlockParameterIndex::new)
+                .flatMap(i -> neow3j.getBlock(i, fullTransactionObjects).observable());
+    }
+
+    public Observable<ByteBuffer> replayRawBlocksObservable(
+            BlockArchive archive, BlockParameter startBlock, BlockParameter endBlock) {
+        // We use a scheduler to ensure this Observable runs asynchronously for users to be
+        // consistent with the other Observables
+        return replayRawBlocksObservableSync(archive, startBlock, endBlock)
+                .subscribeOn(scheduler);
+    }
+
+    private Observable<ByteBuffer> replayRawBlocksObservableSync(
+            BlockArchive archive, BlockParameter startBlock, BlockParameter endBlock) {
+
+        long startBlockNumber;
+        long endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Observable.error(e);
+        }
+
+        return Observables.range(startBlockNumber, endBlockNumber).map(blockIndex -> {
+            try {
+                return getRawBlock(archive, blockIndex);
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        });
+    }
+
+    private ByteBuffer getRawBlock(BlockArchive archive, long blockIndex) throws IOException {
+        if (archive.contains(blockIndex)) {
+            return archive.read(blockIndex);
         }
+        NeoGetRawBlock response = Fetches.send(
+                neow3j.getRawBlock(new BlockParameterIndex(blockIndex)), "block " + blockIndex);
+        byte[] rawBlock = Numeric.hexStringToByteArray(response.getRawBlock());
+        archive.appendIfNext(blockIndex, rawBlock);
+        return ByteBuffer.wrap(rawBlock).asReadOnlyBuffer();
     }
 
     public Observable<NeoGetBlock> catchUpToLatestBlockObservable(
@@ -106,8 +179,8 @@ public class JsonRpc2_0Rx {
             BlockParameter startBlock, boolean fullTransactionObjects,
             Observable<NeoGetBlock> onCompleteObservable) {
 
-        BigInteger startBlockNumber;
-        BigInteger latestBlockNumber;
+        long startBlockNumber;
+        long latestBlockNumber;
         try {
             startBlockNumber = getBlockNumber(startBlock);
             latestBlockNumber = getLatestBlockNumber();
@@ -115,7 +188,7 @@ public class JsonRpc2_0Rx {
             return Observable.error(e);
         }
 
-        if (startBlockNumber.compareTo(latestBlockNumber) > -1) {
+        if (startBlockNumber >= latestBlockNumber) {
             return onCompleteObservable;
         } else {
             return Observable.concat(
@@ -124,7 +197,7 @@ public class JsonRpc2_0Rx {
                             new BlockParameterIndex(latestBlockNumber),
                             fullTransactionObjects),
                     Observable.defer(() -> catchUpToLatestBlockObservableSync(
-                            new BlockParameterIndex(latestBlockNumber.add(BigInteger.ONE)),
+                            new BlockParameterIndex(latestBlockNumber + 1),
                             fullTransactionObjects,
                             onCompleteObservable)));
         }
@@ -147,7 +220,24 @@ public class JsonRpc2_0Rx {
     }
 
     public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects, long pollingInterval) {
-        return neoBlockObservable(pollingInterval)
+        return sharedBlockSource(pollingInterval).blockObservable(fullTransactionObjects);
+    }
+
+    public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects,
+            long pollingInterval, int bufferSize) {
+        return sharedBlockSource(pollingInterval)
+                .blockObservable(fullTransactionObjects, bufferSize);
+    }
+
+    public Observable<BlockEvent> reorgAwareBlockObservable(
+            boolean fullTransactionObjects, int confirmations, long pollingInterval) {
+        return blockObservable(fullTransactionObjects, pollingInterval)
+                .compose(new ReorgAwareBlockStream(neow3j, fullTransactionObjects, confirmations));
+    }
+
+    public Observable<NeoGetBlock> adaptiveBlockObservable(
+            boolean fullTransactionObjects, long minPollingInterval, long maxPollingInterval) {
+        return adaptiveNeoBlockObservable(minPollingInterval, maxPollingInterval)
                 .flatMap(blockIndex ->
                         neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects).observable());
     }
@@ -156,22 +246,22 @@ public class JsonRpc2_0Rx {
         return neoGetBlock.getBlock().getTransactions().stream().collect(Collectors.toList());
     }
 
-    private BigInteger getLatestBlockNumber() throws IOException {
-        return getBlockNumber(BlockParameterName.LATEST).subtract(BigInteger.ONE);
+    private long getLatestBlockNumber() throws IOException {
+        return getBlockNumber(BlockParameterName.LATEST) - 1;
     }
 
-    private BigInteger getBlockNumber(
+    private long getBlockNumber(
             BlockParameter defaultBlockParameter) throws IOException {
         if (defaultBlockParameter instanceof BlockParameterIndex) {
-            return ((BlockParameterIndex) defaultBlockParameter).getBlockIndex();
+            return ((BlockParameterIndex) defaultBlockParameter).getIndex();
         } else {
             if (defaultBlockParameter instanceof BlockParameterName) {
                 if (defaultBlockParameter.getValue() == BlockParameterName.EARLIEST.getValue()) {
-                    return BigInteger.ZERO;
+                    return 0;
                 }
             }
             NeoBlockCount latestNeoBlock = neow3j.getBlockCount().send();
-            return latestNeoBlock.getBlockIndex();
+            return latestNeoBlock.getBlockIndex().longValue();
         }
     }
 
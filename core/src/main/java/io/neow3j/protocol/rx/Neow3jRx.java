@@ -1,11 +1,14 @@
 package io.neow3j.protocol.rx;
 
+import io.neow3j.protocol.archive.BlockArchive;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
 import rx.Observable;
 
+import java.nio.ByteBuffer;
+
 /**
  * The Observables JSON-RPC client event API.
  */
@@ -13,6 +16,8 @@ public interface Neow3jRx {
 
     /**
      * Create an Observable that emits newly created blocks on the blockchain.
+     * <br>
+     * <p>All subscriptions share one polling loop and each block is fetched only once.
      *
      * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
      *                               transaction hashes
@@ -20,6 +25,31 @@ public interface Neow3jRx {
      */
     Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects);
 
+    /**
+     * Create an Observable that emits newly created blocks on the blockchain, polling the node
+     * adaptively: rarely right after a block and often when the next block is due.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @return Observable that emits all new blocks as they are added to the blockchain
+     */
+    Observable<NeoGetBlock> adaptiveBlockObservable(boolean fullTransactionObjects);
+
+    /**
+     * Create an Observable that follows the chain across reorganizations: it emits newly added
+     * blocks, and explicit rollback events for blocks that the node abandoned when switching
+     * forks.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param confirmations          the number of blocks that must be built on top of a block
+     *                               before it is emitted
+     * @return Observable that emits block events as the chain changes
+     * @see ReorgAwareBlockStream
+     */
+    Observable<BlockEvent> reorgAwareBlockObservable(boolean fullTransactionObjects,
+            int confirmations);
+
     /**
      * Create an Observable that emits all blocks from the blockchain contained within the
      * requested range.
@@ -50,6 +80,19 @@ public interface Neow3jRx {
             BlockParameter startBlock, BlockParameter endBlock,
             boolean fullTransactionObjects, boolean ascending);
 
+    /**
+     * Create an Observable that emits the raw (serialized) blocks contained within the requested
+     * range, in ascending order. Blocks found in the archive are read from disk; the others are
+     * fetched from the node and appended to the archive if they extend it.
+     *
+     * @param archive    the local block archive
+     * @param startBlock block number to commence with
+     * @param endBlock   block number to finish with
+     * @return Observable to emit these blocks as read-only buffers
+     */
+    Observable<ByteBuffer> replayRawBlocksObservable(
+            BlockArchive archive, BlockParameter startBlock, BlockParameter endBlock);
+
     /**
      * Create an Observable that emits all transactions from the blockchain starting with a
      * provided block number. Once it has replayed up to the most current block, the provided
@@ -81,6 +124,16 @@ public interface Neow3jRx {
     Observable<NeoGetBlock> catchUpToLatestBlockObservable(
             BlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Creates an Observable that emits the transactions of all blocks from the requested block
+     * number to the most current. Once it has emitted the transactions of the most current
+     * block, onComplete is called.
+     *
+     * @param startBlock the block number we wish to request from
+     * @return Observable to emit the transactions of all requested blocks
+     */
+    Observable<Transaction> catchUpToLatestTransactionObservable(BlockParameter startBlock);
+
     /**
      * Creates an Observable that emits all blocks from the requested block number to the most
      * current. Once it has emitted the most current block, it starts emitting new blocks as they
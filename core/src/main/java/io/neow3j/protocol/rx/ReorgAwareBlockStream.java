@@ -0,0 +1,208 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.ChainReorganizationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.exceptions.Exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns a stream of new blocks into a stream of {@link BlockEvent}s that follows chain
+ * reorganizations.
+ *
+ * <p>The most recent blocks are kept in a ring buffer. Every incoming block must reference the
+ * previous block by its <code>previousblockhash</code>. If it does not, the node switched forks:
+ * the common ancestor is looked up in the history, the blocks above it are emitted as
+ * {@link BlockEvent.Type#ROLLED_BACK}, and the blocks of the new fork are fetched and emitted as
+ * {@link BlockEvent.Type#ADDED}. Blocks skipped by the source are fetched as well, so the
+ * emitted chain has no gaps.</p>
+ *
+ * <p>With a confirmation depth of <i>n</i>, a block is only emitted once <i>n</i> blocks have
+ * been built on top of it, so that reorganizations shallower than that are never seen
+ * downstream.</p>
+ *
+ * <pre>
+ * neow3j.blockObservable(false)
+ *         .compose(new ReorgAwareBlockStream(neow3j, false, 2))
+ *         .subscribe(event -&gt; ...);
+ * </pre>
+ */
+public class ReorgAwareBlockStream implements Observable.Transformer<NeoGetBlock, BlockEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReorgAwareBlockStream.class);
+
+    /**
+     * The number of recent blocks kept to find the common ancestor of a fork.
+     */
+    public static final int DEFAULT_HISTORY_SIZE = 100;
+
+    private final Neow3j neow3j;
+    private final boolean fullTransactionObjects;
+    private final int confirmations;
+    private final int historySize;
+
+    /**
+     * @param neow3j                 the client used to fetch missed blocks and forks
+     * @param fullTransactionObjects if true, fetched blocks include their transactions; this
+     *                               should match the source stream
+     * @param confirmations          the number of blocks on top of a block before it is emitted
+     */
+    public ReorgAwareBlockStream(Neow3j neow3j, boolean fullTransactionObjects,
+            int confirmations) {
+        this(neow3j, fullTransactionObjects, confirmations, DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * @param neow3j                 the client used to fetch missed blocks and forks
+     * @param fullTransactionObjects if true, fetched blocks include their transactions; this
+     *                               should match the source stream
+     * @param confirmations          the number of blocks on top of a block before it is emitted
+     * @param historySize            the number of recent blocks kept; forks deeper than this
+     *                               fail the stream with a {@link ChainReorganizationException}
+     */
+    public ReorgAwareBlockStream(Neow3j neow3j, boolean fullTransactionObjects,
+            int confirmations, int historySize) {
+        if (confirmations < 0) {
+            throw new IllegalArgumentException("The confirmation depth must not be negative.");
+        }
+        if (historySize <= confirmations) {
+            throw new IllegalArgumentException(
+                    "The history must be larger than the confirmation depth.");
+        }
+        this.neow3j = neow3j;
+        this.fullTransactionObjects = fullTransactionObjects;
+        this.confirmations = confirmations;
+        this.historySize = historySize;
+    }
+
+    @Override
+    public Observable<BlockEvent> call(Observable<NeoGetBlock> blocks) {
+        return Observable.defer(() -> {
+            Chain chain = new Chain();
+            return blocks.concatMapIterable(block -> {
+                try {
+                    return chain.onBlock(block.getBlock());
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            });
+        });
+    }
+
+    private class Chain {
+
+        private final NeoBlock[] history = new NeoBlock[historySize];
+        private long tip = -1;
+        private int size;
+        private long lastEmitted = -1;
+
+        List<BlockEvent> onBlock(NeoBlock block) throws IOException {
+            List<BlockEvent> events = new ArrayList<>();
+            connect(block, events);
+            return events;
+        }
+
+        private void connect(NeoBlock block, List<BlockEvent> events) throws IOException {
+            long index = block.getIndex();
+            if (size == 0) {
+                lastEmitted = index - 1;
+                push(block, events);
+                return;
+            }
+            if (index <= tip - size) {
+                LOG.debug("Ignoring block {} below the tracked history.", index);
+                return;
+            }
+            if (isTracked(index) && get(index).getHash().equals(block.getHash())) {
+                return;
+            }
+            while (tip + 1 < index) {
+                connect(fetch(tip + 1), events);
+            }
+            if (index == tip + 1 && get(tip).getHash().equals(block.getPrevBlockHash())) {
+                push(block, events);
+                return;
+            }
+
+            long ancestor = findCommonAncestor(Math.min(index - 1, tip));
+            LOG.info("Chain reorganization: rolling back {} block(s) above block {}.",
+                    tip - ancestor, ancestor);
+            rollBack(ancestor, events);
+            while (tip + 1 < index) {
+                connect(fetch(tip + 1), events);
+            }
+            if (index == tip + 1 && get(tip).getHash().equals(block.getPrevBlockHash())) {
+                push(block, events);
+            } else {
+                // the node moved on while the fork was resolved; the block is fetched again
+                // once the next block arrives
+                LOG.debug("Dropping stale block {} ({}).", index, block.getHash());
+            }
+        }
+
+        private long findCommonAncestor(long from) throws IOException {
+            long oldest = tip - size + 1;
+            for (long index = from; index >= oldest; index--) {
+                if (get(index).getHash().equals(fetchHash(index))) {
+                    return index;
+                }
+            }
+            throw new ChainReorganizationException("The node switched to a fork that diverges "
+                    + "below the " + size + " tracked blocks.", oldest);
+        }
+
+        private void rollBack(long ancestor, List<BlockEvent> events) {
+            while (tip > ancestor) {
+                int slot = slot(tip);
+                if (tip <= lastEmitted) {
+                    events.add(BlockEvent.rolledBack(history[slot]));
+                }
+                history[slot] = null;
+                tip--;
+                size--;
+            }
+            lastEmitted = Math.min(lastEmitted, ancestor);
+        }
+
+        private void push(NeoBlock block, List<BlockEvent> events) {
+            tip = block.getIndex();
+            history[slot(tip)] = block;
+            size = Math.min(size + 1, historySize);
+            while (lastEmitted < tip - confirmations) {
+                lastEmitted++;
+                events.add(BlockEvent.added(get(lastEmitted)));
+            }
+        }
+
+        private boolean isTracked(long index) {
+            return index <= tip && index > tip - size;
+        }
+
+        private NeoBlock get(long index) {
+            return history[slot(index)];
+        }
+
+        private int slot(long index) {
+            return (int) Math.floorMod(index, (long) historySize);
+        }
+
+        private NeoBlock fetch(long index) throws IOException {
+            return Fetches.send(neow3j.getBlock(new BlockParameterIndex(index),
+                    fullTransactionObjects), "block " + index).getBlock();
+        }
+
+        private String fetchHash(long index) throws IOException {
+            return Fetches.send(neow3j.getBlockHash(new BlockParameterIndex(index)),
+                    "block " + index).getResult();
+        }
+    }
+
+}
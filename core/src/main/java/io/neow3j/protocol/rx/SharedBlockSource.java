@@ -0,0 +1,114 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.BackpressureOverflow;
+import rx.Observable;
+import rx.Scheduler;
+
+import java.math.BigInteger;
+
+/**
+ * Hot source of new blocks shared by all subscribers of one {@link Neow3j} instance.
+ *
+ * <p>The node is polled by a single loop while at least one subscriber is connected, and every
+ * new block is fetched once per kind (full block or header) no matter how many subscribers
+ * there are. The loop stops when the last subscriber unsubscribes and is restarted by the next
+ * subscription.</p>
+ *
+ * <p>Each subscriber is served on its own worker of the given scheduler and gets its own buffer,
+ * so a slow subscriber does not hold back the poller or the other subscribers. A subscriber
+ * whose buffer overflows receives a {@link rx.exceptions.MissingBackpressureException} and is
+ * disconnected; the others are not affected.</p>
+ */
+public class SharedBlockSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedBlockSource.class);
+
+    /**
+     * The number of blocks buffered for a subscriber before it is disconnected.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final Scheduler scheduler;
+    private final Observable<Long> blockIndexes;
+    private final Observable<NeoGetBlock> blocks;
+    private final Observable<NeoGetBlock> blockHeaders;
+
+    /**
+     * @param neow3j       the client used to fetch the blocks
+     * @param blockIndexes a cold Observable polling the node for new block indexes; it is
+     *                     subscribed to at most once at a time
+     * @param scheduler    the scheduler delivering the blocks to the subscribers; it must not
+     *                     share its threads with the poller, since a subscriber that blocks
+     *                     occupies a thread of it
+     */
+    public SharedBlockSource(Neow3j neow3j, Observable<Long> blockIndexes,
+            Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.blockIndexes = blockIndexes.onBackpressureBuffer().share();
+        this.blocks = fetchBlocks(neow3j, this.blockIndexes, true);
+        this.blockHeaders = fetchBlocks(neow3j, this.blockIndexes, false);
+    }
+
+    private static Observable<NeoGetBlock> fetchBlocks(Neow3j neow3j,
+            Observable<Long> blockIndexes, boolean fullTransactionObjects) {
+        return blockIndexes
+                .concatMap(blockIndex -> neow3j.getBlock(
+                        new BlockParameterIndex(blockIndex), fullTransactionObjects)
+                        .observable()
+                        .retry(Fetches.RETRIES))
+                .share();
+    }
+
+    /**
+     * @return Observable that emits the index of every new block
+     */
+    public Observable<BigInteger> blockIndexObservable() {
+        return blockIndexObservable(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize the number of block indexes buffered for the subscriber
+     * @return Observable that emits the index of every new block
+     */
+    public Observable<BigInteger> blockIndexObservable(int bufferSize) {
+        return fanOut(blockIndexes, bufferSize).map(BigInteger::valueOf);
+    }
+
+    /**
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @return Observable that emits every new block, in order
+     */
+    public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects) {
+        return blockObservable(fullTransactionObjects, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param bufferSize             the number of blocks buffered for the subscriber
+     * @return Observable that emits every new block, in order
+     */
+    public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects,
+            int bufferSize) {
+        return fanOut(fullTransactionObjects ? blocks : blockHeaders, bufferSize);
+    }
+
+    private <T> Observable<T> fanOut(Observable<T> source, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive.");
+        }
+        return source
+                .onBackpressureBuffer(bufferSize,
+                        () -> LOG.warn("Block subscriber fell {} blocks behind, disconnecting it.",
+                                bufferSize),
+                        BackpressureOverflow.ON_OVERFLOW_ERROR)
+                .observeOn(scheduler, 1);
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides for how long the response of a request may be served from a {@link CachingService}.
+ */
+@FunctionalInterface
+public interface CachePolicy {
+
+    /**
+     * Time to live signalling that a response must not be cached.
+     */
+    long DO_NOT_CACHE = 0;
+
+    /**
+     * Time to live signalling that a response never changes.
+     */
+    long IMMUTABLE = Long.MAX_VALUE;
+
+    /**
+     * Determines the time to live of a successful response.
+     *
+     * @param request  the request that was sent
+     * @param response the response received for it
+     * @return the time to live in milliseconds, {@link #DO_NOT_CACHE} or {@link #IMMUTABLE}
+     */
+    long getTimeToLive(Request<?, ?> request, Response<?> response);
+
+    /**
+     * @return a policy for results that can change at any time, e.g. <code>getblockcount</code>
+     */
+    static CachePolicy never() {
+        return (request, response) -> DO_NOT_CACHE;
+    }
+
+    /**
+     * @return a policy for results that never change once they are available
+     */
+    static CachePolicy immutable() {
+        return (request, response) -> IMMUTABLE;
+    }
+
+    /**
+     * @param duration the time to live
+     * @param unit     the unit of the time to live
+     * @return a policy keeping every result for a fixed time
+     */
+    static CachePolicy ttl(long duration, TimeUnit unit) {
+        long millis = unit.toMillis(duration);
+        return (request, response) -> millis;
+    }
+
+    /**
+     * Policy for <code>getblock</code> and <code>getblockheader</code>. A serialized block
+     * requested by hash is immutable. Verbose responses also carry the confirmations and the
+     * next block hash and are only cached once the block is buried under the given number of
+     * confirmations, whether it was requested by hash or by index.
+     *
+     * @param confirmations the minimum number of confirmations
+     * @return the policy
+     */
+    static CachePolicy confirmedBlock(int confirmations) {
+        return (request, response) -> {
+            if (response instanceof NeoGetBlock) {
+                NeoGetBlock block = (NeoGetBlock) response;
+                if (block.getBlock() != null
+                        && block.getBlock().getConfirmations() >= confirmations) {
+                    return IMMUTABLE;
+                }
+                return DO_NOT_CACHE;
+            }
+            List<?> params = request.getParams();
+            if (params != null && !params.isEmpty() && params.get(0) instanceof String) {
+                return IMMUTABLE;
+            }
+            return DO_NOT_CACHE;
+        };
+    }
+
+    /**
+     * Policy for <code>getrawtransaction</code>. The serialized transaction is identified by
+     * its hash and therefore immutable. Verbose responses also carry block information and are
+     * only cached once the transaction has the given number of confirmations.
+     *
+     * @param confirmations the minimum number of confirmations
+     * @return the policy
+     */
+    static CachePolicy confirmedTransaction(int confirmations) {
+        return (request, response) -> {
+            if (!(response instanceof NeoGetTransaction)) {
+                return IMMUTABLE;
+            }
+            NeoGetTransaction tx = (NeoGetTransaction) response;
+            if (tx.getTransaction() != null && tx.getTransaction().getConfirmations() != null
+                    && tx.getTransaction().getConfirmations() >= confirmations) {
+                return IMMUTABLE;
+            }
+            return DO_NOT_CACHE;
+        };
+    }
+
+}
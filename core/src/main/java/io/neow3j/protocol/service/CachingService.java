@@ -0,0 +1,305 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.crypto.Hash;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in service decorator that caches responses of the wrapped service.
+ *
+ * <p>Whether and for how long a response is kept is decided by the {@link CachePolicy} of its
+ * JSON-RPC method. Methods without a policy, and all error responses, are never cached. By
+ * default, blocks, transactions, application logs, asset and contract states are cached as
+ * immutable once they have {@link #DEFAULT_CONFIRMATIONS} confirmations (or are serialized
+ * blocks requested by hash). Use {@link #setPolicy(String, CachePolicy)} to change that.
+ *
+ * <p>The in-memory tier is a LRU map bounded by the size of the JSON encoded responses. If a
+ * directory is given, immutable responses are additionally written to disk and survive
+ * evictions and restarts. The disk tier is not bounded.
+ *
+ * <p>Cached responses are shared between callers and must be treated as read-only. Their id is
+ * the id of the request that originally fetched them.
+ */
+public class CachingService extends ForwardingService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingService.class);
+
+    public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+    public static final int DEFAULT_CONFIRMATIONS = 6;
+
+    private static final String DISK_ENTRY_SUFFIX = ".json";
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final Map<String, CachePolicy> policies = new ConcurrentHashMap<>();
+
+    private final LinkedHashMap<RequestKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long maxBytes;
+
+    private final File diskDirectory;
+
+    private long currentBytes;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingService(Neow3jService delegate) {
+        this(delegate, DEFAULT_MAX_BYTES);
+    }
+
+    public CachingService(Neow3jService delegate, long maxBytes) {
+        this(delegate, maxBytes, null);
+    }
+
+    /**
+     * @param delegate      the service to fetch responses from
+     * @param maxBytes      the maximum size of the in-memory tier, measured in bytes of JSON
+     * @param diskDirectory the directory of the on-disk tier, or null to keep the cache in
+     *                      memory only
+     */
+    public CachingService(Neow3jService delegate, long maxBytes, File diskDirectory) {
+        super(delegate);
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("The cache size cannot be negative.");
+        }
+        this.maxBytes = maxBytes;
+        this.diskDirectory = diskDirectory;
+        if (diskDirectory != null && !diskDirectory.isDirectory() && !diskDirectory.mkdirs()) {
+            throw new IllegalArgumentException(
+                    "Cache directory cannot be created: " + diskDirectory);
+        }
+        setDefaultPolicies(DEFAULT_CONFIRMATIONS);
+    }
+
+    private void setDefaultPolicies(int confirmations) {
+        policies.put("getblock", CachePolicy.confirmedBlock(confirmations));
+        policies.put("getblockheader", CachePolicy.confirmedBlock(confirmations));
+        policies.put("getrawtransaction", CachePolicy.confirmedTransaction(confirmations));
+        policies.put("getapplicationlog", CachePolicy.immutable());
+        policies.put("getassetstate", CachePolicy.immutable());
+        policies.put("getcontractstate", CachePolicy.immutable());
+    }
+
+    /**
+     * Sets the cache policy of a JSON-RPC method, replacing any previous one.
+     *
+     * @param method the JSON-RPC method, e.g. <code>getblock</code>
+     * @param policy the policy, or null to never cache the method
+     */
+    public void setPolicy(String method, CachePolicy policy) {
+        if (policy == null) {
+            policies.remove(method);
+        } else {
+            policies.put(method, policy);
+        }
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        CachePolicy policy = policies.get(request.getMethod());
+        if (policy == null) {
+            return delegate.send(request, responseType);
+        }
+
+        RequestKey key = RequestKey.of(request, responseType);
+        T cached = (T) lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        T response = delegate.send(request, responseType);
+        if (response != null && !response.hasError()) {
+            long ttl = policy.getTimeToLive(request, response);
+            if (ttl > CachePolicy.DO_NOT_CACHE) {
+                store(key, response, ttl);
+            }
+        }
+        return response;
+    }
+
+    private Response<?> lookup(RequestKey key) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > clock.getAsLong()) {
+                    hits.incrementAndGet();
+                    return entry.response;
+                }
+                remove(key);
+            }
+        }
+        if (diskDirectory != null) {
+            Response<?> response = readFromDisk(key);
+            if (response != null) {
+                diskHits.incrementAndGet();
+                put(key, new Entry(response, sizeOf(response), CachePolicy.IMMUTABLE));
+                return response;
+            }
+        }
+        return null;
+    }
+
+    private void store(RequestKey key, Response<?> response, long ttl) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            LOG.warn("Response of {} cannot be serialized and will not be cached.", key, e);
+            return;
+        }
+        long expiresAt = ttl == CachePolicy.IMMUTABLE
+                ? CachePolicy.IMMUTABLE : saturatedAdd(clock.getAsLong(), ttl);
+        put(key, new Entry(response, json.length, expiresAt));
+        if (diskDirectory != null && ttl == CachePolicy.IMMUTABLE) {
+            writeToDisk(key, json);
+        }
+    }
+
+    private synchronized void put(RequestKey key, Entry entry) {
+        if (entry.size > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, entry);
+        currentBytes += entry.size;
+        Iterator<Map.Entry<RequestKey, Entry>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().getValue().size;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void remove(RequestKey key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            currentBytes -= removed.size;
+        }
+    }
+
+    private long sizeOf(Response<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response).length;
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private File diskFile(RequestKey key) {
+        String id = key.getMethod() + key.getParams() + key.getResponseType().getName();
+        String name = Numeric.toHexStringNoPrefix(Hash.sha256(id.getBytes(StandardCharsets.UTF_8)));
+        return new File(diskDirectory, name + DISK_ENTRY_SUFFIX);
+    }
+
+    private Response<?> readFromDisk(RequestKey key) {
+        File file = diskFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return (Response<?>) objectMapper.readValue(file, key.getResponseType());
+        } catch (IOException e) {
+            LOG.warn("Cache entry {} cannot be read and is discarded.", file, e);
+            file.delete();
+            return null;
+        }
+    }
+
+    private void writeToDisk(RequestKey key, byte[] json) {
+        File file = diskFile(key);
+        try {
+            // write to a temporary file first so readers never see partial entries
+            File tmp = File.createTempFile(file.getName(), ".tmp", diskDirectory);
+            Files.write(tmp.toPath(), json);
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Cache entry {} cannot be written.", file, e);
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < a ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Removes all entries from the in-memory tier. The disk tier is left untouched.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getDiskHitCount() {
+        return diskHits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private static class Entry {
+
+        private final Response<?> response;
+        private final long size;
+        private final long expiresAt;
+
+        private Entry(Response<?> response, long size, long expiresAt) {
+            this.response = response;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service decorator that coalesces identical in-flight requests ("single-flight").
+ *
+ * <p>While a request is being executed by the wrapped service, every other request with the same
+ * method, parameters and response type waits for that call instead of issuing its own, and
+ * receives the very same deserialized {@link Response} instance. Callers must therefore treat
+ * responses as read-only. Note that the id of a shared response is the id of the request that
+ * actually went over the wire.
+ *
+ * <p>Methods that are not idempotent (see {@link RpcMethods#NON_IDEMPOTENT}) are never
+ * coalesced.
+ */
+public class CoalescingService extends ForwardingService {
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<Response<?>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public CoalescingService(Neow3jService delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        requestCount.incrementAndGet();
+        if (!RpcMethods.isIdempotent(request.getMethod())) {
+            return delegate.send(request, responseType);
+        }
+
+        RequestKey key = RequestKey.of(request, responseType);
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        try {
+            T response = delegate.send(request, responseType);
+            call.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // also on Errors, since the waiting callers have no timeout
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static Response<?> await(CompletableFuture<Response<?>> call) throws IOException {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a coalesced request.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * @return the total number of requests passed to this service
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of requests that were served by another caller's in-flight request
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return the share of requests that did not cause a call of their own, between 0 and 1
+     */
+    public double getDedupRatio() {
+        long requests = requestCount.get();
+        return requests == 0 ? 0d : (double) coalescedCount.get() / requests;
+    }
+
+    /**
+     * @return the number of distinct requests currently being executed
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,93 @@
+package io.neow3j.protocol.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive concurrency limiter using additive increase, multiplicative decrease (AIMD).
+ *
+ * <p>The limit grows by one for every window of successful calls that used the current limit,
+ * and is multiplied by the backoff ratio whenever a call is dropped, i.e. throttled by the node
+ * (HTTP 429), failed, or took longer than the latency threshold. It thereby finds the highest
+ * concurrency an endpoint sustains without throttling.
+ */
+public class ConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final long DEFAULT_LATENCY_THRESHOLD_MILLIS = 5000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public ConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, 1, DEFAULT_MAX_LIMIT, DEFAULT_BACKOFF_RATIO,
+                DEFAULT_LATENCY_THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param initialLimit     the limit to start with
+     * @param minLimit         the lower bound of the limit
+     * @param maxLimit         the upper bound of the limit
+     * @param backoffRatio     the factor applied to the limit when a call is dropped
+     * @param latencyThreshold calls slower than this count as dropped
+     * @param unit             the unit of the latency threshold
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                              long latencyThreshold, TimeUnit unit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("The backoff ratio must be between 0 and 1.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+    }
+
+    /**
+     * Waits until the number of calls in flight is below the current limit and registers a
+     * new call.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /**
+     * Registers the completion of a call.
+     *
+     * @param latencyNanos the duration of the call
+     * @param dropped      true if the call was throttled or failed
+     */
+    public synchronized void release(long latencyNanos, boolean dropped) {
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            // only grow while at least half of the limit is used, by one per limit calls
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        inFlight--;
+        notifyAll();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,65 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.metrics.MetricsListener;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for services that decorate another {@link Neow3jService}.
+ *
+ * <p>All calls are forwarded to the wrapped service. Subclasses override
+ * {@link #send(Request, Class)} to add behaviour; {@link #sendAsync(Request, Class)} runs the
+ * (decorated) synchronous path so that asynchronous requests are decorated as well.
+ */
+public abstract class ForwardingService implements Neow3jService {
+
+    protected final Neow3jService delegate;
+
+    protected ForwardingService(Neow3jService delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("The wrapped service cannot be null.");
+        }
+        this.delegate = delegate;
+    }
+
+    public Neow3jService getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        return delegate.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return Async.run(() -> send(request, responseType));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request,
+            String unsubscribeMethod,
+            Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void setMetricsListener(MetricsListener metricsListener) {
+        delegate.setMetricsListener(metricsListener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
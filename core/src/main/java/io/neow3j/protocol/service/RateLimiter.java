@@ -0,0 +1,77 @@
+package io.neow3j.protocol.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter.
+ *
+ * <p>Tokens are added at a fixed rate up to a maximum burst size. A caller that finds the bucket
+ * empty reserves the next token and waits until it becomes available, so callers are served in
+ * arrival order and the long term rate never exceeds the configured one.
+ */
+public class RateLimiter {
+
+    private final long nanosPerPermit;
+    private final long burstNanos;
+
+    // theoretical arrival time of the next permit, see the generic cell rate algorithm
+    private long nextArrivalNanos;
+
+    /**
+     * @param permitsPerSecond the sustained rate
+     * @param burst            the number of permits that can be taken at once after idling
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive.");
+        }
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.nextArrivalNanos = System.nanoTime();
+    }
+
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    /**
+     * Takes a permit, waiting until one is available.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a permit if one is available immediately.
+     *
+     * @return true if a permit was taken
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (Math.max(nextArrivalNanos, now) + nanosPerPermit - now > burstNanos) {
+            return false;
+        }
+        reserve(now);
+        return true;
+    }
+
+    /**
+     * Reserves the next permit.
+     *
+     * @param now the current time in nanoseconds
+     * @return the time to wait for the reserved permit in nanoseconds
+     */
+    synchronized long reserve(long now) {
+        nextArrivalNanos = Math.max(nextArrivalNanos, now) + nanosPerPermit;
+        return Math.max(0, nextArrivalNanos - now - burstNanos);
+    }
+
+    public double getRate() {
+        return (double) TimeUnit.SECONDS.toNanos(1) / nanosPerPermit;
+    }
+}
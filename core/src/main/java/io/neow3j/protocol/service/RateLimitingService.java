@@ -0,0 +1,88 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service decorator throttling the calls to a single endpoint.
+ *
+ * <p>Every call first takes a permit from the {@link RateLimiter}, capping the request rate,
+ * and then a slot from the {@link ConcurrencyLimiter}, which adapts the number of parallel calls
+ * to what the endpoint sustains. Responses with HTTP status 429 (too many requests) and other
+ * failures shrink the concurrency limit. Either limiter may be null to disable it.
+ */
+public class RateLimitingService extends ForwardingService {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final AtomicLong throttled = new AtomicLong();
+
+    public RateLimitingService(Neow3jService delegate, double requestsPerSecond) {
+        this(delegate, new RateLimiter(requestsPerSecond), new ConcurrencyLimiter());
+    }
+
+    public RateLimitingService(Neow3jService delegate, RateLimiter rateLimiter,
+                               ConcurrencyLimiter concurrencyLimiter) {
+        super(delegate);
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a permit.");
+        }
+        if (concurrencyLimiter == null) {
+            return delegate.send(request, responseType);
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T response = delegate.send(request, responseType);
+            dropped = false;
+            return response;
+        } catch (ClientConnectionException e) {
+            if (e.getStatusCode() == TOO_MANY_REQUESTS) {
+                throttled.incrementAndGet();
+            }
+            throw e;
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return the number of calls rejected by the endpoint with HTTP status 429
+     */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+}
@@ -0,0 +1,151 @@
+package io.neow3j.protocol.service;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A request/response pair captured by {@link RecordingService}.
+ *
+ * <p>Recordings are gzip compressed files starting with a magic number and a format version,
+ * followed by length-prefixed records. Responses are stored as the JSON of the deserialized
+ * response object; failed requests store the error message instead.
+ */
+public final class RecordedExchange {
+
+    static final int MAGIC = 0x4E334A52;
+    static final int VERSION = 2;
+
+    private final long startNanos;
+    private final long durationNanos;
+    private final RequestKey key;
+    private final byte[] response;
+    private final String error;
+
+    RecordedExchange(long startNanos, long durationNanos, RequestKey key, byte[] response,
+                     String error) {
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+        this.key = key;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Reads all exchanges of a recording.
+     *
+     * @param file the recording
+     * @return the exchanges in the order in which they were recorded
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static List<RecordedExchange> readAll(File file) throws IOException {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a neow3j recording.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported recording version " + version + ".");
+            }
+            while (true) {
+                long start;
+                try {
+                    start = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                exchanges.add(read(start, in));
+            }
+        }
+        return exchanges;
+    }
+
+    private static RecordedExchange read(long start, DataInputStream in) throws IOException {
+        long duration = in.readLong();
+        String method = in.readUTF();
+        String responseType = in.readUTF();
+        String params = new String(readBytes(in, in.readInt()), StandardCharsets.UTF_8);
+        Class<?> type;
+        try {
+            type = Class.forName(responseType);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown response type " + responseType + ".", e);
+        }
+        RequestKey key = new RequestKey(method, params, type);
+        int length = in.readInt();
+        if (length < 0) {
+            String error = new String(readBytes(in, in.readInt()), StandardCharsets.UTF_8);
+            return new RecordedExchange(start, duration, key, null, error);
+        }
+        return new RecordedExchange(start, duration, key, readBytes(in, length), null);
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(startNanos);
+        out.writeLong(durationNanos);
+        out.writeUTF(key.getMethod());
+        out.writeUTF(key.getResponseType().getName());
+        byte[] params = key.getParams().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(params.length);
+        out.write(params);
+        if (response == null) {
+            // error messages may contain a whole response body, too long for writeUTF
+            byte[] message = (error == null ? "" : error).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(-1);
+            out.writeInt(message.length);
+            out.write(message);
+        } else {
+            out.writeInt(response.length);
+            out.write(response);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return the time at which the request was sent, relative to the start of the recording.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public RequestKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return the JSON of the response, or null if the request failed.
+     */
+    public byte[] getResponse() {
+        return response;
+    }
+
+    /**
+     * @return the error message of a failed request, or null.
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFailed() {
+        return response == null;
+    }
+}
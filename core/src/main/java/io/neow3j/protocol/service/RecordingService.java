@@ -0,0 +1,99 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service decorator that records every request and its response or failure, together with its
+ * timing, to a compressed file. The recording can be served again with {@link ReplayService}.
+ *
+ * <p>The file is complete once this service is closed.
+ */
+public class RecordingService extends ForwardingService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecordingService.class);
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final DataOutputStream out;
+    private final long startNanos = System.nanoTime();
+    private long recordCount;
+    private boolean closed;
+
+    /**
+     * @param delegate the service performing the requests
+     * @param file     the file to record to; it is overwritten
+     * @throws IOException if the file cannot be created
+     */
+    public RecordingService(Neow3jService delegate, File file) throws IOException {
+        super(delegate);
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(file), 8192)));
+        out.writeInt(RecordedExchange.MAGIC);
+        out.writeInt(RecordedExchange.VERSION);
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        RequestKey key = RequestKey.of(request, responseType);
+        long start = System.nanoTime();
+        T response;
+        try {
+            response = delegate.send(request, responseType);
+        } catch (IOException | RuntimeException e) {
+            record(new RecordedExchange(start - startNanos, System.nanoTime() - start, key,
+                    null, String.valueOf(e.getMessage())));
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        if (response != null) {
+            record(new RecordedExchange(start - startNanos, duration, key,
+                    objectMapper.writeValueAsBytes(response), null));
+        }
+        return response;
+    }
+
+    private synchronized void record(RecordedExchange exchange) {
+        if (closed) {
+            return;
+        }
+        try {
+            exchange.write(out);
+            recordCount++;
+        } catch (IOException e) {
+            LOG.warn("Could not record {} request: {}", exchange.getKey().getMethod(), e);
+        }
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Completes the recording and closes the wrapped service.
+     *
+     * @throws IOException if the recording or the wrapped service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (!closed) {
+                closed = true;
+                out.close();
+            }
+        }
+        super.close();
+    }
+}
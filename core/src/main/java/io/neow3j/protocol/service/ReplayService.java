@@ -0,0 +1,133 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.utils.Async;
+import rx.Observable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that answers requests from a recording made with {@link RecordingService}, without
+ * a node.
+ *
+ * <p>Requests are matched by method, parameters and response type. Identical requests are
+ * answered with their recorded responses in recording order; once those are used up the last
+ * one is repeated. Each response is delayed by its recorded duration multiplied by the time
+ * scale, so 1 reproduces the original timings and 0 answers immediately. Recorded failures are
+ * thrown as {@link IOException}s.
+ */
+public class ReplayService implements Neow3jService {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final Map<RequestKey, Replies> replies = new HashMap<>();
+    private final List<RecordedExchange> exchanges;
+    private volatile double timeScale = 1;
+
+    /**
+     * @param recording the recording file
+     * @throws IOException if the recording cannot be read
+     */
+    public ReplayService(File recording) throws IOException {
+        this(RecordedExchange.readAll(recording));
+    }
+
+    public ReplayService(List<RecordedExchange> exchanges) {
+        this.exchanges = exchanges;
+        for (RecordedExchange exchange : exchanges) {
+            replies.computeIfAbsent(exchange.getKey(), k -> new Replies()).exchanges.add(exchange);
+        }
+    }
+
+    /**
+     * @param timeScale the factor applied to the recorded durations; 0 disables the delays
+     */
+    public void setTimeScale(double timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("The time scale cannot be negative.");
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * @return all recorded exchanges, e.g. to re-issue the recorded traffic.
+     */
+    public List<RecordedExchange> getExchanges() {
+        return exchanges;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        RequestKey key = RequestKey.of(request, responseType);
+        Replies candidates = replies.get(key);
+        if (candidates == null) {
+            throw new IOException("No recorded response for " + request.getMethod()
+                    + " with parameters " + key.getParams() + ".");
+        }
+        RecordedExchange exchange = candidates.next();
+        sleep((long) (exchange.getDurationNanos() * timeScale));
+        if (exchange.isFailed()) {
+            throw new IOException(exchange.getError());
+        }
+        T response = objectMapper.readValue(exchange.getResponse(), responseType);
+        response.setId(request.getId());
+        return response;
+    }
+
+    void sleep(long nanos) throws IOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while replaying.", e);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return Async.run(() -> send(request, responseType));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(
+            Request request,
+            String unsubscribeMethod,
+            Class<T> responseType) {
+        throw new UnsupportedOperationException(
+                String.format(
+                        "Service %s does not support subscriptions",
+                        this.getClass().getSimpleName()));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static class Replies {
+
+        private final List<RecordedExchange> exchanges = new ArrayList<>();
+        private int next;
+
+        private synchronized RecordedExchange next() {
+            RecordedExchange exchange = exchanges.get(Math.min(next, exchanges.size() - 1));
+            next++;
+            return exchange;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+
+import java.util.Objects;
+
+/**
+ * Identity of a JSON-RPC call, made of the method name, its JSON encoded parameters and the
+ * expected response type. The request id is deliberately not part of the key, so two
+ * {@link Request}s asking the node for the same thing have equal keys.
+ */
+public final class RequestKey {
+
+    private final String method;
+    private final String params;
+    private final Class<?> responseType;
+    private final int hashCode;
+
+    public RequestKey(String method, String params, Class<?> responseType) {
+        this.method = method;
+        this.params = params;
+        this.responseType = responseType;
+        this.hashCode = Objects.hash(method, params, responseType);
+    }
+
+    /**
+     * Builds the key of the given request.
+     *
+     * @param request      the request
+     * @param responseType the class the response is deserialized into
+     * @return the key
+     */
+    public static RequestKey of(Request<?, ?> request, Class<?> responseType) {
+        String params;
+        try {
+            params = ObjectMapperFactory.getObjectMapper().writeValueAsString(request.getParams());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    "Parameters of method " + request.getMethod() + " cannot be serialized.", e);
+        }
+        return new RequestKey(request.getMethod(), params, responseType);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getParams() {
+        return params;
+    }
+
+    public Class<?> getResponseType() {
+        return responseType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RequestKey)) return false;
+        RequestKey that = (RequestKey) o;
+        return Objects.equals(getMethod(), that.getMethod()) &&
+                Objects.equals(getParams(), that.getParams()) &&
+                Objects.equals(getResponseType(), that.getResponseType());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestKey{" +
+                "method='" + method + '\'' +
+                ", params=" + params +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package io.neow3j.protocol.service;
+
+/**
+ * Limits retries to a share of the regular traffic, so that retries cannot multiply the load on
+ * a node that is already failing.
+ *
+ * <p>Every request deposits <code>ratio</code> tokens and every retry withdraws one. The balance
+ * is capped, and a retry is only allowed while at least one token is available. With a ratio of
+ * 0.1, at most roughly one retry per ten requests is sent once the initial reserve is used up.
+ */
+public class RetryBudget {
+
+    public static final double DEFAULT_RATIO = 0.1;
+    public static final int DEFAULT_RESERVE = 10;
+
+    private final double ratio;
+    private final double maxBalance;
+    private double balance;
+
+    public RetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_RESERVE);
+    }
+
+    /**
+     * @param ratio   the tokens earned per request
+     * @param reserve the initial and maximum number of retries that can be saved up
+     */
+    public RetryBudget(double ratio, int reserve) {
+        if (ratio < 0 || reserve < 0) {
+            throw new IllegalArgumentException("Ratio and reserve cannot be negative.");
+        }
+        this.ratio = ratio;
+        this.maxBalance = reserve;
+        this.balance = reserve;
+    }
+
+    /**
+     * @return a budget that never limits retries
+     */
+    public static RetryBudget unlimited() {
+        return new RetryBudget(1, Integer.MAX_VALUE);
+    }
+
+    public synchronized void onRequest() {
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * @return true and withdraws one token if a retry is allowed
+     */
+    public synchronized boolean tryRetry() {
+        if (balance >= 1) {
+            balance -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized double getBalance() {
+        return balance;
+    }
+}
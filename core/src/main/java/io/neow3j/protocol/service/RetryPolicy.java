@@ -0,0 +1,109 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.neow3j.protocol.exceptions.CircuitBreakerOpenException;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry configuration for the {@link RetryingService}: how often a failed call is repeated and
+ * how long to wait in between.
+ *
+ * <p>Delays grow exponentially from the initial delay up to the maximum delay and are fully
+ * jittered, i.e. the actual delay is drawn uniformly between zero and the exponential value, so
+ * that many clients failing at the same time do not retry in lockstep.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 100;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 5000;
+
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param maxAttempts  the maximum number of attempts, including the first one
+     * @param initialDelay the upper bound of the delay before the first retry
+     * @param maxDelay     the upper bound of any delay
+     * @param unit         the unit of the delays
+     */
+    public RetryPolicy(int maxAttempts, long initialDelay, long maxDelay, TimeUnit unit) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is required.");
+        }
+        if (initialDelay < 0 || maxDelay < initialDelay) {
+            throw new IllegalArgumentException("Invalid delays: " + initialDelay + ", " + maxDelay);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = unit.toMillis(initialDelay);
+        this.maxDelayMillis = unit.toMillis(maxDelay);
+    }
+
+    /**
+     * @return a policy that never retries
+     */
+    public static RetryPolicy none() {
+        return new RetryPolicy(1, 0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Computes the jittered delay before the given retry.
+     *
+     * @param retry the number of the retry, starting at 1
+     * @return the delay in milliseconds
+     */
+    public long getDelayMillis(int retry) {
+        long ceiling = initialDelayMillis;
+        for (int i = 1; i < retry && ceiling < maxDelayMillis; i++) {
+            ceiling *= 2;
+        }
+        ceiling = Math.min(ceiling, maxDelayMillis);
+        return ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Decides if a failure is transient and the call may be repeated. Connection failures,
+     * server errors (5xx), timeouts (408) and throttling (429) are retryable, other client
+     * errors are not. Responses that cannot be parsed are not retryable either, since the node
+     * would most likely answer the same again.
+     *
+     * @param failure the failure of the last attempt
+     * @return true if the call may be repeated
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof CircuitBreakerOpenException) {
+            return false;
+        }
+        if (failure instanceof ClientConnectionException) {
+            int code = ((ClientConnectionException) failure).getStatusCode();
+            return code == ClientConnectionException.NO_STATUS_CODE
+                    || code >= 500 || code == 408 || code == 429;
+        }
+        if (failure instanceof JsonProcessingException) {
+            return false;
+        }
+        return failure instanceof IOException;
+    }
+}
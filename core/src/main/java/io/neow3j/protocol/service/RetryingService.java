@@ -0,0 +1,142 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.exceptions.CircuitBreakerOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service decorator adding retries with jittered exponential backoff, a retry budget and a
+ * circuit breaker in front of a single endpoint.
+ *
+ * <p>Only idempotent methods (see {@link RpcMethods}) are retried, and only on failures the
+ * {@link RetryPolicy} considers transient. JSON-RPC error responses are returned as they are.
+ * All methods go through the circuit breaker: while it is open, calls fail immediately with a
+ * {@link CircuitBreakerOpenException}.
+ *
+ * <p>Use one instance per endpoint, since the breaker tracks the health of the wrapped service.
+ */
+public class RetryingService extends ForwardingService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RetryingService.class);
+
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public RetryingService(Neow3jService delegate) {
+        this(delegate, new RetryPolicy(), new RetryBudget(), new CircuitBreaker());
+    }
+
+    /**
+     * @param delegate       the endpoint
+     * @param retryPolicy    the retry configuration
+     * @param retryBudget    the budget limiting the share of retries
+     * @param circuitBreaker the circuit breaker of the endpoint, or null to disable it
+     */
+    public RetryingService(Neow3jService delegate, RetryPolicy retryPolicy,
+                           RetryBudget retryBudget, CircuitBreaker circuitBreaker) {
+        super(delegate);
+        this.retryPolicy = retryPolicy;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public <T extends Response> T send(
+            Request request, Class<T> responseType) throws IOException {
+        retryBudget.onRequest();
+        boolean retryable = RpcMethods.isIdempotent(request.getMethod());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(request, responseType);
+            } catch (IOException | RuntimeException e) {
+                if (!retryable || attempt >= retryPolicy.getMaxAttempts()
+                        || !retryPolicy.isRetryable(e)) {
+                    throw e;
+                }
+                if (!retryBudget.tryRetry()) {
+                    LOG.debug("Retry budget exhausted, not retrying {}.", request.getMethod());
+                    throw e;
+                }
+                retries.incrementAndGet();
+                long delay = retryPolicy.getDelayMillis(attempt);
+                LOG.debug("Attempt {} of {} failed, retrying in {} ms.",
+                        attempt, request.getMethod(), delay, e);
+                sleep(delay);
+            }
+        }
+    }
+
+    private <T extends Response> T attempt(
+            Request request, Class<T> responseType) throws IOException {
+        if (circuitBreaker == null) {
+            return delegate.send(request, responseType);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new CircuitBreakerOpenException(
+                    "Circuit breaker is open, not sending " + request.getMethod());
+        }
+        boolean recorded = false;
+        try {
+            T response = delegate.send(request, responseType);
+            circuitBreaker.onSuccess();
+            recorded = true;
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (retryPolicy.isRetryable(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                // the node answered, so the endpoint itself is healthy
+                circuitBreaker.onSuccess();
+            }
+            recorded = true;
+            throw e;
+        } finally {
+            if (!recorded) {
+                // an Error must not leave a half-open trial in flight forever
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    void sleep(long millis) throws IOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry.");
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return the number of retries sent
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * @return the number of calls rejected by the open circuit breaker
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
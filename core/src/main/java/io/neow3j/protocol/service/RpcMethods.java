@@ -0,0 +1,31 @@
+package io.neow3j.protocol.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classification of the NEO JSON-RPC methods, used by the service decorators to decide which
+ * calls can safely be shared, cached or repeated.
+ */
+public final class RpcMethods {
+
+    /**
+     * Methods that change state on the node or return a different result on every call. They
+     * must never be coalesced, cached or retried implicitly.
+     */
+    public static final Set<String> NON_IDEMPOTENT = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(
+                    "sendrawtransaction",
+                    "sendtoaddress",
+                    "sendmany",
+                    "submitblock",
+                    "getnewaddress")));
+
+    private RpcMethods() { }
+
+    public static boolean isIdempotent(String method) {
+        return !NON_IDEMPOTENT.contains(method);
+    }
+}
@@ -0,0 +1,104 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.crypto.transaction.ContractTransaction;
+import io.neow3j.crypto.transaction.RawTransaction;
+import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The inputs and outputs of a transaction chosen by a {@link CoinSelector}.
+ *
+ * <p>The inputs stay reserved in the selector until the selection is either released, because
+ * the transaction was not sent, or marked as spent, because it was.</p>
+ */
+public class CoinSelection {
+
+    private final CoinSelector selector;
+    private final List<Utxo> inputs;
+    private final List<RawTransactionOutput> outputs;
+    private final List<RawTransactionOutput> changeOutputs;
+    private boolean completed;
+
+    CoinSelection(CoinSelector selector, List<Utxo> inputs, List<RawTransactionOutput> outputs,
+            List<RawTransactionOutput> changeOutputs) {
+        this.selector = selector;
+        this.inputs = Collections.unmodifiableList(inputs);
+        this.outputs = Collections.unmodifiableList(outputs);
+        this.changeOutputs = Collections.unmodifiableList(changeOutputs);
+    }
+
+    /**
+     * @return the unspent outputs to spend.
+     */
+    public List<Utxo> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * @return the payments followed by the change outputs, with consecutive output indexes.
+     */
+    public List<RawTransactionOutput> getOutputs() {
+        return outputs;
+    }
+
+    public List<RawTransactionOutput> getChangeOutputs() {
+        return changeOutputs;
+    }
+
+    public List<RawTransactionInput> getRawInputs() {
+        List<RawTransactionInput> rawInputs = new ArrayList<>(inputs.size());
+        for (Utxo input : inputs) {
+            rawInputs.add(new RawTransactionInput(input.getTxId(), input.getIndex()));
+        }
+        return rawInputs;
+    }
+
+    /**
+     * Creates an unsigned contract transaction spending the inputs to the outputs.
+     *
+     * @return the transaction
+     */
+    public ContractTransaction toContractTransaction() {
+        return RawTransaction.createContractTransaction(
+                null, getRawInputs(), new ArrayList<>(outputs));
+    }
+
+    /**
+     * Returns the inputs to the selector, e.g. because signing or sending the transaction
+     * failed. Does nothing if the selection was already released or marked as spent.
+     */
+    public void release() {
+        synchronized (selector) {
+            if (!completed) {
+                completed = true;
+                selector.release(inputs);
+            }
+        }
+    }
+
+    /**
+     * Marks the inputs as spent by a sent transaction. They stay reserved until
+     * {@link CoinSelector#releaseSpent} finds them spent on the chain.
+     */
+    public void markSpent() {
+        synchronized (selector) {
+            if (completed) {
+                throw new IllegalStateException("The selection was already completed.");
+            }
+            completed = true;
+            selector.markSpent(inputs);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CoinSelection{"
+                + "inputs=" + inputs
+                + ", outputs=" + outputs
+                + '}';
+    }
+}
@@ -0,0 +1,26 @@
+package io.neow3j.protocol.utxo;
+
+/**
+ * Strategies of a {@link CoinSelector} to pick the unspent outputs that fund a transaction.
+ */
+public enum CoinSelectionStrategy {
+
+    /**
+     * Searches for a set of outputs that matches the amount exactly, so that no change output is
+     * needed. Falls back to {@link #LARGEST_FIRST} if the search finds no match.
+     */
+    BRANCH_AND_BOUND,
+
+    /**
+     * Spends the largest outputs first. Uses the fewest inputs, i.e. builds the smallest
+     * transactions.
+     */
+    LARGEST_FIRST,
+
+    /**
+     * Spends the smallest outputs first, to merge many small outputs into a change output. Falls
+     * back to {@link #LARGEST_FIRST} if that would exceed the input limit.
+     */
+    CONSOLIDATION
+
+}
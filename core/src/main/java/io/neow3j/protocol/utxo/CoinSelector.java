@@ -0,0 +1,325 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+import io.neow3j.protocol.exceptions.InsufficientFundsException;
+import io.neow3j.protocol.index.Dictionary;
+import io.neow3j.utils.Numeric;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Picks the unspent outputs that fund contract transactions and adds the change outputs.
+ *
+ * <p>Selected outputs are reserved until the returned {@link CoinSelection} is released or marked
+ * as spent, so that transactions built concurrently from the same addresses never spend the
+ * same output twice. Outputs of sent transactions stay reserved until they are seen spent on
+ * the chain, see {@link #releaseSpent(BiPredicate)}.</p>
+ *
+ * <p>The candidates are usually the unspent outputs of the sending addresses, taken from a
+ * {@link UtxoIndex} or from {@link Utxo#fromUnspents}. Amounts must not have more than 8
+ * decimals.</p>
+ */
+public class CoinSelector {
+
+    public static final int DEFAULT_MAX_INPUTS = 500;
+
+    private static final int FIXED8_SCALE = 8;
+    private static final int MAX_BRANCH_AND_BOUND_TRIES = 100_000;
+
+    private final int maxInputs;
+    // outpoint -> whether the reserving transaction was sent
+    private final Map<String, Boolean> reserved = new HashMap<>();
+
+    public CoinSelector() {
+        this(DEFAULT_MAX_INPUTS);
+    }
+
+    /**
+     * @param maxInputs the maximum number of inputs per asset and transaction
+     */
+    public CoinSelector(int maxInputs) {
+        if (maxInputs <= 0) {
+            throw new IllegalArgumentException("The maximum number of inputs must be positive.");
+        }
+        this.maxInputs = maxInputs;
+    }
+
+    /**
+     * Selects and reserves the inputs for a transaction with the
+     * {@link CoinSelectionStrategy#BRANCH_AND_BOUND} strategy.
+     *
+     * @param candidates    the unspent outputs that may be spent
+     * @param payments      the outputs to pay
+     * @param changeAddress the address to receive the change
+     * @return the selection
+     * @throws InsufficientFundsException if the unreserved candidates do not cover the payments
+     */
+    public CoinSelection select(Collection<Utxo> candidates, List<RawTransactionOutput> payments,
+            String changeAddress) {
+        return select(candidates, payments, changeAddress, CoinSelectionStrategy.BRANCH_AND_BOUND);
+    }
+
+    /**
+     * Selects and reserves the inputs for a transaction. Either all assets of the payments are
+     * covered or nothing is reserved.
+     *
+     * @param candidates    the unspent outputs that may be spent
+     * @param payments      the outputs to pay
+     * @param changeAddress the address to receive the change
+     * @param strategy      the selection strategy
+     * @return the selection
+     * @throws InsufficientFundsException if the unreserved candidates do not cover the payments
+     */
+    public CoinSelection select(Collection<Utxo> candidates, List<RawTransactionOutput> payments,
+            String changeAddress, CoinSelectionStrategy strategy) {
+        if (payments.isEmpty()) {
+            throw new IllegalArgumentException("No payments to fund.");
+        }
+        // the payment asset ids as written by the caller, keyed by normalized id
+        Map<String, String> assets = new LinkedHashMap<>();
+        Map<String, Long> targets = new HashMap<>();
+        for (RawTransactionOutput payment : payments) {
+            String asset = Dictionary.normalizeHash(payment.getAssetId());
+            long value = toFixed8(new BigDecimal(payment.getValue()));
+            if (value <= 0) {
+                throw new IllegalArgumentException("Payment values must be positive.");
+            }
+            assets.putIfAbsent(asset, payment.getAssetId());
+            targets.merge(asset, value, Math::addExact);
+        }
+
+        synchronized (this) {
+            List<Utxo> inputs = new ArrayList<>();
+            List<RawTransactionOutput> changeOutputs = new ArrayList<>();
+            for (Map.Entry<String, String> asset : assets.entrySet()) {
+                List<Utxo> coins = new ArrayList<>();
+                for (Utxo candidate : candidates) {
+                    if (Dictionary.normalizeHash(candidate.getAssetId()).equals(asset.getKey())
+                            && !reserved.containsKey(outpoint(candidate))) {
+                        coins.add(candidate);
+                    }
+                }
+                long target = targets.get(asset.getKey());
+                List<Utxo> selected = selectAsset(coins, target, strategy, asset.getValue());
+                long change = -target;
+                for (Utxo coin : selected) {
+                    change += toFixed8(coin.getValue());
+                }
+                if (change > 0) {
+                    changeOutputs.add(new RawTransactionOutput(0, asset.getValue(),
+                            BigDecimal.valueOf(change, FIXED8_SCALE).stripTrailingZeros()
+                                    .toPlainString(),
+                            changeAddress));
+                }
+                inputs.addAll(selected);
+            }
+            for (Utxo input : inputs) {
+                reserved.put(outpoint(input), false);
+            }
+            List<RawTransactionOutput> outputs = indexOutputs(payments, changeOutputs);
+            return new CoinSelection(this, inputs, outputs,
+                    new ArrayList<>(outputs.subList(payments.size(), outputs.size())));
+        }
+    }
+
+    private List<Utxo> selectAsset(List<Utxo> coins, long target, CoinSelectionStrategy strategy,
+            String assetId) {
+        coins.sort(Comparator.comparing(Utxo::getValue).reversed());
+        long[] values = new long[coins.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toFixed8(coins.get(i).getValue());
+        }
+
+        int[] selected = null;
+        if (strategy == CoinSelectionStrategy.BRANCH_AND_BOUND) {
+            selected = branchAndBound(values, target);
+        } else if (strategy == CoinSelectionStrategy.CONSOLIDATION) {
+            selected = smallestFirst(values, target);
+        }
+        if (selected == null) {
+            selected = largestFirst(values, target);
+        }
+        if (selected == null) {
+            long available = 0;
+            for (int i = 0; i < Math.min(values.length, maxInputs); i++) {
+                available += values[i];
+            }
+            throw new InsufficientFundsException(assetId, BigDecimal.valueOf(target, FIXED8_SCALE),
+                    BigDecimal.valueOf(available, FIXED8_SCALE));
+        }
+        List<Utxo> result = new ArrayList<>(selected.length);
+        for (int i : selected) {
+            result.add(coins.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Searches depth-first for a subset of the values, sorted in descending order, that sums up
+     * to the target exactly. Each step either includes the next value or skips it; a branch is
+     * abandoned when it overshoots the target or the remaining values cannot reach it.
+     */
+    private int[] branchAndBound(long[] values, long target) {
+        long available = 0;
+        for (long value : values) {
+            available += value;
+        }
+        boolean[] included = new boolean[values.length];
+        int count = 0;
+        long sum = 0;
+        int i = 0;
+        for (int tries = 0; tries < MAX_BRANCH_AND_BOUND_TRIES; tries++) {
+            if (sum == target) {
+                return indexesOf(included, count);
+            }
+            if (sum > target || sum + available < target || count == maxInputs) {
+                // undo the last inclusion and continue with the branch that skips it
+                while (i > 0 && !included[i - 1]) {
+                    i--;
+                    available += values[i];
+                }
+                if (i == 0) {
+                    return null;
+                }
+                included[i - 1] = false;
+                sum -= values[i - 1];
+                count--;
+            } else {
+                available -= values[i];
+                // including a value equal to a skipped predecessor repeats a searched branch
+                if (i == 0 || included[i - 1] || values[i] != values[i - 1]) {
+                    included[i] = true;
+                    sum += values[i];
+                    count++;
+                }
+                i++;
+            }
+        }
+        return null;
+    }
+
+    private int[] largestFirst(long[] values, long target) {
+        long sum = 0;
+        for (int i = 0; i < values.length && i < maxInputs; i++) {
+            sum += values[i];
+            if (sum >= target) {
+                return range(0, i + 1);
+            }
+        }
+        return null;
+    }
+
+    private int[] smallestFirst(long[] values, long target) {
+        long sum = 0;
+        for (int i = values.length - 1; i >= 0 && values.length - i <= maxInputs; i--) {
+            sum += values[i];
+            if (sum >= target) {
+                return range(i, values.length);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the reservations of sent transactions whose inputs are spent on the chain.
+     *
+     * @param isUnspent tells whether an output, given by txid and output index, is still
+     *                  unspent, e.g. {@link UtxoIndex#contains}
+     * @return the number of released outputs
+     */
+    public synchronized int releaseSpent(BiPredicate<String, Integer> isUnspent) {
+        int released = 0;
+        Iterator<Map.Entry<String, Boolean>> it = reserved.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Boolean> entry = it.next();
+            if (entry.getValue()) {
+                int separator = entry.getKey().indexOf(':');
+                String txId = Numeric.prependHexPrefix(entry.getKey().substring(0, separator));
+                int index = Integer.parseInt(entry.getKey().substring(separator + 1));
+                if (!isUnspent.test(txId, index)) {
+                    it.remove();
+                    released++;
+                }
+            }
+        }
+        return released;
+    }
+
+    public synchronized boolean isReserved(String txId, int index) {
+        return reserved.containsKey(outpoint(txId, index));
+    }
+
+    /**
+     * @return the number of reserved outputs, including those of sent transactions.
+     */
+    public synchronized int getReservedCount() {
+        return reserved.size();
+    }
+
+    synchronized void release(List<Utxo> inputs) {
+        for (Utxo input : inputs) {
+            reserved.remove(outpoint(input));
+        }
+    }
+
+    synchronized void markSpent(List<Utxo> inputs) {
+        for (Utxo input : inputs) {
+            reserved.put(outpoint(input), true);
+        }
+    }
+
+    private static List<RawTransactionOutput> indexOutputs(List<RawTransactionOutput> payments,
+            List<RawTransactionOutput> changeOutputs) {
+        List<RawTransactionOutput> outputs = new ArrayList<>();
+        for (RawTransactionOutput output : payments) {
+            outputs.add(new RawTransactionOutput(outputs.size(), output.getAssetId(),
+                    output.getValue(), output.getAddress()));
+        }
+        for (RawTransactionOutput output : changeOutputs) {
+            outputs.add(new RawTransactionOutput(outputs.size(), output.getAssetId(),
+                    output.getValue(), output.getAddress()));
+        }
+        return outputs;
+    }
+
+    private static String outpoint(Utxo utxo) {
+        return outpoint(utxo.getTxId(), utxo.getIndex());
+    }
+
+    private static String outpoint(String txId, int index) {
+        return Numeric.cleanHexPrefix(txId).toLowerCase(Locale.ROOT) + ":" + index;
+    }
+
+    private static long toFixed8(BigDecimal value) {
+        return value.movePointRight(FIXED8_SCALE).longValueExact();
+    }
+
+    private static int[] indexesOf(boolean[] included, int count) {
+        int[] indexes = new int[count];
+        int n = 0;
+        for (int i = 0; n < count; i++) {
+            if (included[i]) {
+                indexes[n++] = i;
+            }
+        }
+        return indexes;
+    }
+
+    private static int[] range(int from, int to) {
+        int[] indexes = new int[to - from];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = from + i;
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,110 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An unspent transaction output tracked by a {@link UtxoIndex}.
+ */
+public class Utxo {
+
+    private final String txId;
+    private final int index;
+    private final String assetId;
+    private final String address;
+    private final BigDecimal value;
+    private final long height;
+
+    public Utxo(String txId, int index, String assetId, String address, BigDecimal value,
+            long height) {
+        this.txId = txId;
+        this.index = index;
+        this.assetId = assetId;
+        this.address = address;
+        this.value = value;
+        this.height = height;
+    }
+
+    /**
+     * Converts the result of <code>getunspents</code>, e.g. to use it as candidates of a
+     * {@link CoinSelector}. The heights of the outputs are unknown and set to -1.
+     *
+     * @param unspents the unspent outputs of an address
+     * @return the unspent outputs
+     */
+    public static List<Utxo> fromUnspents(NeoGetUnspents.Unspents unspents) {
+        List<Utxo> utxos = new ArrayList<>();
+        for (NeoGetUnspents.Balance balance : unspents.getBalances()) {
+            for (NeoGetUnspents.UnspentTransaction unspent : balance.getUnspentTransactions()) {
+                utxos.add(new Utxo(unspent.getTxId(), unspent.getIndex(), balance.getAssetHash(),
+                        unspents.getAddress(), unspent.getValue(), -1));
+            }
+        }
+        return utxos;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getAssetId() {
+        return assetId;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    /**
+     * @return the index of the block that created the output, or -1 if unknown.
+     */
+    public long getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Utxo)) {
+            return false;
+        }
+        Utxo utxo = (Utxo) o;
+        return index == utxo.index
+                && height == utxo.height
+                && Objects.equals(txId, utxo.txId)
+                && Objects.equals(assetId, utxo.assetId)
+                && Objects.equals(address, utxo.address)
+                && Objects.equals(value, utxo.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(txId, index, assetId, address, value, height);
+    }
+
+    @Override
+    public String toString() {
+        return "Utxo{"
+                + "txId='" + txId + '\''
+                + ", index=" + index
+                + ", assetId='" + assetId + '\''
+                + ", address='" + address + '\''
+                + ", value=" + value
+                + ", height=" + height
+                + '}';
+    }
+}
@@ -0,0 +1,508 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.index.ChainTip;
+import io.neow3j.protocol.index.Dictionary;
+import io.neow3j.protocol.rx.BlockEvent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Local index of the unspent transaction outputs, built incrementally from verbose blocks.
+ *
+ * <p>Feed it from a block stream with full transaction objects, e.g.
+ * {@link io.neow3j.protocol.rx.Neow3jRx#catchUpToLatestBlockObservable} for the initial sync and
+ * {@link io.neow3j.protocol.rx.Neow3jRx#reorgAwareBlockObservable} afterwards. Blocks must be
+ * added in chain order. The most recent blocks can be rolled back when the node switches forks.
+ * The index only knows the outputs created by the blocks it was fed, so it has to start at the
+ * genesis block (or at a snapshot) to be complete.</p>
+ *
+ * <p>Outputs are keyed by (txid, output index) and stored column-wise in primitive arrays: the
+ * txid as four longs, the value as a fixed8 long, asset and address as dictionary ids. A
+ * linear-probing hash table maps keys to entries, and the entries of each address form a
+ * linked list for lookups by address.</p>
+ *
+ * <p>Outputs can be looked up while blocks are added on another thread; a lookup sees the
+ * outputs after a whole block.</p>
+ */
+public class UtxoIndex {
+
+    public static final int DEFAULT_MAX_ROLLBACK_DEPTH = 100;
+
+    private static final int MAGIC = 0x4E335558;
+    private static final int VERSION = 1;
+    private static final int NONE = -1;
+    private static final int FIXED8_SCALE = 8;
+
+    private long[] txIds = new long[4 * 1024];
+    private int[] outputIndexes = new int[1024];
+    private int[] assets = new int[1024];
+    private int[] addresses = new int[1024];
+    private long[] values = new long[1024];
+    private long[] heights = new long[1024];
+    private int[] nextByAddress = new int[1024];
+    private int[] prevByAddress = new int[1024];
+    private int entryCount;
+    private int freeEntry = NONE;
+    private int size;
+
+    private int[] table = new int[2048];
+
+    private final Dictionary assetIds = Dictionary.ofHashes();
+    private final Dictionary addressIds = Dictionary.ofNames();
+    private int[] addressHeads = new int[0];
+
+    private final ChainTip<UndoLog> tip;
+
+    private final long[] key = new long[4];
+
+    public UtxoIndex() {
+        this(DEFAULT_MAX_ROLLBACK_DEPTH);
+    }
+
+    /**
+     * @param maxRollbackDepth the number of most recent blocks that can be rolled back
+     */
+    public UtxoIndex(int maxRollbackDepth) {
+        this.tip = new ChainTip<>(maxRollbackDepth);
+    }
+
+    /**
+     * Applies a block event of a {@link io.neow3j.protocol.rx.ReorgAwareBlockStream}.
+     *
+     * @param event the event
+     */
+    public void onBlockEvent(BlockEvent event) {
+        if (event.isRollback()) {
+            rollBack(event.getBlock());
+        } else {
+            addBlock(event.getBlock());
+        }
+    }
+
+    /**
+     * Spends the inputs and adds the outputs of the transactions of a block.
+     *
+     * @param block the next block, with full transaction objects
+     * @throws IllegalStateException if the block does not extend the indexed chain
+     */
+    public synchronized void addBlock(NeoBlock block) {
+        tip.checkExtends(block);
+        if (block.getTransactions() == null) {
+            throw new IllegalArgumentException("The block does not contain transactions.");
+        }
+        UndoLog undo = new UndoLog();
+        for (Transaction tx : block.getTransactions()) {
+            if (tx.getInputs() != null) {
+                for (TransactionInput input : tx.getInputs()) {
+                    parseTxId(input.getPrevHash(), key);
+                    int entry = find(key, input.getPrevIndex());
+                    if (entry != NONE) {
+                        undo.record(this, entry, false);
+                        remove(entry);
+                    }
+                }
+            }
+            if (tx.getOutputs() != null) {
+                parseTxId(tx.getTransactionId(), key);
+                for (TransactionOutput output : tx.getOutputs()) {
+                    if (find(key, output.getIndex()) == NONE) {
+                        int entry = insert(key, output.getIndex(),
+                                assetIds.add(output.getAssetId()),
+                                addressId(output.getAddress()), toFixed8(output.getValue()),
+                                block.getIndex());
+                        undo.record(this, entry, true);
+                    }
+                }
+            }
+        }
+        tip.advance(block, undo);
+    }
+
+    /**
+     * Reverts the last added block.
+     *
+     * @param block the block to roll back
+     * @throws IllegalStateException if the block is not the last added block, or if it is
+     *                               beyond the rollback depth
+     */
+    public synchronized void rollBack(NeoBlock block) {
+        tip.rollBack(block).revert(this);
+    }
+
+    /**
+     * @param txId  the transaction id
+     * @param index the output index
+     * @return the unspent output, or null if it is spent or unknown
+     */
+    public synchronized Utxo get(String txId, int index) {
+        parseTxId(txId, key);
+        int entry = find(key, index);
+        return entry == NONE ? null : toUtxo(entry);
+    }
+
+    public synchronized boolean contains(String txId, int index) {
+        parseTxId(txId, key);
+        return find(key, index) != NONE;
+    }
+
+    /**
+     * @param address the address
+     * @return the unspent outputs of the address
+     */
+    public synchronized List<Utxo> getUnspents(String address) {
+        return getUnspents(address, null);
+    }
+
+    /**
+     * @param address the address
+     * @param assetId the asset id, or null for all assets
+     * @return the unspent outputs of the address for the asset
+     */
+    public synchronized List<Utxo> getUnspents(String address, String assetId) {
+        List<Utxo> unspents = new ArrayList<>();
+        int asset = assetId == null ? NONE : assetIds.idOf(assetId);
+        if (assetId != null && asset < 0) {
+            return unspents;
+        }
+        for (int entry = head(address); entry != NONE; entry = nextByAddress[entry]) {
+            if (asset == NONE || assets[entry] == asset) {
+                unspents.add(toUtxo(entry));
+            }
+        }
+        return unspents;
+    }
+
+    /**
+     * @param address the address
+     * @param assetId the asset id
+     * @return the sum of the unspent outputs of the address for the asset
+     */
+    public synchronized BigDecimal getBalance(String address, String assetId) {
+        int asset = assetIds.idOf(assetId);
+        long balance = 0;
+        for (int entry = head(address); asset >= 0 && entry != NONE;
+                entry = nextByAddress[entry]) {
+            if (assets[entry] == asset) {
+                balance += values[entry];
+            }
+        }
+        return BigDecimal.valueOf(balance, FIXED8_SCALE);
+    }
+
+    /**
+     * @return the number of unspent outputs.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the index of the last added block, or -1 if no block was added.
+     */
+    public synchronized long getHeight() {
+        return tip.getHeight();
+    }
+
+    public synchronized String getBlockHash() {
+        return tip.getBlockHash();
+    }
+
+    /**
+     * Writes the unspent outputs and the last added block to a file. Spent outputs are not
+     * written, so blocks added before the snapshot cannot be rolled back after reading it.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public synchronized void writeSnapshot(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            tip.writeHeader(out, MAGIC, VERSION);
+            assetIds.write(out);
+            addressIds.write(out);
+            out.writeInt(size);
+            for (int entry = 0; entry < entryCount; entry++) {
+                if (outputIndexes[entry] == NONE) {
+                    continue;
+                }
+                for (int i = 0; i < 4; i++) {
+                    out.writeLong(txIds[4 * entry + i]);
+                }
+                out.writeInt(outputIndexes[entry]);
+                out.writeInt(assets[entry]);
+                out.writeInt(addresses[entry]);
+                out.writeLong(values[entry]);
+                out.writeLong(heights[entry]);
+            }
+        }
+    }
+
+    /**
+     * Reads an index from a snapshot file.
+     *
+     * @param file             the snapshot
+     * @param maxRollbackDepth the number of blocks added after loading that can be rolled back
+     * @return the index
+     * @throws IOException if reading fails or the file is not a snapshot
+     */
+    public static UtxoIndex readSnapshot(File file, int maxRollbackDepth) throws IOException {
+        UtxoIndex index = new UtxoIndex(maxRollbackDepth);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            index.tip.readHeader(in, MAGIC, VERSION, "UTXO snapshot");
+            index.assetIds.read(in);
+            index.addressIds.read(in);
+            index.growAddressHeads();
+            int size = in.readInt();
+            long[] txId = new long[4];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < 4; j++) {
+                    txId[j] = in.readLong();
+                }
+                index.insert(txId, in.readInt(), in.readInt(), in.readInt(), in.readLong(),
+                        in.readLong());
+            }
+        }
+        return index;
+    }
+
+    private Utxo toUtxo(int entry) {
+        return new Utxo(formatTxId(entry), outputIndexes[entry], assetIds.get(assets[entry]),
+                addressIds.get(addresses[entry]),
+                BigDecimal.valueOf(values[entry], FIXED8_SCALE), heights[entry]);
+    }
+
+    private int head(String address) {
+        int id = addressIds.idOf(address);
+        return id < 0 ? NONE : addressHeads[id];
+    }
+
+    private int addressId(String address) {
+        int id = addressIds.add(address);
+        growAddressHeads();
+        return id;
+    }
+
+    private void growAddressHeads() {
+        int length = addressHeads.length;
+        if (length < addressIds.size()) {
+            addressHeads = Arrays.copyOf(addressHeads, Math.max(addressIds.size(), 2 * length));
+            Arrays.fill(addressHeads, length, addressHeads.length, NONE);
+        }
+    }
+
+    private int insert(long[] txId, int index, int asset, int address, long value, long height) {
+        int entry = allocateEntry();
+        System.arraycopy(txId, 0, txIds, 4 * entry, 4);
+        outputIndexes[entry] = index;
+        assets[entry] = asset;
+        addresses[entry] = address;
+        values[entry] = value;
+        heights[entry] = height;
+
+        int head = addressHeads[address];
+        nextByAddress[entry] = head;
+        prevByAddress[entry] = NONE;
+        if (head != NONE) {
+            prevByAddress[head] = entry;
+        }
+        addressHeads[address] = entry;
+
+        size++;
+        if (2 * size > table.length) {
+            rehash(table.length * 2);
+        }
+        int mask = table.length - 1;
+        int slot = hash(txId, 0, index) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+        return entry;
+    }
+
+    private void remove(int entry) {
+        int mask = table.length - 1;
+        int slot = hash(txIds, 4 * entry, outputIndexes[entry]) & mask;
+        while (table[slot] != entry + 1) {
+            slot = (slot + 1) & mask;
+        }
+        // backward shift deletion keeps the probe sequences intact without tombstones
+        table[slot] = 0;
+        for (int next = (slot + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int moved = table[next] - 1;
+            int ideal = hash(txIds, 4 * moved, outputIndexes[moved]) & mask;
+            if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+                table[slot] = table[next];
+                table[next] = 0;
+                slot = next;
+            }
+        }
+
+        int address = addresses[entry];
+        int prev = prevByAddress[entry];
+        int next = nextByAddress[entry];
+        if (prev == NONE) {
+            addressHeads[address] = next;
+        } else {
+            nextByAddress[prev] = next;
+        }
+        if (next != NONE) {
+            prevByAddress[next] = prev;
+        }
+
+        outputIndexes[entry] = NONE;
+        nextByAddress[entry] = freeEntry;
+        freeEntry = entry;
+        size--;
+    }
+
+    private int find(long[] txId, int index) {
+        int mask = table.length - 1;
+        for (int slot = hash(txId, 0, index) & mask; table[slot] != 0;
+                slot = (slot + 1) & mask) {
+            int entry = table[slot] - 1;
+            int base = 4 * entry;
+            if (outputIndexes[entry] == index && txIds[base] == txId[0]
+                    && txIds[base + 1] == txId[1] && txIds[base + 2] == txId[2]
+                    && txIds[base + 3] == txId[3]) {
+                return entry;
+            }
+        }
+        return NONE;
+    }
+
+    private int allocateEntry() {
+        if (freeEntry != NONE) {
+            int entry = freeEntry;
+            freeEntry = nextByAddress[entry];
+            return entry;
+        }
+        if (entryCount == outputIndexes.length) {
+            int capacity = entryCount * 2;
+            txIds = Arrays.copyOf(txIds, 4 * capacity);
+            outputIndexes = Arrays.copyOf(outputIndexes, capacity);
+            assets = Arrays.copyOf(assets, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+            values = Arrays.copyOf(values, capacity);
+            heights = Arrays.copyOf(heights, capacity);
+            nextByAddress = Arrays.copyOf(nextByAddress, capacity);
+            prevByAddress = Arrays.copyOf(prevByAddress, capacity);
+        }
+        return entryCount++;
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry = 0; entry < entryCount; entry++) {
+            if (outputIndexes[entry] == NONE) {
+                continue;
+            }
+            int slot = hash(txIds, 4 * entry, outputIndexes[entry]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private static int hash(long[] txId, int offset, int index) {
+        // txids are hashes, so any of their bits are well distributed
+        long h = (txId[offset] ^ txId[offset + 3]) + index * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void parseTxId(String txId, long[] out) {
+        int offset = txId.startsWith("0x") ? 2 : 0;
+        if (txId.length() - offset != 64) {
+            throw new IllegalArgumentException("Invalid transaction id " + txId + ".");
+        }
+        for (int i = 0; i < 4; i++) {
+            long value = 0;
+            for (int j = 0; j < 16; j++) {
+                int digit = Character.digit(txId.charAt(offset++), 16);
+                if (digit < 0) {
+                    throw new IllegalArgumentException("Invalid transaction id " + txId + ".");
+                }
+                value = (value << 4) | digit;
+            }
+            out[i] = value;
+        }
+    }
+
+    private String formatTxId(int entry) {
+        char[] chars = new char[66];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < 4; i++) {
+            long value = txIds[4 * entry + i];
+            for (int j = 0; j < 16; j++) {
+                chars[2 + 16 * i + j] = Character.forDigit(
+                        (int) (value >>> (60 - 4 * j)) & 0xf, 16);
+            }
+        }
+        return new String(chars);
+    }
+
+    private static long toFixed8(String value) {
+        return new BigDecimal(value).movePointRight(FIXED8_SCALE).longValueExact();
+    }
+
+    /**
+     * The changes of one block, in order, to revert them on a rollback.
+     */
+    private static class UndoLog {
+
+        private long[] txIds = new long[16];
+        private long[] longs = new long[8];
+        private int[] ints = new int[16];
+        private int count;
+
+        void record(UtxoIndex index, int entry, boolean added) {
+            if (count * 4 == txIds.length) {
+                txIds = Arrays.copyOf(txIds, txIds.length * 2);
+                longs = Arrays.copyOf(longs, longs.length * 2);
+                ints = Arrays.copyOf(ints, ints.length * 2);
+            }
+            System.arraycopy(index.txIds, 4 * entry, txIds, 4 * count, 4);
+            longs[2 * count] = index.values[entry];
+            longs[2 * count + 1] = index.heights[entry];
+            ints[4 * count] = added ? 1 : 0;
+            ints[4 * count + 1] = index.outputIndexes[entry];
+            ints[4 * count + 2] = index.assets[entry];
+            ints[4 * count + 3] = index.addresses[entry];
+            count++;
+        }
+
+        void revert(UtxoIndex index) {
+            long[] txId = new long[4];
+            for (int i = count - 1; i >= 0; i--) {
+                System.arraycopy(txIds, 4 * i, txId, 0, 4);
+                int outputIndex = ints[4 * i + 1];
+                if (ints[4 * i] == 1) {
+                    index.remove(index.find(txId, outputIndex));
+                } else {
+                    index.insert(txId, outputIndex, ints[4 * i + 2], ints[4 * i + 3],
+                            longs[2 * i], longs[2 * i + 1]);
+                }
+            }
+        }
+    }
+}
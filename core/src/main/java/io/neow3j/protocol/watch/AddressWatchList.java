@@ -0,0 +1,342 @@
+package io.neow3j.protocol.watch;
+
+import io.neow3j.crypto.KeyUtils;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import rx.Observable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A set of watched addresses for filtering large transaction streams, e.g. the deposit
+ * addresses of an exchange.
+ *
+ * <p>The addresses are stored as 20-byte script hashes in a linear-probing hash table of
+ * primitive arrays. A Bloom filter over a cheap hash of the address strings sits in front of
+ * it: most addresses that are not watched are rejected by the filter without decoding them, and
+ * only the few that pass are decoded and looked up in the table, so lookups never return false
+ * positives. The filter is sized for about 1% false positives and rebuilt when the list grows
+ * beyond its expected size.</p>
+ *
+ * <p>Use {@link #filter()} to keep the transactions that pay to watched addresses, e.g.
+ * <code>neow3j.catchUpToLatestTransactionObservable(start).compose(watchList.filter())</code>.
+ * Transactions that only spend outputs of watched addresses are not matched, because their
+ * inputs do not contain the address.</p>
+ *
+ * <p>Lookups do not lock: the table and the filter are published as an immutable snapshot,
+ * which {@link #add(String)} copies and replaces. Adding addresses one by one therefore costs a
+ * copy each; use {@link #addAll(Iterable)} to add many at once. Addresses cannot be
+ * removed.</p>
+ */
+public class AddressWatchList {
+
+    public static final int DEFAULT_EXPECTED_ADDRESSES = 1024;
+
+    private static final int SCRIPT_HASH_SIZE = 20;
+    private static final int BLOOM_BITS_PER_ADDRESS = 10;
+    private static final int BLOOM_HASHES = 7;
+
+    private volatile Table table;
+
+    public AddressWatchList() {
+        this(DEFAULT_EXPECTED_ADDRESSES);
+    }
+
+    /**
+     * @param expectedAddresses the number of addresses to size the table and filter for
+     */
+    public AddressWatchList(int expectedAddresses) {
+        if (expectedAddresses <= 0) {
+            throw new IllegalArgumentException("The expected number of addresses must be "
+                    + "positive.");
+        }
+        int capacity = Integer.highestOneBit(Math.max(expectedAddresses, 8) * 2 - 1) * 2;
+        table = new Table(capacity, expectedAddresses);
+    }
+
+    /**
+     * @param address the address to watch
+     * @return true if the address was not watched yet
+     * @throws IllegalArgumentException if the address is invalid
+     */
+    public boolean add(String address) {
+        return addAll(Collections.singletonList(address)) > 0;
+    }
+
+    /**
+     * Adds several addresses with a single copy of the table.
+     *
+     * @param addresses the addresses to watch
+     * @return the number of addresses that were not watched yet
+     * @throws IllegalArgumentException if an address is invalid; no address is added then
+     */
+    public synchronized int addAll(Iterable<String> addresses) {
+        Table copy = null;
+        int added = 0;
+        for (String address : addresses) {
+            byte[] scriptHash = KeyUtils.toScriptHash(address);
+            if ((copy == null ? table : copy).find(scriptHash) >= 0) {
+                continue;
+            }
+            if (copy == null) {
+                copy = table.copy();
+            }
+            copy.insert(scriptHash, address);
+            added++;
+        }
+        if (copy != null) {
+            table = copy;
+        }
+        return added;
+    }
+
+    /**
+     * @param scriptHash the script hash of the address to watch, in the byte order of the
+     *                   address
+     * @return true if the address was not watched yet
+     */
+    public boolean addScriptHash(byte[] scriptHash) {
+        return add(KeyUtils.toAddress(checkScriptHash(scriptHash)));
+    }
+
+    /**
+     * @param address the address
+     * @return true if the address is watched
+     */
+    public boolean contains(String address) {
+        Table table = this.table;
+        if (address == null || !table.mightContain(address)) {
+            return false;
+        }
+        byte[] scriptHash;
+        try {
+            scriptHash = KeyUtils.toScriptHash(address);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return table.find(scriptHash) >= 0;
+    }
+
+    /**
+     * @param scriptHash the script hash in the byte order of the address
+     * @return true if the address of the script hash is watched
+     */
+    public boolean containsScriptHash(byte[] scriptHash) {
+        return table.find(checkScriptHash(scriptHash)) >= 0;
+    }
+
+    /**
+     * @param transaction a transaction
+     * @return true if an output of the transaction pays to a watched address
+     */
+    public boolean matches(Transaction transaction) {
+        if (transaction.getOutputs() == null) {
+            return false;
+        }
+        for (TransactionOutput output : transaction.getOutputs()) {
+            if (contains(output.getAddress())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return an operator that keeps the transactions that pay to a watched address
+     */
+    public Observable.Transformer<Transaction, Transaction> filter() {
+        return transactions -> transactions.filter(this::matches);
+    }
+
+    /**
+     * @return the number of watched addresses.
+     */
+    public int size() {
+        return table.size;
+    }
+
+    /**
+     * @param address the address
+     * @return false if the address is certainly not watched
+     */
+    boolean mightContain(String address) {
+        return table.mightContain(address);
+    }
+
+    /**
+     * The hash table and the Bloom filter. Only modified before it is published.
+     */
+    private static final class Table {
+
+        // the script hashes split into two longs and an int, in the order of the address bytes
+        private long[] keys0;
+        private long[] keys1;
+        private int[] keys2;
+        private boolean[] used;
+        private int size;
+
+        private long[] bloom;
+        private int expected;
+
+        private Table(int capacity, int expected) {
+            keys0 = new long[capacity];
+            keys1 = new long[capacity];
+            keys2 = new int[capacity];
+            used = new boolean[capacity];
+            this.expected = expected;
+            bloom = newBloom(expected);
+        }
+
+        private Table(Table table) {
+            keys0 = Arrays.copyOf(table.keys0, table.keys0.length);
+            keys1 = Arrays.copyOf(table.keys1, table.keys1.length);
+            keys2 = Arrays.copyOf(table.keys2, table.keys2.length);
+            used = Arrays.copyOf(table.used, table.used.length);
+            size = table.size;
+            bloom = Arrays.copyOf(table.bloom, table.bloom.length);
+            expected = table.expected;
+        }
+
+        private Table copy() {
+            return new Table(this);
+        }
+
+        private boolean mightContain(String address) {
+            long hash = hash(address);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            int mask = bloom.length * Long.SIZE - 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addToBloom(String address) {
+            long hash = hash(address);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            int mask = bloom.length * Long.SIZE - 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        private void rebuildBloom() {
+            bloom = newBloom(expected);
+            byte[] scriptHash = new byte[SCRIPT_HASH_SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(scriptHash).order(ByteOrder.BIG_ENDIAN);
+            for (int slot = 0; slot < used.length; slot++) {
+                if (used[slot]) {
+                    buffer.clear();
+                    buffer.putLong(keys0[slot]).putLong(keys1[slot]).putInt(keys2[slot]);
+                    addToBloom(KeyUtils.toAddress(scriptHash));
+                }
+            }
+        }
+
+        private void insert(byte[] scriptHash, String address) {
+            size++;
+            if (2 * size > used.length) {
+                rehash(used.length * 2);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(scriptHash).order(ByteOrder.BIG_ENDIAN);
+            long k0 = buffer.getLong();
+            long k1 = buffer.getLong();
+            int k2 = buffer.getInt();
+            put(k0, k1, k2);
+            if (size > expected) {
+                expected *= 2;
+                rebuildBloom();
+            } else {
+                addToBloom(address);
+            }
+        }
+
+        private void put(long k0, long k1, int k2) {
+            int mask = used.length - 1;
+            int slot = slot(k0, k1) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            keys0[slot] = k0;
+            keys1[slot] = k1;
+            keys2[slot] = k2;
+            used[slot] = true;
+        }
+
+        private int find(byte[] scriptHash) {
+            ByteBuffer buffer = ByteBuffer.wrap(scriptHash).order(ByteOrder.BIG_ENDIAN);
+            long k0 = buffer.getLong();
+            long k1 = buffer.getLong();
+            int k2 = buffer.getInt();
+            int mask = used.length - 1;
+            for (int slot = slot(k0, k1) & mask; used[slot]; slot = (slot + 1) & mask) {
+                if (keys0[slot] == k0 && keys1[slot] == k1 && keys2[slot] == k2) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys0 = keys0;
+            long[] oldKeys1 = keys1;
+            int[] oldKeys2 = keys2;
+            boolean[] oldUsed = used;
+            keys0 = new long[capacity];
+            keys1 = new long[capacity];
+            keys2 = new int[capacity];
+            used = new boolean[capacity];
+            for (int i = 0; i < oldUsed.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys0[i], oldKeys1[i], oldKeys2[i]);
+                }
+            }
+        }
+    }
+
+    private static byte[] checkScriptHash(byte[] scriptHash) {
+        if (scriptHash.length != SCRIPT_HASH_SIZE) {
+            throw new IllegalArgumentException("A script hash has " + SCRIPT_HASH_SIZE
+                    + " bytes.");
+        }
+        return scriptHash;
+    }
+
+    private static long[] newBloom(int expectedAddresses) {
+        long bits = Math.max((long) expectedAddresses * BLOOM_BITS_PER_ADDRESS, Long.SIZE);
+        int words = (int) Math.min(Long.highestOneBit(bits * 2 - 1) / Long.SIZE, 1 << 24);
+        return new long[words];
+    }
+
+    private static int slot(long k0, long k1) {
+        // script hashes are uniformly distributed
+        long h = k0 ^ k1;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer.
+     */
+    private static long hash(String address) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < address.length(); i++) {
+            h ^= address.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
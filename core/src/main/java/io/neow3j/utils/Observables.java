@@ -3,6 +3,7 @@ package io.neow3j.utils;
 import rx.Observable;
 
 import java.math.BigInteger;
+import java.util.function.LongFunction;
 
 /**
  * Observable utility functions.
@@ -24,20 +25,55 @@ public class Observables {
      */
     public static Observable<BigInteger> range(
             final BigInteger startValue, final BigInteger endValue, final boolean ascending) {
-        if (startValue.compareTo(BigInteger.ZERO) == -1) {
+        return range(startValue.longValueExact(), endValue.longValueExact(), ascending,
+                BigInteger::valueOf);
+    }
+
+    public static Observable<Long> range(final long startValue, final long endValue) {
+        return range(startValue, endValue, true);
+    }
+
+    /**
+     * Simple Observable implementation to emit a range of long values.
+     *
+     * @param startValue first value to emit in range
+     * @param endValue final value to emit in range
+     * @param ascending direction to iterate through range
+     * @return Observable to emit this range of values
+     */
+    public static Observable<Long> range(
+            final long startValue, final long endValue, final boolean ascending) {
+        return range(startValue, endValue, ascending, Long::valueOf);
+    }
+
+    /**
+     * Emits the mapping of each value of a range of long values. The values themselves are
+     * never boxed.
+     *
+     * @param startValue first value to map in range
+     * @param endValue final value to map in range
+     * @param ascending direction to iterate through range
+     * @param mapper the function producing the element for a value
+     * @param <T> the type of the emitted elements
+     * @return Observable to emit the mapped range of values
+     */
+    public static <T> Observable<T> range(
+            final long startValue, final long endValue, final boolean ascending,
+            final LongFunction<T> mapper) {
+        if (startValue < 0) {
             throw new IllegalArgumentException("Negative start index cannot be used");
-        } else if (startValue.compareTo(endValue) > 0) {
+        } else if (startValue > endValue) {
             throw new IllegalArgumentException(
                     "Negative start index cannot be greater then end index");
         }
 
         if (ascending) {
             return Observable.create(subscriber -> {
-                for (BigInteger i = startValue;
-                        i.compareTo(endValue) < 1
-                             && !subscriber.isUnsubscribed();
-                        i = i.add(BigInteger.ONE)) {
-                    subscriber.onNext(i);
+                for (long i = startValue; !subscriber.isUnsubscribed(); i++) {
+                    subscriber.onNext(mapper.apply(i));
+                    if (i == endValue) {
+                        break;
+                    }
                 }
 
                 if (!subscriber.isUnsubscribed()) {
@@ -46,11 +82,11 @@ public class Observables {
             });
         } else {
             return Observable.create(subscriber -> {
-                for (BigInteger i = endValue;
-                        i.compareTo(startValue) > -1
-                             && !subscriber.isUnsubscribed();
-                        i = i.subtract(BigInteger.ONE)) {
-                    subscriber.onNext(i);
+                for (long i = endValue; !subscriber.isUnsubscribed(); i--) {
+                    subscriber.onNext(mapper.apply(i));
+                    if (i == startValue) {
+                        break;
+                    }
                 }
 
                 if (!subscriber.isUnsubscribed()) {
@@ -0,0 +1,235 @@
+package io.neow3j.protocol.archive;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.mock.MockNeoNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BlockArchiveTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private BlockArchive archive;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.newFolder("archive");
+        archive = new BlockArchive(directory, 250);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        archive.close();
+    }
+
+    @Test
+    public void testAppendAndRead() throws IOException {
+        assertThat(archive.getFirstIndex(), is(-1L));
+        assertThat(archive.getNextIndex(), is(-1L));
+        appendBlocks(1000, 5);
+
+        assertThat(archive.getFirstIndex(), is(1000L));
+        assertThat(archive.getNextIndex(), is(1005L));
+        assertThat(archive.getBlockCount(), is(5));
+        assertTrue(archive.contains(1004));
+        assertFalse(archive.contains(999));
+        assertFalse(archive.contains(1005));
+        for (long index = 1000; index < 1005; index++) {
+            ByteBuffer block = archive.read(index);
+            assertTrue(block.isReadOnly());
+            assertThat(toBytes(block), is(block(index)));
+        }
+    }
+
+    @Test
+    public void testRollsOverSegments() throws IOException {
+        appendBlocks(0, 6);
+
+        // blocks of 100 to 105 bytes, two per 250 byte segment
+        assertThat(archive.getSegmentCount(), is(3));
+        assertThat(archive.segmentFile(0).length(), is(201L));
+        assertThat(toBytes(archive.read(5)), is(block(5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsGaps() throws IOException {
+        appendBlocks(10, 2);
+        archive.append(13, block(13));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsBlocksLargerThanSegments() throws IOException {
+        archive.append(0, new byte[251]);
+    }
+
+    @Test
+    public void testAppendIfNext() throws IOException {
+        assertTrue(archive.appendIfNext(7, block(7)));
+        assertFalse(archive.appendIfNext(7, block(7)));
+        assertFalse(archive.appendIfNext(9, block(9)));
+        assertTrue(archive.appendIfNext(8, block(8)));
+        assertThat(archive.getNextIndex(), is(9L));
+    }
+
+    @Test
+    public void testMappingOfTheWrittenSegmentGrowsGeometrically() throws IOException {
+        archive.close();
+        archive = new BlockArchive(directory, 1024 * 1024);
+        for (long index = 0; index < 1000; index++) {
+            archive.append(index, block(index));
+            assertThat(toBytes(archive.read(index)), is(block(index)));
+        }
+        // about 110 KB mapped with doubling sizes, not once per block
+        assertTrue("maps " + archive.getMapCount(), archive.getMapCount() <= 11);
+        for (long index = 0; index < 1000; index += 99) {
+            assertThat(toBytes(archive.read(index)), is(block(index)));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testReadMissingBlock() throws IOException {
+        appendBlocks(10, 2);
+        archive.read(12);
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        appendBlocks(500, 7);
+        ByteBuffer before = archive.read(503);
+        archive.close();
+
+        archive = new BlockArchive(directory, 250);
+
+        assertThat(archive.getFirstIndex(), is(500L));
+        assertThat(archive.getNextIndex(), is(507L));
+        assertThat(archive.getSegmentCount(), is(4));
+        assertThat(toBytes(archive.read(503)), is(block(503)));
+        assertThat(toBytes(before), is(block(503)));
+        archive.append(507, block(507));
+        assertThat(toBytes(archive.read(507)), is(block(507)));
+    }
+
+    @Test
+    public void testDiscardsIncompleteAppends() throws IOException {
+        appendBlocks(0, 3);
+        archive.close();
+        // data of a fourth block without index entry, and a torn index entry
+        try (RandomAccessFile segment = new RandomAccessFile(archive.segmentFile(1), "rw")) {
+            segment.seek(segment.length());
+            segment.write(block(3));
+        }
+        try (RandomAccessFile index = new RandomAccessFile(
+                new File(directory, BlockArchive.INDEX_FILE), "rw")) {
+            index.seek(index.length());
+            index.write(new byte[]{0, 0, 0, 1, 0});
+        }
+
+        archive = new BlockArchive(directory, 250);
+
+        assertThat(archive.getNextIndex(), is(3L));
+        assertThat(archive.segmentFile(1).length(), is(102L));
+        archive.append(3, block(3));
+        assertThat(toBytes(archive.read(3)), is(block(3)));
+    }
+
+    @Test
+    public void testDiscardsEntriesWithoutData() throws IOException {
+        appendBlocks(0, 4);
+        archive.close();
+        try (RandomAccessFile segment = new RandomAccessFile(archive.segmentFile(1), "rw")) {
+            segment.setLength(150);
+        }
+
+        archive = new BlockArchive(directory, 250);
+
+        assertThat(archive.getNextIndex(), is(3L));
+        assertThat(archive.segmentFile(1).length(), is(102L));
+    }
+
+    @Test
+    public void testReplay() throws IOException {
+        appendBlocks(20, 5);
+
+        List<Integer> ascending = archive.replay(21, 23, true)
+                .map(ByteBuffer::remaining).toList().toBlocking().single();
+        List<Integer> descending = archive.replay(21, 23, false)
+                .map(ByteBuffer::remaining).toList().toBlocking().single();
+
+        assertThat(ascending, is(Arrays.asList(101, 102, 103)));
+        assertThat(descending, is(Arrays.asList(103, 102, 101)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testReplayMissingRange() {
+        archive.replay(0, 3, true).toBlocking().last();
+    }
+
+    @Test
+    public void testReplayReadsThroughTheNode() throws IOException {
+        archive.close();
+        archive = new BlockArchive(directory);
+        MockNeoNode node = new MockNeoNode(1000);
+        Neow3j neow3j = Neow3j.build(node.asService());
+
+        List<byte[]> fetched = replay(neow3j, 90, 99);
+        assertThat(node.getRequestCount("getblock"), is(10L));
+        assertThat(archive.getFirstIndex(), is(90L));
+        assertThat(archive.getNextIndex(), is(100L));
+
+        List<byte[]> replayed = replay(neow3j, 90, 104);
+        assertThat(node.getRequestCount("getblock"), is(15L));
+        assertThat(archive.getNextIndex(), is(105L));
+        for (int i = 0; i < fetched.size(); i++) {
+            assertThat(replayed.get(i), is(fetched.get(i)));
+        }
+
+        replay(neow3j, 80, 81);
+        assertThat(node.getRequestCount("getblock"), is(17L));
+        assertThat(archive.getFirstIndex(), is(90L));
+        neow3j.shutdown();
+    }
+
+    private List<byte[]> replay(Neow3j neow3j, long start, long end) {
+        return neow3j.replayRawBlocksObservable(archive,
+                new BlockParameterIndex(start), new BlockParameterIndex(end))
+                .map(BlockArchiveTest::toBytes)
+                .toList().toBlocking().single();
+    }
+
+    private void appendBlocks(long first, int count) throws IOException {
+        for (long index = first; index < first + count; index++) {
+            archive.append(index, block(index));
+        }
+    }
+
+    private static byte[] block(long index) {
+        byte[] block = new byte[100 + (int) (index % 20)];
+        Arrays.fill(block, (byte) index);
+        return block;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
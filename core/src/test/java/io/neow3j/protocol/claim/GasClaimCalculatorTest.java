@@ -0,0 +1,122 @@
+package io.neow3j.protocol.claim;
+
+import io.neow3j.crypto.Claim;
+import io.neow3j.crypto.transaction.ClaimTransaction;
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.core.methods.response.NeoGetClaimable;
+import io.neow3j.protocol.utxo.Utxo;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GasClaimCalculatorTest {
+
+    private static final String ALICE = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+
+    @Test
+    public void testGeneratedFollowsTheSchedule() {
+        long interval = GasClaimCalculator.DECREMENT_INTERVAL;
+
+        assertThat(GasClaimCalculator.generated(0), is(0L));
+        assertThat(GasClaimCalculator.generated(2), is(16L));
+        assertThat(GasClaimCalculator.generated(interval + 2), is(8 * interval + 14));
+        assertThat(GasClaimCalculator.generated(22 * interval), is(100_000_000L));
+        assertThat(GasClaimCalculator.generated(30 * interval), is(100_000_000L));
+        assertThat(GasClaimCalculator.generated(22 * interval - 1), is(100_000_000L - 1));
+    }
+
+    @Test
+    public void testMatchesBlockByBlockSum() {
+        SysFeeTable sysFees = new SysFeeTable();
+        Random random = new Random(1);
+        long[] fees = new long[5000];
+        long cumulative = 0;
+        for (int i = 0; i < fees.length; i++) {
+            fees[i] = random.nextInt(4) == 0 ? random.nextInt(500) : 0;
+            cumulative += fees[i];
+            sysFees.add(i, cumulative);
+        }
+        GasClaimCalculator calculator = new GasClaimCalculator(sysFees);
+
+        for (int n = 0; n < 200; n++) {
+            int start = random.nextInt(fees.length);
+            int end = start + random.nextInt(fees.length - start + 1);
+            long neo = 1 + random.nextInt(1000);
+            long perNeo = 0;
+            for (int h = start; h < end; h++) {
+                perNeo += 8 + fees[h];
+            }
+
+            assertThat(calculator.calculate(BigDecimal.valueOf(neo), start, end),
+                    is(BigDecimal.valueOf(neo * perNeo, 8)));
+        }
+    }
+
+    @Test
+    public void testCalculatesClaims() {
+        SysFeeTable sysFees = table(100, 10);
+        GasClaimCalculator calculator = new GasClaimCalculator(sysFees);
+        NeoGetClaimable.Claim reported = new NeoGetClaimable.Claim(txId(1), 0,
+                BigInteger.valueOf(100), BigInteger.valueOf(10), BigInteger.valueOf(20), "0",
+                "0", "0");
+
+        Claim claim = calculator.calculateClaim(reported);
+        Claim other = calculator.calculateClaim(txId(2), 1, BigInteger.ONE, 0, 100);
+
+        // 100 NEO for 10 blocks of 8 generated and 10 system fee GAS
+        assertThat(claim.getClaimValue(), is(new BigDecimal("0.00018000")));
+        assertThat(claim.getStartHeight(), is(10));
+        assertThat(other.getClaimValue(), is(new BigDecimal("0.00001800")));
+        ClaimTransaction tx = ClaimTransaction.fromClaims(Arrays.asList(claim, other), ALICE);
+        assertThat(tx.getClaims().size(), is(2));
+        assertThat(new BigDecimal(tx.getOutputs().get(0).getValue()),
+                is(new BigDecimal("0.00019800")));
+    }
+
+    @Test
+    public void testCalculatesUnavailableGas() {
+        GasClaimCalculator calculator = new GasClaimCalculator(table(100, 0));
+
+        BigDecimal unavailable = calculator.calculateUnavailable(Arrays.asList(
+                new Utxo(txId(1), 0, NEOAsset.HASH_ID, ALICE, BigDecimal.TEN, 50),
+                new Utxo(txId(2), 0, "0x" + NEOAsset.HASH_ID.toUpperCase(), ALICE,
+                        BigDecimal.ONE, 90),
+                new Utxo(txId(3), 0, GASAsset.HASH_ID, ALICE, new BigDecimal("5.5"), 0)),
+                100);
+
+        assertThat(unavailable, is(BigDecimal.valueOf(10 * 50 * 8 + 10 * 8, 8)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsUnknownHeights() {
+        new GasClaimCalculator(table(10, 0)).calculateUnavailable(Collections.singletonList(
+                new Utxo(txId(1), 0, NEOAsset.HASH_ID, ALICE, BigDecimal.TEN, -1)), 10);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRequiresCachedSystemFees() {
+        new GasClaimCalculator(table(10, 0)).calculate(BigDecimal.ONE, 0, 11);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testRejectsFractionalNeo() {
+        new GasClaimCalculator(table(10, 0)).calculate(new BigDecimal("1.5"), 0, 5);
+    }
+
+    private static SysFeeTable table(int size, long feePerBlock) {
+        SysFeeTable table = new SysFeeTable();
+        for (int i = 0; i < size; i++) {
+            table.add(i, (i + 1) * feePerBlock);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,120 @@
+package io.neow3j.protocol.claim;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.mock.MockNeoNode;
+import io.neow3j.protocol.mock.TestChain;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import rx.schedulers.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.mock.TestChain.transaction;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SysFeeTableTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final MockNeoNode node = new MockNeoNode(300).setSystemFeePerBlock(3);
+    private final Neow3j neow3j = Neow3j.build(node.asService());
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+    }
+
+    @Test
+    public void testSyncsFromTheNode() {
+        node.setLatency(0, 2, TimeUnit.MILLISECONDS);
+        SysFeeTable table = new SysFeeTable();
+
+        List<Long> heights = table.sync(neow3j, 199, 8, Schedulers.io())
+                .toList().toBlocking().single();
+        table.sync(neow3j, 250).toBlocking().lastOrDefault(null);
+
+        assertThat(heights.size(), is(200));
+        assertThat(heights.get(199), is(199L));
+        assertThat(table.getHeight(), is(250L));
+        assertThat(table.get(-1), is(0L));
+        assertThat(table.get(0), is(3L));
+        assertThat(table.get(250), is(753L));
+        // the second sync only fetched the missing heights
+        assertThat(node.getRequestCount("getblocksysfee"), is(251L));
+        assertTrue(node.getMaxConcurrentRequests() <= 16);
+        assertThat(table.sync(neow3j, 100).isEmpty().toBlocking().single(), is(true));
+    }
+
+    @Test
+    public void testFailsOnUnknownBlocks() {
+        SysFeeTable table = new SysFeeTable();
+
+        try {
+            table.sync(neow3j, 400).toBlocking().last();
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause().getMessage().contains("block 301"));
+        }
+        assertThat(table.getHeight(), is(300L));
+    }
+
+    @Test
+    public void testAddsBlocks() {
+        SysFeeTable table = new SysFeeTable();
+
+        table.addBlock(block(0, "0"));
+        table.addBlock(block(1, "10", "0.5", "0.6"));
+        table.addBlock(block(2, "0.9"));
+
+        assertThat(table.get(0), is(0L));
+        assertThat(table.get(1), is(11L));
+        assertThat(table.get(2), is(11L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsGaps() {
+        SysFeeTable table = new SysFeeTable();
+        table.add(0, 0);
+        table.add(2, 0);
+    }
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        SysFeeTable table = new SysFeeTable();
+        for (int i = 0; i < 3000; i++) {
+            table.add(i, i * 7L);
+        }
+        File file = folder.newFile();
+
+        table.writeSnapshot(file);
+        SysFeeTable restored = SysFeeTable.readSnapshot(file);
+
+        assertThat(restored.size(), is(3000));
+        assertThat(restored.get(2999), is(2999 * 7L));
+        restored.add(3000, 0);
+        assertThat(restored.getHeight(), is(3000L));
+    }
+
+    private static NeoBlock block(long index, String... sysFees) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (String fee : sysFees) {
+            transactions.add(transaction(txId(index), TransactionType.INVOCATION_TRANSACTION,
+                    fee));
+        }
+        return TestChain.block(index, transactions);
+    }
+}
@@ -0,0 +1,99 @@
+package io.neow3j.protocol.core.polling;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.mock.MockNeoNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveBlockPollingTest {
+
+    private static final long BLOCK_TIME = 15_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private MockNeoNode node;
+    private List<BigInteger> blocks;
+    private List<Long> latencies;
+    private AdaptiveBlockPolling polling;
+
+    @Before
+    public void setUp() {
+        // mock node timestamps are 15 s apart; the first block after the start arrives at 15 s
+        node = new MockNeoNode(100).setClock(now::get).setBlockInterval(BLOCK_TIME,
+                TimeUnit.MILLISECONDS);
+        blocks = new ArrayList<>();
+        latencies = new ArrayList<>();
+        long start = now.get();
+        polling = new AdaptiveBlockPolling(Neow3j.build(node.asService()), block -> {
+            blocks.add(block);
+            long arrival = start + (block.longValue() - 100) * BLOCK_TIME;
+            latencies.add(now.get() - arrival);
+        }, 500, 15_000, now::get);
+    }
+
+    @Test
+    public void testLearnsIntervalAndDetectsBlocksEarly() throws IOException {
+        runFor(30 * BLOCK_TIME + 2000);
+
+        assertThat(blocks.size(), is(30));
+        assertThat(blocks.get(0), is(BigInteger.valueOf(101)));
+        assertThat(polling.getEstimatedBlockInterval(), is(BLOCK_TIME));
+        // a fixed 15 s poll sees blocks 7.5 s late on average
+        long lateLatency = latencies.subList(5, 30).stream().mapToLong(Long::longValue).max()
+                .getAsLong();
+        assertTrue("latency " + lateLatency, lateLatency <= 1000);
+        // the interval comes from two block headers, the arrival times from the polls
+        assertThat(node.getRequestCount("getblockheader"), is(2L));
+        // narrowing down the arrival costs a few polls for the first blocks
+        long polls = node.getRequestCount("getblockcount");
+        assertTrue("polls " + polls, polls <= 30 + 15);
+    }
+
+    @Test
+    public void testPollsAboutOncePerBlockWhenInPhase() throws IOException {
+        runFor(30 * BLOCK_TIME + 2000);
+        long before = node.getRequestCount("getblockcount");
+
+        runFor(32 * BLOCK_TIME);
+
+        assertThat(blocks.size(), is(62));
+        long polls = node.getRequestCount("getblockcount") - before;
+        // one poll per block plus up to two more every few blocks to stay in phase
+        assertTrue("polls " + polls,
+                polls <= 32 + 2 * 32 / AdaptiveBlockPolling.RESYNC_BLOCKS);
+        long lateLatency = latencies.subList(30, 62).stream().mapToLong(Long::longValue).max()
+                .getAsLong();
+        assertTrue("latency " + lateLatency, lateLatency <= 500);
+        assertThat(node.getRequestCount("getblockheader"), is(2L));
+    }
+
+    @Test
+    public void testBacksOffWhenBlocksStop() throws IOException {
+        runFor(10 * BLOCK_TIME);
+        node.setBlockInterval(0, TimeUnit.MILLISECONDS);
+        long before = node.getRequestCount("getblockcount");
+
+        runFor(10 * BLOCK_TIME);
+
+        long polls = node.getRequestCount("getblockcount") - before;
+        // dense polling only around the expected block, then back off to 15 s
+        assertTrue("polls " + polls, polls <= 25);
+    }
+
+    private void runFor(long duration) throws IOException {
+        long end = now.get() + duration;
+        while (now.get() < end) {
+            now.addAndGet(polling.poll());
+        }
+    }
+}
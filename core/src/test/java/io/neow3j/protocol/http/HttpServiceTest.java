@@ -0,0 +1,234 @@
+package io.neow3j.protocol.http;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetVersion;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.mock.MockNeoNode;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class HttpServiceTest {
+
+    private static final String BLOCK_COUNT = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":1234}";
+
+    private ServerInterceptor server;
+    private HttpService httpService;
+
+    @Before
+    public void setUp() {
+        server = new ServerInterceptor();
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(server).build();
+        httpService = new HttpService(client);
+    }
+
+    @Test
+    public void testGzipResponseIsDecodedWhileParsing() throws Exception {
+        httpService.setAcceptedEncodings(ContentEncoding.GZIP, ContentEncoding.DEFLATE);
+        server.respond(BLOCK_COUNT, ContentEncoding.GZIP);
+
+        NeoBlockCount blockCount = Neow3j.build(httpService).getBlockCount().send();
+
+        assertThat(blockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(server.request.header("Accept-Encoding"), is("gzip, deflate"));
+        assertThat(httpService.getResponseBytes(), is((long) BLOCK_COUNT.length()));
+        assertThat(httpService.getResponseWireBytes(), is((long) server.wireLength));
+    }
+
+    @Test
+    public void testDeflateResponseWithRawResponse() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(server).build();
+        httpService = new HttpService(client, true);
+        httpService.setAcceptedEncodings(ContentEncoding.DEFLATE);
+        server.respond(BLOCK_COUNT, ContentEncoding.DEFLATE);
+
+        NeoBlockCount blockCount = Neow3j.build(httpService).getBlockCount().send();
+
+        assertThat(blockCount.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(blockCount.getRawResponse(), is(BLOCK_COUNT));
+    }
+
+    @Test
+    public void testIdentityIsRequestedForEmptyEncodings() throws Exception {
+        httpService.setAcceptedEncodings();
+        server.respond(BLOCK_COUNT, null);
+
+        Neow3j.build(httpService).getBlockCount().send();
+
+        assertThat(server.request.header("Accept-Encoding"), is("identity"));
+        assertThat(httpService.getResponseWireBytes(), is(httpService.getResponseBytes()));
+    }
+
+    @Test
+    public void testUnsupportedResponseEncodingFails() throws Exception {
+        httpService.setAcceptedEncodings(ContentEncoding.GZIP);
+        server.respond(BLOCK_COUNT, null);
+        server.contentEncoding = "br";
+
+        try {
+            Neow3j.build(httpService).getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getMessage(), is("Unsupported response content encoding: br"));
+        }
+    }
+
+    @Test
+    public void testLargeRequestsAreCompressed() throws Exception {
+        httpService.setRequestCompression(ContentEncoding.GZIP, 64);
+        server.respond("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{}}", null);
+        Neow3j neow3j = Neow3j.build(httpService);
+
+        neow3j.getVersion().send();
+        assertThat(server.request.header("Content-Encoding"), nullValue());
+
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            script.append("00c1046e616d65");
+        }
+        neow3j.invokeScript(script.toString()).send();
+
+        assertThat(server.request.header("Content-Encoding"), is("gzip"));
+        Buffer body = new Buffer();
+        server.request.body().writeTo(body);
+        String json = new String(gunzip(body.readByteArray()), StandardCharsets.UTF_8);
+        assertThat(json.contains(script.toString()), is(true));
+        assertThat(httpService.getRequestWireBytes() < httpService.getRequestBytes(), is(true));
+    }
+
+    @Test
+    public void testDefaultNegotiationIsLeftToOkHttp() throws Exception {
+        server.respond("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"port\":1}}", null);
+
+        NeoGetVersion version = Neow3j.build(httpService).getVersion().send();
+
+        assertThat(version.getVersion().getPort(), is(1));
+        assertThat(server.request.header("Accept-Encoding"), nullValue());
+        assertThat(httpService.getResponseWireBytes(), is(0L));
+    }
+
+    @Test
+    public void testClientConfiguration() {
+        OkHttpClient client = new HttpClientConfig()
+                .connectionPool(16, 1, TimeUnit.MINUTES)
+                .timeouts(1, 2, 3, TimeUnit.SECONDS)
+                .http2PriorKnowledge(true)
+                .toBuilder()
+                .build();
+
+        assertThat(client.connectionPool().idleConnectionCount(), is(0));
+        assertThat(client.connectTimeoutMillis(), is(1000));
+        assertThat(client.readTimeoutMillis(), is(2000));
+        assertThat(client.writeTimeoutMillis(), is(3000));
+        assertThat(client.protocols(), is(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)));
+
+        HttpService service = new HttpService("http://localhost:10332", new HttpClientConfig());
+        PoolStatistics statistics = service.getPoolStatistics();
+        assertThat(statistics.getConnectionCount(), is(0));
+        assertThat(statistics.getRunningCallsCount(), is(0));
+    }
+
+    @Test
+    public void testParallelRequestsAgainstOneHostAreNotThrottled() throws Exception {
+        MockNeoNode node = new MockNeoNode().setLatency(200, 200, TimeUnit.MILLISECONDS);
+        int parallel = 12;
+        ExecutorService executor = Executors.newFixedThreadPool(parallel);
+        try {
+            HttpService service = new HttpService(node.start(), new HttpClientConfig());
+            Neow3j neow3j = Neow3j.build(service);
+            List<Future<NeoBlockCount>> results = new ArrayList<>();
+            for (int i = 0; i < parallel; i++) {
+                results.add(executor.submit(() -> neow3j.getBlockCount().send()));
+            }
+            for (Future<NeoBlockCount> result : results) {
+                assertThat(result.get().hasError(), is(false));
+            }
+
+            // synchronous calls are not subject to the 5 requests per host of the dispatcher
+            assertThat(node.getMaxConcurrentRequests(), is(parallel));
+            // and all connections are kept for reuse, not only the OkHttp default of 5
+            assertThat(service.getPoolStatistics().getIdleConnectionCount(), is(parallel));
+        } finally {
+            executor.shutdownNow();
+            node.stop();
+        }
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static class ServerInterceptor implements Interceptor {
+
+        private Request request;
+        private byte[] body;
+        private String contentEncoding;
+        private int wireLength;
+
+        void respond(String json, ContentEncoding encoding) throws IOException {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            if (encoding != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (DeflaterOutputStream compressing = encoding == ContentEncoding.GZIP
+                        ? new GZIPOutputStream(out) : new DeflaterOutputStream(out)) {
+                    compressing.write(bytes);
+                }
+                bytes = out.toByteArray();
+                contentEncoding = encoding.getValue();
+            }
+            body = bytes;
+            wireLength = bytes.length;
+        }
+
+        @Override
+        public okhttp3.Response intercept(Chain chain) {
+            request = chain.request();
+            okhttp3.Response.Builder response = new okhttp3.Response.Builder()
+                    .body(ResponseBody.create(MediaType.parse("application/json"), body))
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("");
+            if (contentEncoding != null) {
+                response.header("Content-Encoding", contentEncoding);
+            }
+            return response.build();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.neow3j.protocol.index;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static io.neow3j.protocol.mock.TestChain.block;
+import static io.neow3j.protocol.mock.TestChain.blockHash;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ChainTipTest {
+
+    private static final int MAGIC = 0x4E335454;
+
+    @Test
+    public void testRollsBackWithinTheDepth() {
+        ChainTip<String> tip = new ChainTip<>(2);
+        for (long index = 0; index < 3; index++) {
+            tip.checkExtends(block(index));
+            tip.advance(block(index), "undo " + index);
+        }
+
+        assertThat(tip.rollBack(block(2)), is("undo 2"));
+        assertThat(tip.rollBack(block(1)), is("undo 1"));
+        assertThat(tip.getHeight(), is(0L));
+        assertThat(tip.getBlockHash(), is(blockHash(0)));
+        try {
+            tip.rollBack(block(0));
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("Block 0 is beyond the rollback depth."));
+        }
+    }
+
+    @Test
+    public void testRejectsBlocksThatDoNotExtendTheTip() {
+        ChainTip<String> tip = new ChainTip<>(2);
+        tip.advance(block(0), "undo 0");
+
+        try {
+            tip.checkExtends(block(2));
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(),
+                    is("Block 2 does not extend the indexed chain at block 0."));
+        }
+        try {
+            tip.rollBack(block(1));
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("Block 1 is not the last indexed block."));
+        }
+    }
+
+    @Test
+    public void testHeaderRoundTrip() throws IOException {
+        ChainTip<String> tip = new ChainTip<>(2);
+        tip.advance(block(7), "undo 7");
+        Dictionary hashes = Dictionary.ofHashes();
+        hashes.add("0xABCD");
+        hashes.add("abcd");
+        hashes.add("ef01");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            tip.writeHeader(out, MAGIC, 1);
+            hashes.write(out);
+        }
+
+        ChainTip<String> read = new ChainTip<>(2);
+        Dictionary readHashes = Dictionary.ofHashes();
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            read.readHeader(in, MAGIC, 1, "test snapshot");
+            readHashes.read(in);
+        }
+
+        assertThat(read.getHeight(), is(7L));
+        assertThat(read.getBlockHash(), is(blockHash(7)));
+        assertThat(readHashes.size(), is(2));
+        assertThat(readHashes.idOf("EF01"), is(1));
+        assertThat(readHashes.get(0), is("0xabcd"));
+        assertThat(readHashes.idOf("0x1234"), is(-1));
+    }
+
+    @Test
+    public void testRejectsOtherSnapshotVersions() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            new ChainTip<String>(0).writeHeader(out, MAGIC, 2);
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            new ChainTip<String>(0).readHeader(in, MAGIC, 1, "test snapshot");
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Unsupported test snapshot version 2."));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.neow3j.protocol.ipc;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlockHash;
+import io.neow3j.protocol.core.methods.response.NeoGetRawBlock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PipelinedIpcServiceTest {
+
+    private FakeNode node;
+    private PipelinedIpcService service;
+
+    @Before
+    public void setUp() {
+        node = new FakeNode();
+        // a tiny buffer forces messages to span several reads
+        service = new PipelinedIpcService(node::connect, 1, 16, 5, TimeUnit.SECONDS, false);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Test
+    public void testPipelinedRequestsAreCorrelatedById() throws Exception {
+        node.batchSize = 3;
+        Neow3j neow3j = Neow3j.build(service);
+
+        List<CompletableFuture<NeoBlockHash>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(neow3j.getBlockHash(new BlockParameterIndex(i)).sendAsync());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getBlockHash(),
+                    is("hash-" + i));
+        }
+        assertThat(node.connections, is(1));
+        assertThat(service.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testLargeResponse() throws Exception {
+        NeoGetRawBlock block = Neow3j.build(service)
+                .getRawBlock(new BlockParameterIndex(100000)).send();
+
+        assertThat(block.getRawBlock().length(), is(10000));
+    }
+
+    @Test
+    public void testBrokenConnectionFailsPendingRequestsAndReconnects() throws Exception {
+        node.batchSize = 2;
+        Neow3j neow3j = Neow3j.build(service);
+        CompletableFuture<NeoBlockHash> pending =
+                neow3j.getBlockHash(new BlockParameterIndex(1)).sendAsync();
+        while (service.getPendingCount() == 0) {
+            Thread.sleep(1);
+        }
+        node.disconnect();
+
+        try {
+            pending.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause() instanceof IOException, is(true));
+        }
+
+        node.batchSize = 1;
+        assertThat(neow3j.getBlockHash(new BlockParameterIndex(7)).send().getBlockHash(),
+                is("hash-7"));
+        assertThat(node.connections, is(2));
+    }
+
+    @Test
+    public void testReadId() {
+        assertThat(IpcConnection.readId(
+                "{\"jsonrpc\":\"2.0\",\"result\":{\"id\":1,\"a\":[1,2]},\"id\":42}"
+                        .getBytes(StandardCharsets.UTF_8)), is(42L));
+        assertThat(IpcConnection.readId("[1]".getBytes(StandardCharsets.UTF_8)),
+                is((Long) null));
+    }
+
+    /**
+     * Answers getblockhash with "hash-index" and getblock with a large string. Collects
+     * <code>batchSize</code> requests and answers them in reverse order, in small chunks.
+     */
+    private static class FakeNode {
+
+        private volatile int batchSize = 1;
+        private volatile int connections;
+        private volatile Pipe.SinkChannel toClient;
+
+        ByteChannel connect() throws IOException {
+            Pipe requests = Pipe.open();
+            Pipe responses = Pipe.open();
+            toClient = responses.sink();
+            connections++;
+            Thread thread = new Thread(() -> serve(requests.source(), responses.sink()));
+            thread.setDaemon(true);
+            thread.start();
+            return new PipeChannel(responses.source(), requests.sink());
+        }
+
+        void disconnect() throws IOException {
+            toClient.close();
+        }
+
+        private void serve(Pipe.SourceChannel in, Pipe.SinkChannel out) {
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            ByteArrayOutputStream current = new ByteArrayOutputStream();
+            List<String> batch = new ArrayList<>();
+            try {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        byte b = buffer.get();
+                        if (b != '\n') {
+                            current.write(b);
+                            continue;
+                        }
+                        batch.add(answer(new String(current.toByteArray(), StandardCharsets.UTF_8)));
+                        current.reset();
+                        if (batch.size() >= batchSize) {
+                            Collections.reverse(batch);
+                            byte[] bytes = String.join("", batch).getBytes(StandardCharsets.UTF_8);
+                            for (int i = 0; i < bytes.length; i += 7) {
+                                out.write(ByteBuffer.wrap(
+                                        bytes, i, Math.min(7, bytes.length - i)));
+                            }
+                            batch.clear();
+                        }
+                    }
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                // connection closed
+            }
+        }
+
+        private static String answer(String request) {
+            long id = IpcConnection.readId(request.getBytes(StandardCharsets.UTF_8));
+            String result;
+            if (request.contains("getblockhash")) {
+                String index = request.replaceAll(".*\"params\":\\[(\\d+)].*", "$1");
+                result = "\"hash-" + index + "\"";
+            } else {
+                StringBuilder block = new StringBuilder();
+                for (int i = 0; i < 10000; i++) {
+                    block.append('a');
+                }
+                result = "\"" + block + "\"";
+            }
+            return "{\"jsonrpc\":\"2.0\",\"result\":" + result + ",\"id\":" + id + "}\n";
+        }
+    }
+
+    private static class PipeChannel implements ByteChannel {
+
+        private final Pipe.SourceChannel source;
+        private final Pipe.SinkChannel sink;
+
+        PipeChannel(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+            this.source = source;
+            this.sink = sink;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return source.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return sink.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return source.isOpen() && sink.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.neow3j.protocol.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (int i = 0; i < LatencyHistogram.bucketIndex(Long.MAX_VALUE); i++) {
+            assertThat(LatencyHistogram.highestEquivalentValue(i) + 1,
+                    is(LatencyHistogram.lowestEquivalentValue(i + 1)));
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.lowestEquivalentValue(i)),
+                    is(i));
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.highestEquivalentValue(i)),
+                    is(i));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 10000; v++) {
+            histogram.record(v * 1000);
+        }
+
+        assertThat(histogram.getCount(), is(10000L));
+        assertThat(histogram.getMax(), is(10_000_000L));
+        assertThat(histogram.getMean(), is(5_000_500.0));
+        assertWithinPrecision(histogram.getValueAtPercentile(50), 5_000_000);
+        assertWithinPrecision(histogram.getValueAtPercentile(99), 9_900_000);
+        assertThat(histogram.getValueAtPercentile(100), is(10_000_000L));
+        assertWithinPrecision(histogram.getValueAtPercentile(0), 1000);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(-5);
+        histogram.record(100);
+
+        assertThat(histogram.getValueAtPercentile(0), is(0L));
+        assertThat(histogram.getValueAtPercentile(50), is(3L));
+        assertThat(histogram.getValueAtPercentile(100), is(100L));
+    }
+
+    @Test
+    public void testValuesAreClampedAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.record(5000);
+        assertThat(histogram.getMax(), is(1000L));
+
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getValueAtPercentile(99), is(0L));
+    }
+
+    private static void assertWithinPrecision(long actual, long expected) {
+        assertTrue(actual + " vs. " + expected, Math.abs(actual - expected) <= expected / 64);
+    }
+}
@@ -0,0 +1,101 @@
+package io.neow3j.protocol.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.service.CoalescingService;
+import io.neow3j.protocol.service.StubService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsListenerTest {
+
+    private StubService service;
+    private InMemoryMetricsListener metrics;
+
+    @Before
+    public void setUp() {
+        service = new StubService().respond("getblockcount", "1000");
+        metrics = new InMemoryMetricsListener();
+        service.setMetricsListener(metrics);
+    }
+
+    @Test
+    public void testRequestsAreRecordedPerMethod() throws Exception {
+        Neow3j neow3j = Neow3j.build(service);
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+
+        MethodMetrics blockCount = metrics.getMethodMetrics("getblockcount");
+        assertThat(blockCount.getRequestCount(), is(2L));
+        assertThat(blockCount.getErrorCount(), is(0L));
+        assertTrue(blockCount.getBytesOut() > 0);
+        assertTrue(blockCount.getBytesIn() > 0);
+        assertThat(blockCount.getTotalLatency().getCount(), is(2L));
+        assertTrue(blockCount.getTotalLatency().getMax() > 0);
+
+        // the stub answers unknown methods with a JSON-RPC error
+        MethodMetrics blockHash = metrics.getMethodMetrics("getblockhash");
+        assertThat(blockHash.getRequestCount(), is(1L));
+        assertThat(blockHash.getErrorCount(), is(1L));
+        assertThat(metrics.getMethodMetrics().size(), is(2));
+    }
+
+    @Test
+    public void testRawResponsesAreCountedOnce() throws Exception {
+        StubService raw = new StubService(true).respond("getblockcount", "1000");
+        InMemoryMetricsListener rawMetrics = new InMemoryMetricsListener();
+        raw.setMetricsListener(rawMetrics);
+
+        Neow3j.build(service).getBlockCount().send();
+        String rawResponse = Neow3j.build(raw).getBlockCount().send().getRawResponse();
+
+        long bytesIn = metrics.getMethodMetrics("getblockcount").getBytesIn();
+        assertThat(rawMetrics.getMethodMetrics("getblockcount").getBytesIn(), is(bytesIn));
+        assertThat((long) rawResponse.length(), is(bytesIn));
+    }
+
+    @Test
+    public void testDecoratorsForwardTheListener() throws Exception {
+        StubService stub = new StubService().respond("getblockcount", "1000");
+        new CoalescingService(stub).setMetricsListener(metrics);
+
+        Neow3j.build(stub).getBlockCount().send();
+
+        assertThat(metrics.getMethodMetrics("getblockcount").getRequestCount(), is(1L));
+    }
+
+    @Test
+    public void testListenerCanBeRemoved() throws Exception {
+        service.setMetricsListener(null);
+        Neow3j.build(service).getBlockCount().send();
+
+        assertThat(metrics.getMethodMetrics("getblockcount"), is(nullValue()));
+    }
+
+    @Test
+    public void testMicrometer() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.setMetricsListener(new MicrometerMetricsListener(registry));
+
+        Neow3j.build(service).getBlockCount().send();
+
+        assertThat(registry.get("neow3j.rpc.requests").tag("method", "getblockcount")
+                .counter().count(), is(1.0));
+        assertThat(registry.get("neow3j.rpc.latency").tag("method", "getblockcount")
+                .tag("phase", "io").timer().count(), is(1L));
+        assertTrue(registry.get("neow3j.rpc.latency").tag("phase", "total").timer()
+                .totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertThat(registry.get("neow3j.rpc.payload").tag("direction", "in")
+                .summary(), is(notNullValue()));
+    }
+}
@@ -0,0 +1,661 @@
+package io.neow3j.protocol.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.neow3j.crypto.Hash;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.Service;
+import io.neow3j.utils.Numeric;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process mock of a NEO JSON-RPC node for load and latency tests.
+ *
+ * <p>The node serves a synthetic chain in which every block, hash and transaction is derived
+ * deterministically from its index, so no state has to be kept for it. Recorded blocks (e.g.
+ * captured from a real node) can be added on top and replace the synthetic block at their index.
+ * The chain grows by one block per configured block interval and/or on {@link #mineBlocks(int)}.
+ *
+ * <p>Every request can be delayed by a random latency and fail with the configured error rate.
+ * A failure is an HTTP 503 when served via {@link #start()}, and an {@link IOException} when
+ * served in-process via {@link #asService()}. Batch requests (JSON arrays) are supported.
+ *
+ * <p>Supported methods: getblockcount, getbestblockhash, getblockhash, getblock and
+ * getblockheader (verbose only), getrawtransaction (verbose only), getblocksysfee, getversion,
+ * getconnectioncount, getrawmempool, sendrawtransaction and getapplicationlog (for recorded
+ * logs). Other methods are answered with "Method not found".
+ */
+public class MockNeoNode {
+
+    public static final String ERROR_MESSAGE = "Mock node failure";
+
+    private static final long GENESIS_TIME = 1468595301L;
+    private static final long BLOCK_TIME_SECONDS = 15;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final JsonNodeFactory nodes = JsonNodeFactory.instance;
+
+    private final Map<Long, ObjectNode> recordedBlocks = new ConcurrentHashMap<>();
+    private final Map<String, Long> recordedBlockHashes = new ConcurrentHashMap<>();
+    private final Map<String, Long> recordedTransactions = new ConcurrentHashMap<>();
+    private final Map<String, JsonNode> recordedApplicationLogs = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private final ConcurrentNavigableMap<Long, Integer> branches = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong minedBlocks = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    private volatile long initialHeight;
+    private volatile int transactionsPerBlock = 2;
+    private volatile long systemFeePerBlock;
+    private volatile long minLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile double errorRate;
+    private volatile long blockIntervalMillis;
+    private volatile boolean acceptTransactions = true;
+    private volatile LongSupplier clock = System::currentTimeMillis;
+    private volatile long startMillis = clock.getAsLong();
+    private volatile Random random = new Random();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MockNeoNode() {
+        this(1000);
+    }
+
+    /**
+     * @param initialHeight the index of the latest block when the node starts
+     */
+    public MockNeoNode(long initialHeight) {
+        this.initialHeight = initialHeight;
+    }
+
+    /**
+     * Delays every request by a uniformly distributed latency.
+     *
+     * @param min  the minimum latency
+     * @param max  the maximum latency
+     * @param unit the unit of the latencies
+     * @return this node
+     */
+    public MockNeoNode setLatency(long min, long max, TimeUnit unit) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid latency range.");
+        }
+        this.minLatencyNanos = unit.toNanos(min);
+        this.maxLatencyNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * @param errorRate the fraction of requests (0 to 1) that fail
+     * @return this node
+     */
+    public MockNeoNode setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("The error rate must be between 0 and 1.");
+        }
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Lets the chain grow by one block per interval, measured from the moment this is called.
+     *
+     * @param interval the block interval, or 0 to only grow on {@link #mineBlocks(int)}
+     * @param unit     the unit of the interval
+     * @return this node
+     */
+    public MockNeoNode setBlockInterval(long interval, TimeUnit unit) {
+        this.initialHeight = getHeight();
+        this.minedBlocks.set(0);
+        this.startMillis = clock.getAsLong();
+        this.blockIntervalMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    /**
+     * @param transactionsPerBlock the number of contract transactions in each synthetic block,
+     *                             in addition to its miner transaction
+     * @return this node
+     */
+    public MockNeoNode setTransactionsPerBlock(int transactionsPerBlock) {
+        this.transactionsPerBlock = transactionsPerBlock;
+        return this;
+    }
+
+    /**
+     * @param systemFeePerBlock the system fee of every block in whole GAS, so that
+     *                          getblocksysfee returns (index + 1) times this fee
+     * @return this node
+     */
+    public MockNeoNode setSystemFeePerBlock(long systemFeePerBlock) {
+        this.systemFeePerBlock = systemFeePerBlock;
+        return this;
+    }
+
+    /**
+     * @param acceptTransactions whether sendrawtransaction accepts the transactions; rejected
+     *                           transactions are answered with an error
+     * @return this node
+     */
+    public MockNeoNode setAcceptTransactions(boolean acceptTransactions) {
+        this.acceptTransactions = acceptTransactions;
+        return this;
+    }
+
+    /**
+     * Seeds the random generator used for latencies and errors, for reproducible runs.
+     *
+     * @param seed the seed
+     * @return this node
+     */
+    public MockNeoNode setSeed(long seed) {
+        this.random = new Random(seed);
+        return this;
+    }
+
+    /**
+     * @param clock the clock in milliseconds used for the chain growth
+     * @return this node
+     */
+    public MockNeoNode setClock(LongSupplier clock) {
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        return this;
+    }
+
+    public void mineBlocks(int count) {
+        minedBlocks.addAndGet(count);
+    }
+
+    /**
+     * Switches to another fork: every synthetic block from the given index on gets a new hash,
+     * as if the node had reorganized its chain. The height does not change.
+     *
+     * @param fromIndex the index of the first block that is replaced
+     */
+    public synchronized void reorganize(long fromIndex) {
+        int branch = branches.isEmpty() ? 1 : branches.lastEntry().getValue() + 1;
+        branches.tailMap(fromIndex).clear();
+        branches.put(fromIndex, branch);
+    }
+
+    /**
+     * Adds a recorded block, i.e. the verbose <code>getblock</code> result of a real node. It
+     * replaces the synthetic block at its index; its transactions can be fetched by txid.
+     *
+     * @param blockJson the JSON of the block
+     * @throws IOException if the JSON cannot be parsed
+     */
+    public void addRecordedBlock(String blockJson) throws IOException {
+        ObjectNode block = (ObjectNode) objectMapper.readTree(blockJson);
+        long index = block.get("index").asLong();
+        recordedBlocks.put(index, block);
+        recordedBlockHashes.put(block.get("hash").asText(), index);
+        for (JsonNode tx : block.path("tx")) {
+            recordedTransactions.put(tx.get("txid").asText(), index);
+        }
+    }
+
+    /**
+     * Adds a recorded application log, i.e. the <code>getapplicationlog</code> result of a real
+     * node. The logs of other transactions are answered with an error.
+     *
+     * @param logJson the JSON of the application log
+     * @throws IOException if the JSON cannot be parsed
+     */
+    public void addRecordedApplicationLog(String logJson) throws IOException {
+        JsonNode log = objectMapper.readTree(logJson);
+        recordedApplicationLogs.put(log.get("txid").asText(), log);
+    }
+
+    /**
+     * @return the index of the latest block.
+     */
+    public long getHeight() {
+        long grown = 0;
+        if (blockIntervalMillis > 0) {
+            grown = Math.max(0, clock.getAsLong() - startMillis) / blockIntervalMillis;
+        }
+        return initialHeight + grown + minedBlocks.get();
+    }
+
+    public long getRequestCount(String method) {
+        LongAdder count = requestCounts.get(method);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getTotalRequestCount() {
+        return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getFailedRequestCount() {
+        return failedRequests.get();
+    }
+
+    /**
+     * @return the highest number of requests that were handled at the same time.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests.get();
+    }
+
+    /**
+     * Starts serving HTTP on a free port of the loopback interface.
+     *
+     * @return the URL of the node
+     * @throws IOException if the server cannot be started
+     */
+    public synchronized String start() throws IOException {
+        if (server == null) {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "mock-neo-node");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext("/", this::handleExchange);
+            server.start();
+        }
+        return "http://" + server.getAddress().getHostString() + ":"
+                + server.getAddress().getPort() + "/";
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * @return a service that talks to this node in-process, without sockets.
+     */
+    public Service asService() {
+        return new Service(false) {
+            @Override
+            protected InputStream performIO(String payload) throws IOException {
+                byte[] response = handle(payload.getBytes(StandardCharsets.UTF_8));
+                if (response == null) {
+                    throw new IOException(ERROR_MESSAGE);
+                }
+                return new ByteArrayInputStream(response);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private void handleExchange(HttpExchange exchange) throws IOException {
+        try {
+            byte[] response = handle(readAll(exchange.getRequestBody()));
+            if (response == null) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers a JSON-RPC payload.
+     *
+     * @param payload the request or batch of requests
+     * @return the response, or null if the request failed because of the error rate
+     * @throws IOException if the payload is not valid JSON
+     */
+    byte[] handle(byte[] payload) throws IOException {
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+        try {
+            return respond(payload);
+        } finally {
+            concurrentRequests.decrementAndGet();
+        }
+    }
+
+    private byte[] respond(byte[] payload) throws IOException {
+        simulateLatency();
+        if (errorRate > 0 && nextDouble() < errorRate) {
+            failedRequests.incrementAndGet();
+            return null;
+        }
+        JsonNode request = objectMapper.readTree(payload);
+        JsonNode response;
+        if (request.isArray()) {
+            ArrayNode responses = nodes.arrayNode();
+            for (JsonNode r : request) {
+                responses.add(answer(r));
+            }
+            response = responses;
+        } else {
+            response = answer(request);
+        }
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private ObjectNode answer(JsonNode request) {
+        String method = request.path("method").asText();
+        requestCounts.computeIfAbsent(method, m -> new LongAdder()).increment();
+        JsonNode params = request.path("params");
+
+        ObjectNode response = nodes.objectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+        try {
+            response.set("result", result(method, params));
+        } catch (RpcError e) {
+            ObjectNode error = response.putObject("error");
+            error.put("code", e.code);
+            error.put("message", e.getMessage());
+        }
+        return response;
+    }
+
+    private JsonNode result(String method, JsonNode params) throws RpcError {
+        long height = getHeight();
+        switch (method) {
+            case "getblockcount":
+                return nodes.numberNode(height + 1);
+            case "getbestblockhash":
+                return nodes.textNode(blockHash(height));
+            case "getblockhash":
+                return nodes.textNode(blockHash(blockIndex(params.path(0), height)));
+            case "getblock":
+                if (params.path(1).asInt() == 0) {
+                    return nodes.textNode(rawBlock(blockIndex(params.path(0), height)));
+                }
+                return block(blockIndex(params.path(0), height), height, true);
+            case "getblockheader":
+                requireVerbose(params);
+                return block(blockIndex(params.path(0), height), height, false);
+            case "getrawtransaction":
+                requireVerbose(params);
+                return transaction(params.path(0).asText(), height);
+            case "getblocksysfee":
+                long index = blockIndex(params.path(0), height);
+                return nodes.textNode(String.valueOf((index + 1) * systemFeePerBlock));
+            case "getversion":
+                ObjectNode version = nodes.objectNode();
+                version.put("port", 0);
+                version.put("nonce", 1);
+                version.put("useragent", "/MockNeoNode/");
+                return version;
+            case "getconnectioncount":
+                return nodes.numberNode(1);
+            case "getrawmempool":
+                return nodes.arrayNode();
+            case "sendrawtransaction":
+                if (!acceptTransactions) {
+                    throw new RpcError(-500, "Transaction rejected");
+                }
+                return nodes.booleanNode(true);
+            case "getapplicationlog":
+                JsonNode log = recordedApplicationLogs.get(params.path(0).asText());
+                if (log == null) {
+                    throw new RpcError(-100, "Unknown transaction");
+                }
+                return log;
+            default:
+                throw new RpcError(-32601, "Method not found");
+        }
+    }
+
+    private long blockIndex(JsonNode hashOrIndex, long height) throws RpcError {
+        long index;
+        if (hashOrIndex.isNumber()) {
+            index = hashOrIndex.asLong();
+        } else {
+            String hash = hashOrIndex.asText();
+            Long recorded = recordedBlockHashes.get(hash);
+            index = recorded != null ? recorded : syntheticIndex(hash, "block", this::blockHash);
+        }
+        if (index < 0 || index > height) {
+            throw new RpcError(-100, "Unknown block");
+        }
+        return index;
+    }
+
+    private static void requireVerbose(JsonNode params) throws RpcError {
+        if (params.path(1).asInt() != 1) {
+            throw new RpcError(-32602, "Only the verbose format is supported by the mock node");
+        }
+    }
+
+    private ObjectNode block(long index, long height, boolean withTransactions) {
+        ObjectNode recorded = recordedBlocks.get(index);
+        if (recorded != null) {
+            ObjectNode block = recorded.deepCopy();
+            if (!withTransactions) {
+                block.remove("tx");
+            }
+            setConfirmations(block, index, height);
+            return block;
+        }
+        ObjectNode block = nodes.objectNode();
+        block.put("hash", blockHash(index));
+        block.put("size", 686 + 200 * transactionsPerBlock);
+        block.put("version", 0);
+        if (index > 0) {
+            block.put("previousblockhash", blockHash(index - 1));
+        }
+        block.put("merkleroot", hash("merkle", index));
+        block.put("time", blockTime(index));
+        block.put("index", index);
+        block.put("nonce", Long.toHexString(index * 2654435761L));
+        block.put("nextconsensus", "AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB");
+        ObjectNode script = block.putObject("script");
+        script.put("invocation", "40");
+        script.put("verification", "51");
+        if (withTransactions) {
+            ArrayNode txs = block.putArray("tx");
+            for (int i = 0; i <= transactionsPerBlock; i++) {
+                txs.add(syntheticTransaction(index, i));
+            }
+        }
+        setConfirmations(block, index, height);
+        return block;
+    }
+
+    /**
+     * Creates the raw form of a block. It is not a valid serialized block, but its size and
+     * content are unique per block and fork.
+     */
+    private String rawBlock(long index) {
+        byte[] hash = Numeric.hexStringToByteArray(blockHash(index));
+        byte[] raw = new byte[100 + (int) (index % 64)];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = hash[i % hash.length];
+        }
+        return Numeric.toHexStringNoPrefix(raw);
+    }
+
+    private void setConfirmations(ObjectNode block, long index, long height) {
+        block.put("confirmations", height - index + 1);
+        if (index < height) {
+            block.put("nextblockhash", blockHash(index + 1));
+        } else {
+            block.remove("nextblockhash");
+        }
+    }
+
+    private ObjectNode transaction(String txid, long height) throws RpcError {
+        Long recordedIndex = recordedTransactions.get(txid);
+        ObjectNode tx = null;
+        long index;
+        if (recordedIndex != null) {
+            index = recordedIndex;
+            for (JsonNode t : recordedBlocks.get(index).path("tx")) {
+                if (txid.equals(t.get("txid").asText())) {
+                    tx = ((ObjectNode) t).deepCopy();
+                }
+            }
+        } else {
+            long position = syntheticIndex(txid, "tx", value -> hash("tx", value));
+            index = position >>> 16;
+            int n = (int) (position & 0xffff);
+            if (position < 0 || index > height || n > transactionsPerBlock) {
+                throw new RpcError(-100, "Unknown transaction");
+            }
+            tx = syntheticTransaction(index, n);
+        }
+        tx.put("blockhash", blockHash(index));
+        tx.put("confirmations", height - index + 1);
+        tx.put("blocktime", blockTime(index));
+        return tx;
+    }
+
+    private ObjectNode syntheticTransaction(long index, int n) {
+        ObjectNode tx = nodes.objectNode();
+        tx.put("txid", hash("tx", (index << 16) | n));
+        tx.put("version", 0);
+        tx.putArray("attributes");
+        ArrayNode vin = tx.putArray("vin");
+        ArrayNode vout = tx.putArray("vout");
+        tx.put("sys_fee", "0");
+        tx.put("net_fee", "0");
+        ArrayNode scripts = tx.putArray("scripts");
+        if (n == 0) {
+            tx.put("size", 10);
+            tx.put("type", "MinerTransaction");
+            tx.put("nonce", (int) index);
+            return tx;
+        }
+        tx.put("size", 200);
+        tx.put("type", "ContractTransaction");
+        ObjectNode input = vin.addObject();
+        input.put("txid", hash("tx", ((index - 1) << 16) | n));
+        input.put("vout", 0);
+        ObjectNode output = vout.addObject();
+        output.put("n", 0);
+        output.put("asset", "0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b");
+        output.put("value", "1");
+        output.put("address", "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y");
+        ObjectNode script = scripts.addObject();
+        script.put("invocation", "40");
+        script.put("verification", "ac");
+        return tx;
+    }
+
+    private String blockHash(long index) {
+        ObjectNode recorded = recordedBlocks.get(index);
+        if (recorded != null) {
+            return recorded.get("hash").asText();
+        }
+        Map.Entry<Long, Integer> branch = branches.floorEntry(index);
+        return hash(branch == null ? "block" : "block/" + branch.getValue(), index);
+    }
+
+    private static long blockTime(long index) {
+        return GENESIS_TIME + index * BLOCK_TIME_SECONDS;
+    }
+
+    /**
+     * Creates a 32-byte hash whose first 24 bytes are derived from the kind and value and whose
+     * last 8 bytes are the value itself, so that it can be resolved without storing it.
+     */
+    private static String hash(String kind, long value) {
+        byte[] digest = Hash.sha256((kind + value).getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 8; i++) {
+            digest[24 + i] = (byte) (value >>> (56 - 8 * i));
+        }
+        return Numeric.toHexString(digest);
+    }
+
+    private static long syntheticIndex(String hash, String kind, LongFunction<String> hashOf)
+            throws RpcError {
+        String hex = Numeric.cleanHexPrefix(hash);
+        if (hex.length() == 64) {
+            try {
+                long value = Long.parseUnsignedLong(hex.substring(48), 16);
+                if (hashOf.apply(value).equals(Numeric.prependHexPrefix(hex))) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new RpcError(-100, "Unknown " + ("tx".equals(kind) ? "transaction" : "block"));
+    }
+
+    private void simulateLatency() {
+        long max = maxLatencyNanos;
+        long min = minLatencyNanos;
+        if (max == 0) {
+            return;
+        }
+        long latency = min + (long) (nextDouble() * (max - min));
+        try {
+            TimeUnit.NANOSECONDS.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double nextDouble() {
+        Random r = random;
+        synchronized (r) {
+            return r.nextDouble();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static class RpcError extends Exception {
+
+        private final int code;
+
+        RpcError(int code, String message) {
+            super(message, null, false, false);
+            this.code = code;
+        }
+    }
+}
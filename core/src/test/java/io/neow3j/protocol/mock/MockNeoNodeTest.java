@@ -0,0 +1,139 @@
+package io.neow3j.protocol.mock;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MockNeoNodeTest {
+
+    private MockNeoNode node;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        node = new MockNeoNode(100);
+        neow3j = Neow3j.build(node.asService());
+    }
+
+    @After
+    public void tearDown() {
+        node.stop();
+    }
+
+    @Test
+    public void testSyntheticChain() throws IOException {
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(101)));
+
+        NeoBlock block = neow3j.getBlock(new BlockParameterIndex(50), true).send().getBlock();
+        assertThat(block.getIndex(), is(50L));
+        assertThat(block.getConfirmations(), is(51));
+        assertThat(block.getTransactions().size(), is(3));
+        assertThat(block.getTransactions().get(0).getType(), is(TransactionType.MINER_TRANSACTION));
+
+        NeoBlock byHash = neow3j.getBlock(block.getHash(), true).send().getBlock();
+        assertThat(byHash.getIndex(), is(50L));
+        NeoBlock next = neow3j.getBlockHeader(new BlockParameterIndex(51)).send().getBlock();
+        assertThat(next.getPrevBlockHash(), is(block.getHash()));
+        assertThat(next.getTransactions(), is(nullValue()));
+
+        Transaction tx = block.getTransactions().get(1);
+        Transaction fetched = neow3j.getTransaction(tx.getTransactionId()).send().getTransaction();
+        assertThat(fetched.getTransactionId(), is(tx.getTransactionId()));
+        assertThat(fetched.getBlockHash(), is(block.getHash()));
+        assertThat(fetched.getConfirmations(), is(51L));
+    }
+
+    @Test
+    public void testUnknownBlocksAndMethods() throws IOException {
+        NeoGetBlock unknown = neow3j.getBlock(new BlockParameterIndex(101), true).send();
+        assertTrue(unknown.hasError());
+        assertTrue(neow3j.getBlock("0x" + repeat('1', 64), true).send().hasError());
+        assertTrue(neow3j.getPeers().send().hasError());
+        assertThat(node.getRequestCount("getblock"), is(2L));
+    }
+
+    @Test
+    public void testChainGrowth() throws IOException {
+        AtomicLong now = new AtomicLong();
+        node.setClock(now::get).setBlockInterval(15, TimeUnit.SECONDS);
+
+        now.set(31_000);
+        assertThat(node.getHeight(), is(102L));
+        node.mineBlocks(3);
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(106)));
+    }
+
+    @Test
+    public void testRecordedBlock() throws IOException {
+        String hash = "0x498b16db3fba92448fac63caeecb91ce38cb4b565de7d717d473f0dd37a1e816";
+        String txid = "0x96ff8b13809f9ad38b165545f4d6c723faf7ca4d3a8d88297726532caa89a21c";
+        node.addRecordedBlock("{\"hash\":\"" + hash + "\",\"index\":42,\"size\":10,"
+                + "\"tx\":[{\"txid\":\"" + txid + "\",\"type\":\"MinerTransaction\","
+                + "\"size\":10,\"version\":0,\"nonce\":1}]}");
+
+        assertThat(neow3j.getBlockHash(new BlockParameterIndex(42)).send().getBlockHash(),
+                is(hash));
+        assertThat(neow3j.getBlock(hash, true).send().getBlock().getIndex(), is(42L));
+        assertThat(neow3j.getTransaction(txid).send().getTransaction().getBlockHash(), is(hash));
+        assertThat(neow3j.getBlockHeader(new BlockParameterIndex(43)).send().getBlock()
+                .getPrevBlockHash(), is(hash));
+    }
+
+    @Test
+    public void testHttpWithErrorRate() throws IOException {
+        Neow3j http = Neow3j.build(new HttpService(node.start()));
+        assertThat(http.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(101)));
+
+        node.setErrorRate(1);
+        try {
+            http.getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getStatusCode(), is(503));
+        }
+        assertThat(node.getFailedRequestCount(), is(1L));
+    }
+
+    @Test
+    public void testBatchAndLatency() throws IOException {
+        node.setLatency(20, 20, TimeUnit.MILLISECONDS);
+        byte[] response = node.handle(("[{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\","
+                + "\"params\":[],\"id\":1},{\"jsonrpc\":\"2.0\",\"method\":\"getblockhash\","
+                + "\"params\":[0],\"id\":2}]").getBytes());
+        long start = System.nanoTime();
+        node.handle("{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":3}"
+                .getBytes());
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        String json = new String(response);
+        assertTrue(json, json.startsWith("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":101}"));
+        assertThat(node.getTotalRequestCount(), is(3L));
+    }
+
+    private static String repeat(char c, int n) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
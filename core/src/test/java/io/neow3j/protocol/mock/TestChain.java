@@ -0,0 +1,94 @@
+package io.neow3j.protocol.mock;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Verbose blocks and transactions for tests that feed blocks to a component directly instead of
+ * fetching them from a {@link MockNeoNode}.
+ *
+ * <p>Block <code>n</code> has the hash {@link #blockHash(long)} and links to block
+ * <code>n - 1</code>, so blocks built one by one form a chain. Transaction ids and block hashes
+ * do not overlap for realistic numbers of transactions.</p>
+ */
+public final class TestChain {
+
+    private static final long BLOCK_HASH_OFFSET = 0xb10c000L;
+
+    private TestChain() {
+    }
+
+    /**
+     * @param index the block index
+     * @return the hash of the block with the given index
+     */
+    public static String blockHash(long index) {
+        return String.format("0x%064x", BLOCK_HASH_OFFSET + index);
+    }
+
+    /**
+     * @param n a number identifying the transaction
+     * @return a transaction id
+     */
+    public static String txId(long n) {
+        return String.format("0x%064x", n);
+    }
+
+    /**
+     * @param index        the block index
+     * @param transactions the transactions of the block
+     * @return the block, linked to the block before it; its transaction list can be modified
+     */
+    public static NeoBlock block(long index, Transaction... transactions) {
+        return block(index, Arrays.asList(transactions));
+    }
+
+    /**
+     * @param index        the block index
+     * @param transactions the transactions of the block
+     * @return the block, linked to the block before it; its transaction list can be modified
+     */
+    public static NeoBlock block(long index, List<Transaction> transactions) {
+        return new NeoBlock(blockHash(index), 0, 0, index == 0 ? null : blockHash(index - 1),
+                null, 0, index, null, null, null, new ArrayList<>(transactions), 0, null);
+    }
+
+    /**
+     * @param txId the transaction id
+     * @param type the transaction type
+     * @return a transaction without inputs, outputs and fees
+     */
+    public static Transaction transaction(String txId, TransactionType type) {
+        return transaction(txId, type, "0");
+    }
+
+    /**
+     * @param txId   the transaction id
+     * @param type   the transaction type
+     * @param sysFee the system fee
+     * @return a transaction without inputs and outputs
+     */
+    public static Transaction transaction(String txId, TransactionType type, String sysFee) {
+        return new Transaction(txId, 0, type, 0, null, null, null, sysFee, "0", null, null,
+                null, null);
+    }
+
+    /**
+     * @param txId    the transaction id
+     * @param inputs  the inputs
+     * @param outputs the outputs
+     * @return a contract transaction
+     */
+    public static Transaction contractTransaction(String txId, List<TransactionInput> inputs,
+            List<TransactionOutput> outputs) {
+        return new Transaction(txId, 0, TransactionType.CONTRACT_TRANSACTION, 0, null, inputs,
+                outputs, "0", "0", null, null, null, null);
+    }
+}
@@ -0,0 +1,127 @@
+package io.neow3j.protocol.nep5;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static io.neow3j.protocol.mock.TestChain.block;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class Nep5BalancesTest {
+
+    private static final String TOKEN = "0xecc6b20d3ccac1ee9ef109af5a7cdb85706b1df9";
+    private static final String OTHER_TOKEN = "0xa0777c3ce2b169d4a23bcba4565e3225a0122d95";
+    private static final String ALICE = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String BOB = "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Nep5Balances balances = new Nep5Balances();
+
+    @Test
+    public void testAppliesTransfers() {
+        balances.addBlock(block(0), Arrays.asList(
+                transfer(TOKEN, null, ALICE, 1000),
+                transfer(OTHER_TOKEN, null, ALICE, 5)));
+        balances.addBlock(block(1), Arrays.asList(
+                transfer(TOKEN, ALICE, BOB, 300),
+                transfer(TOKEN, BOB, null, 100)));
+
+        assertThat(balances.getHeight(), is(1L));
+        assertThat(balances.getBalance(TOKEN, ALICE), is(BigInteger.valueOf(700)));
+        assertThat(balances.getBalance(TOKEN.substring(2).toUpperCase(), BOB),
+                is(BigInteger.valueOf(200)));
+        assertThat(balances.getBalance(OTHER_TOKEN, BOB), is(BigInteger.ZERO));
+        assertThat(balances.getBalance(TOKEN, "unknown"), is(BigInteger.ZERO));
+        Map<String, BigInteger> expected = new HashMap<>();
+        expected.put(TOKEN, BigInteger.valueOf(700));
+        expected.put(OTHER_TOKEN, BigInteger.valueOf(5));
+        assertThat(balances.getBalances(ALICE), is(expected));
+        assertThat(balances.size(), is(3));
+    }
+
+    @Test
+    public void testRollsBackBlocks() {
+        balances.addBlock(block(0), Collections.singletonList(transfer(TOKEN, null, ALICE, 10)));
+        NeoBlock block = block(1);
+        balances.addBlock(block, Collections.singletonList(transfer(TOKEN, ALICE, BOB, 4)));
+
+        balances.rollBack(block);
+
+        assertThat(balances.getHeight(), is(0L));
+        assertThat(balances.getBlockHash(), is(block(0).getHash()));
+        assertThat(balances.getBalance(TOKEN, ALICE), is(BigInteger.TEN));
+        assertThat(balances.getBalances(BOB).isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsBlocksThatDoNotExtendTheChain() {
+        balances.addBlock(block(0), Collections.emptyList());
+        balances.addBlock(block(2), Collections.emptyList());
+    }
+
+    @Test
+    public void testKeepsBalancesBeyondLongRange() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        balances.addBlock(block(0), Arrays.asList(
+                transfer(TOKEN, null, ALICE, Long.MAX_VALUE),
+                transfer(TOKEN, null, ALICE, Long.MAX_VALUE),
+                transfer(TOKEN, BOB, null, Long.MAX_VALUE),
+                transfer(TOKEN, BOB, null, 1)));
+
+        assertThat(balances.getBalance(TOKEN, ALICE), is(max.add(max)));
+        assertThat(balances.getBalance(TOKEN, BOB), is(max.add(BigInteger.ONE).negate()));
+
+        balances.addBlock(block(1), Collections.singletonList(
+                transfer(TOKEN, ALICE, BOB, Long.MAX_VALUE)));
+
+        assertThat(balances.getBalance(TOKEN, ALICE), is(max));
+        assertThat(balances.getBalance(TOKEN, BOB), is(BigInteger.ONE.negate()));
+    }
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            Nep5Transfer[] transfers = new Nep5Transfer[100];
+            for (int j = 0; j < transfers.length; j++) {
+                transfers[j] = transfer(random.nextBoolean() ? TOKEN : OTHER_TOKEN,
+                        "A" + random.nextInt(1000), "A" + random.nextInt(1000),
+                        random.nextInt(1000));
+            }
+            balances.addBlock(block(i), Arrays.asList(transfers));
+        }
+        balances.addBlock(block(50), Collections.singletonList(
+                new Nep5Transfer("0x01", 50, TOKEN, null, ALICE,
+                        BigInteger.ONE.shiftLeft(100))));
+        File file = folder.newFile();
+
+        balances.writeSnapshot(file);
+        Nep5Balances restored = Nep5Balances.readSnapshot(file, 10);
+
+        assertThat(restored.getHeight(), is(50L));
+        assertThat(restored.getBlockHash(), is(block(50).getHash()));
+        assertThat(restored.size(), is(balances.size()));
+        assertThat(restored.getBalance(TOKEN, ALICE), is(BigInteger.ONE.shiftLeft(100)));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(restored.getBalances("A" + i), is(balances.getBalances("A" + i)));
+        }
+        restored.addBlock(block(51), Collections.emptyList());
+    }
+
+    private static Nep5Transfer transfer(String contract, String from, String to, long amount) {
+        return new Nep5Transfer("0x01", 0, contract, from, to, BigInteger.valueOf(amount));
+    }
+}
@@ -0,0 +1,214 @@
+package io.neow3j.protocol.nep5;
+
+import io.neow3j.crypto.KeyUtils;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.mock.MockNeoNode;
+import io.neow3j.protocol.mock.TestChain;
+import io.neow3j.protocol.rx.BlockEvent;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import rx.Observable;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.mock.TestChain.transaction;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Nep5IndexerTest {
+
+    private static final String TOKEN = "0xecc6b20d3ccac1ee9ef109af5a7cdb85706b1df9";
+    private static final String ALICE_HASH = "10d46912932d6ebcd1d3c4a27a1a8ea77e68ac95";
+    private static final String BOB_HASH = "23ba2703c53263e8d6e522dc32203339dcd8eee9";
+    private static final String ALICE = KeyUtils.scriptHashToAddress(ALICE_HASH);
+    private static final String BOB = KeyUtils.scriptHashToAddress(BOB_HASH);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final MockNeoNode node = new MockNeoNode(100);
+    private final Neow3j neow3j = Neow3j.build(node.asService());
+    private int txCount;
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+    }
+
+    @Test
+    public void testDecodesTransfers() throws IOException {
+        NeoApplicationLog log = ObjectMapperFactory.getObjectMapper().readValue(
+                log(txId(1),
+                        execution("HALT, BREAK",
+                                notification(TOKEN, "transfer", "", ALICE_HASH, 100),
+                                notification(TOKEN, "approve", ALICE_HASH, BOB_HASH, 1),
+                                notification(TOKEN.substring(2).toUpperCase(), "transfer",
+                                        ALICE_HASH, "", 30)),
+                        execution("FAULT, BREAK",
+                                notification(TOKEN, "transfer", ALICE_HASH, BOB_HASH, 5))),
+                NeoApplicationLog.class);
+
+        List<Nep5Transfer> transfers = Nep5Indexer.decodeTransfers(log, 7);
+
+        assertThat(transfers, is(Arrays.asList(
+                new Nep5Transfer(txId(1), 7, TOKEN, null, ALICE, BigInteger.valueOf(100)),
+                new Nep5Transfer(txId(1), 7, TOKEN, ALICE, null, BigInteger.valueOf(30)))));
+    }
+
+    @Test
+    public void testIndexesBlocksInChainOrder() throws IOException {
+        node.setLatency(0, 5, TimeUnit.MILLISECONDS);
+        List<NeoBlock> blocks = new ArrayList<>();
+        List<Nep5Transfer> expected = new ArrayList<>();
+        String mint = mint(1_000_000);
+        blocks.add(block(0, mint));
+        expected.add(new Nep5Transfer(mint, 0, TOKEN, null, ALICE,
+                BigInteger.valueOf(1_000_000)));
+        long moved = 0;
+        for (int i = 1; i < 40; i++) {
+            List<String> txIds = new ArrayList<>();
+            for (int j = 0; j < i % 4; j++) {
+                boolean toBob = j % 2 == 0;
+                String txId = toBob ? transfer(ALICE_HASH, BOB_HASH, i)
+                        : transfer(BOB_HASH, ALICE_HASH, i);
+                txIds.add(txId);
+                expected.add(new Nep5Transfer(txId, i, TOKEN, toBob ? ALICE : BOB,
+                        toBob ? BOB : ALICE, BigInteger.valueOf(i)));
+                moved += toBob ? i : -i;
+            }
+            blocks.add(block(i, txIds.toArray(new String[0])));
+        }
+        Nep5Balances balances = new Nep5Balances();
+
+        List<Nep5Transfer> transfers = new Nep5Indexer(neow3j, balances, 4)
+                .indexBlocks(Observable.from(blocks)).toList().toBlocking().single();
+
+        assertThat(transfers, is(expected));
+        assertThat(balances.getHeight(), is(39L));
+        assertThat(balances.getBalance(TOKEN, ALICE), is(BigInteger.valueOf(1_000_000 - moved)));
+        assertThat(balances.getBalance(TOKEN, BOB), is(BigInteger.valueOf(moved)));
+        // only the invocation transactions are looked up
+        assertThat(node.getRequestCount("getapplicationlog"), is(61L));
+        assertTrue(node.getMaxConcurrentRequests() > 1);
+        assertTrue(node.getMaxConcurrentRequests() <= 4);
+    }
+
+    @Test
+    public void testRevertsRolledBackBlocks() throws IOException {
+        NeoBlock genesis = block(0, mint(100));
+        NeoBlock block = block(1, transfer(ALICE_HASH, BOB_HASH, 40));
+        Nep5Balances balances = new Nep5Balances();
+
+        List<Nep5Transfer> transfers = new Nep5Indexer(neow3j, balances)
+                .index(Observable.just(BlockEvent.added(genesis), BlockEvent.added(block),
+                        BlockEvent.rolledBack(block)))
+                .toList().toBlocking().single();
+
+        assertThat(transfers.size(), is(2));
+        assertThat(balances.getHeight(), is(0L));
+        assertThat(balances.getBalance(TOKEN, ALICE), is(BigInteger.valueOf(100)));
+        assertThat(balances.getBalance(TOKEN, BOB), is(BigInteger.ZERO));
+    }
+
+    @Test
+    public void testFailsWithoutApplicationLog() throws IOException {
+        NeoBlock genesis = block(0, mint(100));
+        Transaction unknown = transaction(txId(99), TransactionType.INVOCATION_TRANSACTION);
+        NeoBlock block = block(1);
+        block.getTransactions().add(unknown);
+        Nep5Balances balances = new Nep5Balances();
+
+        try {
+            new Nep5Indexer(neow3j, balances).indexBlocks(Observable.just(genesis, block))
+                    .toBlocking().last();
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertTrue(e.getCause().getMessage().contains("Unknown transaction"));
+        }
+        assertThat(balances.getHeight(), is(0L));
+    }
+
+    @Test
+    public void testWritesSnapshots() throws IOException {
+        File file = new File(folder.getRoot(), "nep5.snapshot");
+        List<NeoBlock> blocks = new ArrayList<>();
+        blocks.add(block(0, mint(100)));
+        for (int i = 1; i < 8; i++) {
+            blocks.add(block(i, transfer(ALICE_HASH, BOB_HASH, 1)));
+        }
+
+        new Nep5Indexer(neow3j, new Nep5Balances()).snapshotEvery(file, 5)
+                .indexBlocks(Observable.from(blocks)).toBlocking().last();
+
+        Nep5Balances restored = Nep5Balances.readSnapshot(file, 10);
+        assertThat(restored.getHeight(), is(5L));
+        assertThat(restored.getBalance(TOKEN, BOB), is(BigInteger.valueOf(5)));
+        assertThat(new File(file.getPath() + ".tmp").exists(), is(false));
+    }
+
+    private String mint(long amount) throws IOException {
+        return record(execution("HALT", notification(TOKEN, "transfer", "", ALICE_HASH, amount)));
+    }
+
+    private String transfer(String from, String to, long amount) throws IOException {
+        return record(execution("HALT", notification(TOKEN, "transfer", from, to, amount)));
+    }
+
+    private String record(String execution) throws IOException {
+        String txId = txId(++txCount);
+        node.addRecordedApplicationLog(log(txId, execution));
+        return txId;
+    }
+
+    private static NeoBlock block(long index, String... invocations) {
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(transaction(txId(10_000 + index), TransactionType.MINER_TRANSACTION));
+        for (String txId : invocations) {
+            transactions.add(transaction(txId, TransactionType.INVOCATION_TRANSACTION));
+        }
+        return TestChain.block(index, transactions);
+    }
+
+    private static String log(String txId, String... executions) {
+        return "{\"txid\":\"" + txId + "\",\"executions\":["
+                + String.join(",", executions) + "]}";
+    }
+
+    private static String execution(String vmState, String... notifications) {
+        return "{\"trigger\":\"Application\",\"contract\":\"0x01\",\"vmstate\":\"" + vmState
+                + "\",\"gas_consumed\":\"1\",\"stack\":[],\"notifications\":["
+                + String.join(",", notifications) + "]}";
+    }
+
+    private static String notification(String contract, String event, String from, String to,
+            long amount) {
+        String amountHex = Numeric.toHexStringNoPrefix(
+                ArrayUtils.reverseArray(BigInteger.valueOf(amount).toByteArray()));
+        return "{\"contract\":\"" + contract + "\",\"state\":{\"type\":\"Array\",\"value\":["
+                + byteArray(Numeric.toHexStringNoPrefix(event.getBytes())) + ","
+                + byteArray(from) + "," + byteArray(to) + "," + byteArray(amountHex) + "]}}";
+    }
+
+    private static String byteArray(String hex) {
+        return "{\"type\":\"ByteArray\",\"value\":\"" + hex + "\"}";
+    }
+}
@@ -0,0 +1,198 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Keys;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.exceptions.TransactionBroadcastException;
+import io.neow3j.protocol.mock.MockNeoNode;
+import io.neow3j.protocol.mock.TestChain;
+import io.neow3j.protocol.utxo.CoinSelector;
+import io.neow3j.protocol.utxo.Utxo;
+import io.neow3j.utils.Numeric;
+import org.junit.After;
+import org.junit.Test;
+import rx.Observable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static io.neow3j.protocol.mock.TestChain.transaction;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransactionBroadcasterTest {
+
+    private static final String GAS = "0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7";
+
+    private final MockNeoNode node = new MockNeoNode(100);
+    private final Neow3j neow3j = Neow3j.build(node.asService());
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+    }
+
+    @Test
+    public void testConfirmsTransactionsFromBlocks() throws Exception {
+        node.setLatency(1, 5, TimeUnit.MILLISECONDS);
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j, 4, 1,
+                TimeUnit.HOURS, 3);
+        List<CompletableFuture<TransactionConfirmation>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(broadcaster.broadcast(txId(i), "00"));
+            assertTrue(broadcaster.getSendingCount() <= 4);
+        }
+        awaitSent(broadcaster, 50);
+        assertThat(broadcaster.getPendingCount(), is(50));
+
+        List<String> included = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            included.add(txId(i).substring(2).toUpperCase());
+        }
+        broadcaster.onBlock(block(101, included));
+
+        assertThat(broadcaster.getPendingCount(), is(20));
+        TransactionConfirmation confirmation = futures.get(7).get(1, TimeUnit.SECONDS);
+        assertThat(confirmation.getTxId(), is(txId(7)));
+        assertThat(confirmation.getBlockIndex(), is(101L));
+        assertThat(confirmation.getBroadcasts(), is(1));
+        assertFalse(futures.get(30).isDone());
+        assertThat(node.getRequestCount("sendrawtransaction"), is(50L));
+    }
+
+    @Test
+    public void testReturnsThePendingFutureForDuplicates() {
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j);
+
+        assertSame(broadcaster.broadcast(txId(1), "00"),
+                broadcaster.broadcast(txId(1).toUpperCase().replace("0X", ""), "00"));
+        assertThat(broadcaster.getPendingCount(), is(1));
+    }
+
+    @Test
+    public void testRebroadcastsUntilTheLimit() throws Exception {
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j, 4, 0,
+                TimeUnit.MILLISECONDS, 3);
+        CompletableFuture<TransactionConfirmation> future = broadcaster.broadcast(txId(1), "00");
+        awaitSent(broadcaster, 1);
+
+        node.setAcceptTransactions(false);
+        broadcaster.onBlock(block(101, Collections.emptyList()));
+        awaitSent(broadcaster, 2);
+        broadcaster.onBlock(block(102, Collections.emptyList()));
+        awaitSent(broadcaster, 3);
+        assertFalse(future.isDone());
+
+        broadcaster.onBlock(block(103, Collections.emptyList()));
+
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TransactionBroadcastException.class));
+            assertThat(((TransactionBroadcastException) e.getCause()).getTxId(), is(txId(1)));
+        }
+        assertThat(broadcaster.getPendingCount(), is(0));
+        assertThat(node.getRequestCount("sendrawtransaction"), is(3L));
+    }
+
+    @Test
+    public void testConfirmsDuringRebroadcast() throws Exception {
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j, 4, 0,
+                TimeUnit.MILLISECONDS, 3);
+        CompletableFuture<TransactionConfirmation> future = broadcaster.broadcast(txId(1), "00");
+        awaitSent(broadcaster, 1);
+        broadcaster.onBlock(block(101, Collections.emptyList()));
+        awaitSent(broadcaster, 2);
+
+        broadcaster.onBlock(block(102, Collections.singletonList(txId(1))));
+
+        assertThat(future.get(1, TimeUnit.SECONDS).getBroadcasts(), is(2));
+    }
+
+    @Test
+    public void testTracksPipelineTransactions() throws Exception {
+        ECKeyPair key = ECKeyPair.create(Numeric.hexStringToByteArray(
+                "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3"));
+        String address = Keys.getAddress(key);
+        List<Utxo> coins = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            coins.add(new Utxo(txId(100 + i), 0, GAS, address, BigDecimal.TEN, 0));
+        }
+        CoinSelector selector = new CoinSelector();
+        List<SignedTransaction> signed = new TransactionPipeline(selector, a -> coins)
+                .process(Observable.just(
+                        new TransferIntent(key, GAS, "10", address),
+                        new TransferIntent(key, GAS, "10", address)))
+                .toList().toBlocking().single();
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j);
+
+        CompletableFuture<TransactionConfirmation> confirmed =
+                broadcaster.broadcast(signed.get(0));
+        awaitSent(broadcaster, 1);
+        broadcaster.subscribeToBlocks(Observable.just(
+                block(101, Collections.singletonList(signed.get(0).getTxId()))));
+        confirmed.get(1, TimeUnit.SECONDS);
+        node.setAcceptTransactions(false);
+        CompletableFuture<TransactionConfirmation> rejected =
+                broadcaster.broadcast(signed.get(1));
+
+        try {
+            rejected.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause().getMessage().contains("Transaction rejected"), is(true));
+        }
+        assertThat(selector.getReservedCount(), is(1));
+        assertThat(selector.releaseSpent((txId, index) -> false), is(1));
+    }
+
+    @Test
+    public void testCancellationStopsTracking() {
+        TransactionBroadcaster broadcaster = new TransactionBroadcaster(neow3j);
+        CompletableFuture<TransactionConfirmation> future = broadcaster.broadcast(txId(1), "00");
+
+        future.cancel(false);
+
+        assertThat(broadcaster.getPendingCount(), is(0));
+    }
+
+    private void awaitSent(TransactionBroadcaster broadcaster, long requests)
+            throws InterruptedException {
+        await(() -> node.getRequestCount("sendrawtransaction") == requests
+                && broadcaster.getSendingCount() == 0);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out.");
+            }
+            Thread.sleep(2);
+        }
+    }
+
+    private static NeoBlock block(long index, List<String> txIds) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (String txId : txIds) {
+            transactions.add(transaction(txId, TransactionType.CONTRACT_TRANSACTION));
+        }
+        return TestChain.block(index, transactions);
+    }
+}
@@ -0,0 +1,139 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Keys;
+import io.neow3j.crypto.Sign;
+import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.exceptions.InsufficientFundsException;
+import io.neow3j.protocol.utxo.CoinSelectionStrategy;
+import io.neow3j.protocol.utxo.CoinSelector;
+import io.neow3j.protocol.utxo.Utxo;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+import rx.schedulers.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransactionPipelineTest {
+
+    private static final String GAS = "0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7";
+    private static final String RECIPIENT = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+
+    private final ECKeyPair key = ECKeyPair.create(Numeric.hexStringToByteArray(
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3"));
+    private final CoinSelector selector = new CoinSelector();
+    private final Map<String, Collection<Utxo>> unspents = new HashMap<>();
+
+    @Test
+    public void testSignsLikeTheManualPath() {
+        TransferIntent intent = new TransferIntent(key, NEOAsset.HASH_ID, "10", RECIPIENT);
+        unspents.put(intent.getSenderAddress(), Collections.singletonList(new Utxo(
+                "65827ac7308f401dfe110555b41b967e3c1177134bd977a21ca036e703ab05d4", 0,
+                NEOAsset.HASH_ID, intent.getSenderAddress(), new BigDecimal("100"), 0)));
+
+        SignedTransaction signed = pipeline().process(Collections.singletonList(intent))
+                .toBlocking().single();
+
+        // the same transaction as signed in ContractTransactionTest
+        assertThat(signed.getHex(), is("80000001d405ab03e736a01ca277d94b1377113c7e961bb4550511fe1d408f30c77a82650000029b7cffdaa674beae0f930ebe6085af9093e5fe56b34a5c220ccdcf6efc336fc500ca9a3b0000000023ba2703c53263e8d6e522dc32203339dcd8eee99b7cffdaa674beae0f930ebe6085af9093e5fe56b34a5c220ccdcf6efc336fc5001a711802000000295f83f83fc439f56e6e1fb062d89c6f538263d70141403711e366fc99e77a110b6c96b5f8828ef956a6d5cfa5cb63273419149011b0f30dc5458faa59e4867d0ac7537e324c98124bb691feca5c5ddf6ed20f4adb778223210265bf906bf385fbf3f777832e55a87991bcfbe19b097fb7c5ca2e4025a4d5e5d6ac"));
+        assertThat(signed.getHex(), is(Numeric.toHexStringNoPrefix(
+                signed.getTransaction().toArray())));
+        assertThat(signed.getTxId().length(), is(66));
+        assertTrue(selector.isReserved(signed.getSelection().getInputs().get(0).getTxId(), 0));
+    }
+
+    @Test
+    public void testSignatureMatchesSign() {
+        unspents.put(senderAddress(), coins(1, 5));
+        SignedTransaction signed = pipeline()
+                .process(Collections.singletonList(new TransferIntent(key, GAS, "3", RECIPIENT)))
+                .toBlocking().single();
+
+        signed.getTransaction().getScripts().clear();
+        byte[] unsigned = signed.getTransaction().toArray();
+
+        assertThat(signed.getHex().startsWith(Numeric.toHexStringNoPrefix(unsigned)), is(true));
+        assertTrue(signed.getHex().contains(Numeric.toHexStringNoPrefix(
+                Sign.signMessage(unsigned, key).getConcatenated())));
+    }
+
+    @Test
+    public void testProcessesManyIntentsInParallel() {
+        unspents.put(senderAddress(), coins(200, 10));
+        List<TransferIntent> intents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            intents.add(new TransferIntent(key, GAS, String.valueOf(1 + i % 15), RECIPIENT));
+        }
+
+        List<SignedTransaction> signed = pipeline().process(intents).toList()
+                .toBlocking().single();
+
+        assertThat(signed.size(), is(100));
+        Set<String> txIds = new HashSet<>();
+        Set<RawTransactionInput> inputs = new HashSet<>();
+        int inputCount = 0;
+        for (SignedTransaction tx : signed) {
+            txIds.add(tx.getTxId());
+            inputs.addAll(tx.getTransaction().getInputs());
+            inputCount += tx.getTransaction().getInputs().size();
+            assertThat(tx.getTransaction().getScripts().size(), is(1));
+        }
+        assertThat(txIds.size(), is(100));
+        assertThat(inputs.size(), is(inputCount));
+        assertThat(selector.getReservedCount(), is(inputCount));
+    }
+
+    @Test
+    public void testReleasesUnemittedTransactionsOnFailure() {
+        unspents.put(senderAddress(), coins(3, 10));
+        List<TransferIntent> intents = Arrays.asList(
+                new TransferIntent(key, GAS, "10", RECIPIENT),
+                new TransferIntent(key, GAS, "10", RECIPIENT),
+                new TransferIntent(key, GAS, "15", RECIPIENT));
+        List<SignedTransaction> emitted = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            pipeline().process(intents).doOnNext(emitted::add).toBlocking().last();
+            fail();
+        } catch (InsufficientFundsException e) {
+            assertThat(e.getRequired(), is(new BigDecimal("15.00000000")));
+        }
+
+        assertThat(selector.getReservedCount(), is(emitted.size()));
+    }
+
+    private TransactionPipeline pipeline() {
+        return new TransactionPipeline(selector, unspents::get,
+                CoinSelectionStrategy.BRANCH_AND_BOUND,
+                Schedulers.computation(), 4);
+    }
+
+    private String senderAddress() {
+        return Keys.getAddress(key);
+    }
+
+    private List<Utxo> coins(int count, int value) {
+        List<Utxo> coins = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            coins.add(new Utxo(txId(i + 1), 0, GAS, senderAddress(),
+                    BigDecimal.valueOf(value), 0));
+        }
+        return coins;
+    }
+}
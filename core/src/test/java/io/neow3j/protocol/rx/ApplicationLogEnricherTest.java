@@ -0,0 +1,117 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.mock.MockNeoNode;
+import io.neow3j.protocol.mock.TestChain;
+import org.junit.After;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.neow3j.protocol.mock.TestChain.block;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ApplicationLogEnricherTest {
+
+    private final MockNeoNode node = new MockNeoNode(100);
+    private final Neow3j neow3j = Neow3j.build(node.asService());
+    private int txCount;
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+    }
+
+    @Test
+    public void testPairsTransactionsWithLogsInOrder() throws IOException {
+        node.setLatency(1, 10, TimeUnit.MILLISECONDS);
+        List<NeoBlock> blocks = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<Transaction> transactions = new ArrayList<>();
+            transactions.add(transaction(TransactionType.MINER_TRANSACTION));
+            for (int j = 0; j < i % 3; j++) {
+                Transaction tx = transaction(TransactionType.INVOCATION_TRANSACTION);
+                transactions.add(tx);
+                expected.add(tx.getTransactionId());
+                node.addRecordedApplicationLog("{\"txid\":\"" + tx.getTransactionId()
+                        + "\",\"executions\":[]}");
+            }
+            blocks.add(block(i, transactions));
+        }
+
+        List<EnrichedTransaction> enriched = Observable.from(blocks)
+                .compose(new ApplicationLogEnricher(neow3j, 8, Schedulers.io()))
+                .toList().toBlocking().single();
+
+        List<String> txIds = new ArrayList<>();
+        for (EnrichedTransaction tx : enriched) {
+            txIds.add(tx.getTransaction().getTransactionId());
+            assertThat(tx.getApplicationLog().getTransactionId(),
+                    is(tx.getTransaction().getTransactionId()));
+            assertTrue(tx.getBlock().getTransactions().contains(tx.getTransaction()));
+        }
+        assertThat(txIds, is(expected));
+        assertThat(node.getRequestCount("getapplicationlog"), is((long) expected.size()));
+        assertTrue(node.getMaxConcurrentRequests() > 1);
+        assertTrue(node.getMaxConcurrentRequests() <= 8);
+    }
+
+    @Test
+    public void testFailsOnUnknownTransaction() {
+        Transaction tx = transaction(TransactionType.INVOCATION_TRANSACTION);
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(tx);
+
+        try {
+            Observable.just(block(0, transactions))
+                    .compose(new ApplicationLogEnricher(neow3j))
+                    .toBlocking().last();
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertTrue(e.getCause().getMessage().contains(tx.getTransactionId()));
+        }
+        // the node answered, so the request is not retried
+        assertThat(node.getRequestCount("getapplicationlog"), is(1L));
+    }
+
+    @Test
+    public void testRetriesFailedRequests() throws IOException {
+        Transaction tx = transaction(TransactionType.INVOCATION_TRANSACTION);
+        node.addRecordedApplicationLog("{\"txid\":\"" + tx.getTransactionId()
+                + "\",\"executions\":[]}");
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(tx);
+        NeoBlock block = block(0, transactions);
+        node.setErrorRate(1);
+        Observable<EnrichedTransaction> enriched = Observable.just(block)
+                .compose(new ApplicationLogEnricher(neow3j));
+
+        try {
+            enriched.toBlocking().last();
+            fail();
+        } catch (RuntimeException e) {
+            assertThat(node.getFailedRequestCount(), is(3L));
+        }
+        node.setErrorRate(0);
+        assertSame(enriched.toBlocking().single().getBlock(), block);
+    }
+
+    private Transaction transaction(TransactionType type) {
+        return TestChain.transaction(txId(++txCount), type);
+    }
+}
@@ -0,0 +1,91 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FetchesTest {
+
+    private Neow3jService node;
+    private Neow3j neow3j;
+    private NeoBlockCount blockCount;
+
+    @Before
+    public void setUp() {
+        node = mock(Neow3jService.class);
+        neow3j = Neow3j.build(node);
+        blockCount = new NeoBlockCount();
+    }
+
+    @Test
+    public void testSendRetriesIOErrors() throws Exception {
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new IOException("reset"))
+                .thenThrow(new IOException("reset"))
+                .thenReturn(blockCount);
+
+        assertThat(Fetches.send(neow3j.getBlockCount(), "the block count"), is(blockCount));
+    }
+
+    @Test
+    public void testSendGivesUpAfterTheRetries() throws Exception {
+        when(node.send(any(Request.class), any())).thenThrow(new IOException("reset"));
+
+        try {
+            Fetches.send(neow3j.getBlockCount(), "the block count");
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("reset"));
+        }
+        verify(node, times(Fetches.RETRIES + 1)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testErrorResponsesAreNotRetried() throws Exception {
+        blockCount.setError(new Response.Error(-100, "Unknown block"));
+        when(node.send(any(Request.class), any())).thenReturn(blockCount);
+
+        TestSubscriber<NeoBlockCount> subscriber = new TestSubscriber<>();
+        Fetches.fetch(neow3j.getBlockCount(), "block 5", Schedulers.io()).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+
+        assertThat(subscriber.getOnErrorEvents().get(0).getMessage(),
+                is("Failed to fetch block 5: Unknown block"));
+        verify(node, times(1)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testInOrderKeepsTheOrderOfTheElements() {
+        List<Integer> results = Observable.just(3, 1, 2)
+                .compose(Fetches.<Integer, Integer>inOrder(i -> Observable.just(i * 10)
+                        .subscribeOn(Schedulers.io()), 2))
+                .toList().toBlocking().single();
+
+        assertThat(results, is(Arrays.asList(30, 10, 20)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConcurrencyMustBePositive() {
+        Fetches.inOrder(Observable::just, 0);
+    }
+}
@@ -0,0 +1,164 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.ChainReorganizationException;
+import io.neow3j.protocol.mock.MockNeoNode;
+import org.junit.Before;
+import org.junit.Test;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static java.util.Arrays.asList;
+
+public class ReorgAwareBlockStreamTest {
+
+    private MockNeoNode node;
+    private Neow3j neow3j;
+    private PublishSubject<NeoGetBlock> blocks;
+    private TestSubscriber<BlockEvent> subscriber;
+
+    @Before
+    public void setUp() {
+        node = new MockNeoNode(100);
+        neow3j = Neow3j.build(node.asService());
+        blocks = PublishSubject.create();
+        subscriber = new TestSubscriber<>();
+    }
+
+    @Test
+    public void testEmitsLinearChain() throws IOException {
+        subscribe(0);
+        node.mineBlocks(3);
+        feed(100, 101, 102, 103);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101", "ADDED 102", "ADDED 103")));
+    }
+
+    @Test
+    public void testFillsGaps() throws IOException {
+        subscribe(0);
+        node.mineBlocks(3);
+        feed(100, 103);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101", "ADDED 102", "ADDED 103")));
+        // two fed by the test, two fetched by the stream
+        assertThat(node.getRequestCount("getblockheader"), is(4L));
+    }
+
+    @Test
+    public void testIgnoresDuplicates() throws IOException {
+        subscribe(0);
+        node.mineBlocks(1);
+        feed(100, 101, 101, 100);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101")));
+    }
+
+    @Test
+    public void testRollsBackOnReorganization() throws IOException {
+        subscribe(0);
+        node.mineBlocks(3);
+        feed(100, 101, 102, 103);
+        String oldHash = block(102).getBlock().getHash();
+
+        node.reorganize(102);
+        node.mineBlocks(1);
+        feed(104);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101", "ADDED 102", "ADDED 103",
+                "ROLLED_BACK 103", "ROLLED_BACK 102", "ADDED 102", "ADDED 103", "ADDED 104")));
+        List<BlockEvent> events = subscriber.getOnNextEvents();
+        assertThat(events.get(5).getBlock().getHash(), is(oldHash));
+        assertThat(events.get(6).getBlock().getHash(), is(block(102).getBlock().getHash()));
+        assertThat(events.get(6).getBlock().getHash(), is(not(oldHash)));
+        subscriber.assertNoErrors();
+    }
+
+    @Test
+    public void testDetectsReorganizationAtSameHeight() throws IOException {
+        subscribe(0);
+        node.mineBlocks(2);
+        feed(100, 101, 102);
+
+        node.reorganize(102);
+        feed(102);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101", "ADDED 102",
+                "ROLLED_BACK 102", "ADDED 102")));
+    }
+
+    @Test
+    public void testConfirmationDepthHidesShallowReorganizations() throws IOException {
+        subscribe(2);
+        node.mineBlocks(3);
+        feed(100, 101, 102, 103);
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101")));
+
+        node.reorganize(102);
+        node.mineBlocks(1);
+        feed(104);
+
+        assertThat(events(), is(asList("ADDED 100", "ADDED 101", "ADDED 102")));
+        assertThat(subscriber.getOnNextEvents().get(2).getBlock().getHash(),
+                is(block(102).getBlock().getHash()));
+    }
+
+    @Test
+    public void testFailsOnReorganizationDeeperThanHistory() throws IOException {
+        blocks.compose(new ReorgAwareBlockStream(neow3j, false, 0, 3)).subscribe(subscriber);
+        node.mineBlocks(3);
+        feed(100, 101, 102, 103);
+
+        node.reorganize(100);
+        node.mineBlocks(1);
+        feed(104);
+
+        subscriber.assertError(ChainReorganizationException.class);
+        assertThat(((ChainReorganizationException) subscriber.getOnErrorEvents().get(0))
+                .getOldestTrackedIndex(), is(101L));
+    }
+
+    @Test
+    public void testEachSubscriptionTracksItsOwnChain() throws IOException {
+        ReorgAwareBlockStream stream = new ReorgAwareBlockStream(neow3j, true, 0);
+        TestSubscriber<BlockEvent> other = new TestSubscriber<>();
+        blocks.compose(stream).subscribe(subscriber);
+        node.mineBlocks(1);
+        feed(100);
+        blocks.compose(stream).subscribe(other);
+        feed(101);
+
+        assertThat(other.getOnNextEvents().size(), is(1));
+        assertThat(other.getOnNextEvents().get(0).getBlock().getIndex(), is(101L));
+    }
+
+    private void subscribe(int confirmations) {
+        blocks.compose(new ReorgAwareBlockStream(neow3j, false, confirmations))
+                .subscribe(subscriber);
+    }
+
+    private void feed(long... indexes) throws IOException {
+        for (long index : indexes) {
+            blocks.onNext(block(index));
+        }
+    }
+
+    private NeoGetBlock block(long index) throws IOException {
+        return neow3j.getBlock(new BlockParameterIndex(index), false).send();
+    }
+
+    private List<String> events() {
+        return subscriber.getOnNextEvents().stream()
+                .map(e -> e.getType() + " " + e.getBlock().getIndex())
+                .collect(Collectors.toList());
+    }
+}
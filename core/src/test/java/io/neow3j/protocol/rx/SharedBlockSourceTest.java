@@ -0,0 +1,164 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.mock.MockNeoNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Subscription;
+import rx.exceptions.MissingBackpressureException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SharedBlockSourceTest {
+
+    private static final long POLLING_INTERVAL = 20;
+
+    private MockNeoNode node;
+    private ScheduledExecutorService executor;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        node = new MockNeoNode(100);
+        executor = Executors.newScheduledThreadPool(4);
+        neow3j = Neow3j.build(node.asService(), POLLING_INTERVAL, executor);
+    }
+
+    @After
+    public void tearDown() {
+        neow3j.shutdown();
+    }
+
+    @Test
+    public void testPollsAndFetchesOnceForAllSubscribers() throws Exception {
+        List<NeoGetBlock> first = new CopyOnWriteArrayList<>();
+        List<NeoGetBlock> second = new CopyOnWriteArrayList<>();
+        List<NeoGetBlock> third = new CopyOnWriteArrayList<>();
+        Subscription s1 = neow3j.blockObservable(false).subscribe(first::add);
+        Subscription s2 = neow3j.blockObservable(false).subscribe(second::add);
+        Subscription s3 = neow3j.blockObservable(false).subscribe(third::add);
+        awaitPolls(2);
+
+        node.mineBlocks(5);
+        await(() -> first.size() == 5 && second.size() == 5 && third.size() == 5);
+
+        assertThat(indexes(first), is(indexes(second)));
+        assertThat(indexes(first), is(indexes(third)));
+        assertThat(node.getRequestCount("getblockheader"), is(5L));
+        long polls = node.getRequestCount("getblockcount");
+        Thread.sleep(10 * POLLING_INTERVAL);
+        // one polling loop, not three
+        long pollsPerInterval = node.getRequestCount("getblockcount") - polls;
+        assertTrue("polls " + pollsPerInterval, pollsPerInterval <= 20);
+
+        s1.unsubscribe();
+        s2.unsubscribe();
+        s3.unsubscribe();
+        Thread.sleep(2 * POLLING_INTERVAL);
+        polls = node.getRequestCount("getblockcount");
+        Thread.sleep(5 * POLLING_INTERVAL);
+        assertThat(node.getRequestCount("getblockcount"), is(polls));
+    }
+
+    @Test
+    public void testFullBlocksAndHeadersAreFetchedSeparately() throws Exception {
+        List<NeoGetBlock> blocks = new CopyOnWriteArrayList<>();
+        List<NeoGetBlock> headers = new CopyOnWriteArrayList<>();
+        neow3j.blockObservable(true).subscribe(blocks::add);
+        neow3j.blockObservable(false).subscribe(headers::add);
+        awaitPolls(2);
+
+        node.mineBlocks(3);
+        await(() -> blocks.size() == 3 && headers.size() == 3);
+
+        assertThat(indexes(blocks), is(indexes(headers)));
+        assertThat(node.getRequestCount("getblock"), is(3L));
+        assertThat(node.getRequestCount("getblockheader"), is(3L));
+    }
+
+    @Test
+    public void testSlowSubscriberIsDisconnectedAlone() throws Exception {
+        JsonRpc2_0Rx rx = new JsonRpc2_0Rx(neow3j, executor);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<NeoGetBlock> fast = new CopyOnWriteArrayList<>();
+        rx.blockObservable(false, POLLING_INTERVAL, 2).subscribe(block -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, error::set);
+        rx.blockObservable(false, POLLING_INTERVAL).subscribe(fast::add);
+        awaitPolls(2);
+
+        node.mineBlocks(10);
+        await(() -> fast.size() == 10);
+        release.countDown();
+        await(() -> error.get() != null);
+
+        assertThat(error.get(), instanceOf(MissingBackpressureException.class));
+        node.mineBlocks(2);
+        await(() -> fast.size() == 12);
+    }
+
+    @Test
+    public void testBlockingSubscriberDoesNotStopThePoller() throws Exception {
+        ScheduledExecutorService singleThread = Executors.newSingleThreadScheduledExecutor();
+        Neow3j neow3j = Neow3j.build(node.asService(), POLLING_INTERVAL, singleThread);
+        CountDownLatch release = new CountDownLatch(1);
+        List<NeoGetBlock> fast = new CopyOnWriteArrayList<>();
+        try {
+            neow3j.blockObservable(false).subscribe(block -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            neow3j.blockObservable(false).subscribe(fast::add);
+            awaitPolls(2);
+
+            node.mineBlocks(3);
+            await(() -> fast.size() == 3);
+            long polls = node.getRequestCount("getblockcount");
+            awaitPolls(polls + 3);
+            node.mineBlocks(2);
+            await(() -> fast.size() == 5);
+        } finally {
+            release.countDown();
+            neow3j.shutdown();
+        }
+    }
+
+    private void awaitPolls(long polls) throws InterruptedException {
+        await(() -> node.getRequestCount("getblockcount") >= polls);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static List<Long> indexes(List<NeoGetBlock> blocks) {
+        return blocks.stream().map(b -> b.getBlock().getIndex()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,174 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CachingServiceTest {
+
+    private static final String BLOCK_HASH =
+            "0x498b16db3fba92448fac63caeecb91ce38cb4b565de7d717d473f0dd37a1e816";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StubService stub;
+
+    @Before
+    public void setUp() {
+        stub = new StubService()
+                .respond("getblockcount", "1000")
+                .respond("getblock", block(10));
+    }
+
+    private static String block(int confirmations) {
+        return "{\"hash\":\"" + BLOCK_HASH + "\",\"size\":686,\"version\":0,"
+                + "\"previousblockhash\":\"0x045cabde4ecbd50f5e4e1b141eaf0842c1f5f56517324c8dcab8ccac924e3a39\","
+                + "\"merkleroot\":\"0x6afa63201b88b55ad2213e5a69a1ad5f0db650bc178fc2bedd2fb301c1278bf7\","
+                + "\"time\":1539968858,\"index\":1914006,\"nonce\":\"44ed38ca21ae8877\","
+                + "\"nextconsensus\":\"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\","
+                + "\"tx\":[{\"txid\":\"0x96ff8b13809f9ad38b165545f4d6c723faf7ca4d3a8d88297726532caa89a21c\","
+                + "\"size\":10,\"type\":\"MinerTransaction\",\"version\":0,\"attributes\":[],"
+                + "\"vin\":[],\"vout\":[],\"sys_fee\":\"0\",\"net_fee\":\"0\",\"scripts\":[],"
+                + "\"nonce\":565086327}],"
+                + "\"confirmations\":" + confirmations + "}";
+    }
+
+    @Test
+    public void testConfirmedBlockIsCached() throws Exception {
+        CachingService service = new CachingService(stub);
+        Neow3j neow3j = Neow3j.build(service);
+
+        NeoGetBlock first = neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        NeoGetBlock second = neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+
+        assertThat(second, sameInstance(first));
+        assertThat(stub.getCallCount(), is(1));
+        assertThat(service.getHitCount(), is(1L));
+        assertThat(service.getMissCount(), is(1L));
+        assertThat(service.getSizeInBytes() > 0, is(true));
+    }
+
+    @Test
+    public void testUnconfirmedBlockByIndexIsNotCached() throws Exception {
+        stub.respond("getblock", block(1));
+        Neow3j neow3j = Neow3j.build(new CachingService(stub));
+
+        neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        neow3j.getBlock(new BlockParameterIndex(1914006), true).send();
+        assertThat(stub.getCallCount(), is(2));
+    }
+
+    @Test
+    public void testVerboseTipBlockByHashIsNotCached() throws Exception {
+        // the next block hash and the confirmations of the tip still change
+        stub.respond("getblock", block(1));
+        File directory = folder.newFolder();
+        CachingService service = new CachingService(stub, 1024 * 1024, directory);
+        Neow3j neow3j = Neow3j.build(service);
+
+        neow3j.getBlock(BLOCK_HASH, true).send();
+        neow3j.getBlock(BLOCK_HASH, true).send();
+
+        assertThat(stub.getCallCount(), is(2));
+        assertThat(service.getSizeInBytes(), is(0L));
+        assertThat(directory.list().length, is(0));
+    }
+
+    @Test
+    public void testRawBlockByHashIsCached() throws Exception {
+        stub.respond("getblockheader", "\"00000000\"");
+        Neow3j neow3j = Neow3j.build(new CachingService(stub));
+
+        neow3j.getRawBlockHeader(BLOCK_HASH).send();
+        neow3j.getRawBlockHeader(BLOCK_HASH).send();
+
+        assertThat(stub.getCallCount(), is(1));
+    }
+
+    @Test
+    public void testMethodsWithoutPolicyAndErrorsAreNotCached() throws Exception {
+        Neow3j neow3j = Neow3j.build(new CachingService(stub));
+
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+        neow3j.getAssetState("0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b")
+                .send();
+        neow3j.getAssetState("0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b")
+                .send();
+
+        assertThat(stub.getCallCount(), is(4));
+    }
+
+    @Test
+    public void testTtlPolicyExpires() throws Exception {
+        AtomicLong now = new AtomicLong(0);
+        CachingService service = new CachingService(stub);
+        service.setClock(now::get);
+        service.setPolicy("getblockcount", CachePolicy.ttl(1, TimeUnit.SECONDS));
+        Neow3j neow3j = Neow3j.build(service);
+
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(1000)));
+        now.set(999);
+        neow3j.getBlockCount().send();
+        assertThat(stub.getCallCount(), is(1));
+        now.set(1000);
+        neow3j.getBlockCount().send();
+        assertThat(stub.getCallCount(), is(2));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedEntriesWhenFull() throws Exception {
+        CachingService service = new CachingService(stub);
+        service.setPolicy("getblockhash", CachePolicy.immutable());
+        stub.respond("getblockhash", "\"" + BLOCK_HASH + "\"");
+        Neow3j neow3j = Neow3j.build(service);
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+        long entrySize = service.getSizeInBytes();
+
+        service = new CachingService(stub, entrySize * 2 + 10);
+        service.setPolicy("getblockhash", CachePolicy.immutable());
+        neow3j = Neow3j.build(service);
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+        neow3j.getBlockHash(new BlockParameterIndex(2)).send();
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+        neow3j.getBlockHash(new BlockParameterIndex(3)).send();
+
+        assertThat(service.getEntryCount(), is(2));
+        assertThat(service.getEvictionCount(), is(1L));
+        int calls = stub.getCallCount();
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+        assertThat(stub.getCallCount(), is(calls));
+        neow3j.getBlockHash(new BlockParameterIndex(2)).send();
+        assertThat(stub.getCallCount(), is(calls + 1));
+    }
+
+    @Test
+    public void testDiskTierSurvivesRestart() throws Exception {
+        File directory = folder.newFolder();
+        NeoGetBlock first = Neow3j.build(new CachingService(stub, 1024 * 1024, directory))
+                .getBlock(BLOCK_HASH, true).send();
+
+        CachingService restarted = new CachingService(stub, 1024 * 1024, directory);
+        NeoGetBlock second = Neow3j.build(restarted).getBlock(BLOCK_HASH, true).send();
+
+        assertThat(stub.getCallCount(), is(1));
+        assertThat(restarted.getDiskHitCount(), is(1L));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getBlock(), is(first.getBlock()));
+    }
+}
@@ -0,0 +1,183 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingServiceTest {
+
+    private CountDownLatch release;
+    private AtomicInteger calls;
+    private CoalescingService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        release = new CountDownLatch(1);
+        calls = new AtomicInteger();
+        service = new CoalescingService(new BlockingService());
+        neow3j = Neow3j.build(service);
+    }
+
+    @Test
+    public void testIdenticalConcurrentRequestsShareOneCall() throws Exception {
+        Future<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        awaitInFlight();
+        Future<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+        Future<NeoBlockCount> third = neow3j.getBlockCount().sendAsync();
+        awaitRequests(3);
+        release.countDown();
+
+        NeoBlockCount response = first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS), sameInstance(response));
+        assertThat(third.get(5, TimeUnit.SECONDS), sameInstance(response));
+        assertThat(response.getBlockIndex(), is(BigInteger.valueOf(1000)));
+        assertThat(calls.get(), is(1));
+        assertThat(service.getCoalescedCount(), is(2L));
+        assertThat(service.getDedupRatio(), is(2d / 3d));
+        assertThat(service.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void testSequentialRequestsAreNotShared() throws Exception {
+        release.countDown();
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        assertThat(calls.get(), is(2));
+        assertThat(service.getDedupRatio(), is(0d));
+    }
+
+    @Test
+    public void testNonIdempotentRequestsAreNotCoalesced() throws Exception {
+        Neow3jService wrapped = mock(Neow3jService.class);
+        when(wrapped.send(any(Request.class), any())).thenReturn(new NeoSendRawTransaction());
+        CoalescingService coalescing = new CoalescingService(wrapped);
+
+        Neow3j.build(coalescing).sendRawTransaction("80000001").send();
+        Neow3j.build(coalescing).sendRawTransaction("80000001").send();
+
+        verify(wrapped, times(2)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testFailureIsPropagatedToWaitingCallers() throws Exception {
+        Neow3jService failing = new BlockingService() {
+            @Override
+            public <T extends Response> T send(Request request, Class<T> responseType)
+                    throws IOException {
+                super.send(request, responseType);
+                throw new IOException("node down");
+            }
+        };
+        service = new CoalescingService(failing);
+        neow3j = Neow3j.build(service);
+
+        Future<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        awaitInFlight();
+        Future<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+        awaitRequests(2);
+        release.countDown();
+
+        for (Future<NeoBlockCount> future : Arrays.asList(first, second)) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause().getMessage(), is("node down"));
+            }
+        }
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void testErrorIsPropagatedToWaitingCallers() throws Exception {
+        Neow3jService failing = new BlockingService() {
+            @Override
+            public <T extends Response> T send(Request request, Class<T> responseType)
+                    throws IOException {
+                super.send(request, responseType);
+                throw new AssertionError("broken");
+            }
+        };
+        service = new CoalescingService(failing);
+        neow3j = Neow3j.build(service);
+
+        Future<NeoBlockCount> first = neow3j.getBlockCount().sendAsync();
+        awaitInFlight();
+        Future<NeoBlockCount> second = neow3j.getBlockCount().sendAsync();
+        awaitRequests(2);
+        release.countDown();
+
+        for (Future<NeoBlockCount> future : Arrays.asList(first, second)) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause().getMessage(), is("broken"));
+            }
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(service.getInFlightCount(), is(0));
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        while (service.getInFlightCount() == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitRequests(long count) throws InterruptedException {
+        while (service.getRequestCount() < count) {
+            Thread.sleep(1);
+        }
+        // give the followers time to attach to the in-flight call
+        Thread.sleep(50);
+    }
+
+    private class BlockingService extends ForwardingService {
+
+        BlockingService() {
+            super(mock(Neow3jService.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Response> T send(Request request, Class<T> responseType)
+                throws IOException {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            NeoBlockCount response = new NeoBlockCount();
+            response.setResult(BigInteger.valueOf(1000));
+            return (T) response;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimitingServiceTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testRateLimiterAllowsBurstThenSpacesPermits() {
+        RateLimiter limiter = new RateLimiter(10, 3);
+        long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        assertThat(limiter.reserve(now), is(0L));
+        assertThat(limiter.reserve(now), is(0L));
+        assertThat(limiter.reserve(now), is(0L));
+        assertThat(limiter.reserve(now), is(100 * MS));
+        assertThat(limiter.reserve(now), is(200 * MS));
+        // after idling the bucket refills up to the burst size only
+        long later = now + TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.reserve(later), is(0L));
+        }
+        assertThat(limiter.reserve(later), is(100 * MS));
+    }
+
+    @Test
+    public void testConcurrencyLimitGrowsAdditivelyAndShrinksMultiplicatively() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                2, 1, 10, 0.5, 1, TimeUnit.SECONDS);
+
+        limiter.acquire();
+        limiter.acquire();
+        // keep the limit saturated, every completed call grows it by 1 / limit
+        for (int i = 0; i < 6; i++) {
+            limiter.release(MS, false);
+            while (limiter.getInFlight() < limiter.getLimit()) {
+                limiter.acquire();
+            }
+        }
+        assertThat(limiter.getLimit(), is(4));
+        assertThat(limiter.getInFlight(), is(4));
+
+        limiter.release(MS, true);
+        assertThat(limiter.getLimit(), is(2));
+
+        limiter.release(TimeUnit.SECONDS.toNanos(2), false);
+        assertThat(limiter.getLimit(), is(1));
+    }
+
+    @Test
+    public void testThrottledResponsesReduceConcurrency() throws Exception {
+        Neow3jService node = mock(Neow3jService.class);
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new ClientConnectionException("Too Many Requests", 429))
+                .thenReturn(new NeoBlockCount());
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(
+                8, 1, 10, 0.5, 1, TimeUnit.SECONDS);
+        RateLimitingService service = new RateLimitingService(
+                node, new RateLimiter(1000, 10), concurrencyLimiter);
+        Neow3j neow3j = Neow3j.build(service);
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getStatusCode(), is(429));
+        }
+        neow3j.getBlockCount().send();
+
+        assertThat(service.getThrottledCount(), is(1L));
+        assertThat(concurrencyLimiter.getLimit(), is(4));
+        assertThat(concurrencyLimiter.getInFlight(), is(0));
+    }
+}
@@ -0,0 +1,157 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoBlockHash;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RecordingServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecordAndReplay() throws IOException {
+        File file = record();
+
+        List<RecordedExchange> exchanges = RecordedExchange.readAll(file);
+        assertThat(exchanges.size(), is(4));
+        assertThat(exchanges.get(0).getKey().getMethod(), is("getblockcount"));
+        assertThat(exchanges.get(3).isFailed(), is(true));
+
+        ReplayService replay = new ReplayService(file);
+        replay.setTimeScale(0);
+        Neow3j neow3j = Neow3j.build(replay);
+
+        NeoBlockCount count = neow3j.getBlockCount().send();
+        assertThat(count.getBlockIndex(), is(BigInteger.valueOf(1000)));
+        assertThat(neow3j.getBlockHash(new BlockParameterIndex(1)).send().getBlockHash(),
+                is("0x01"));
+        Request<?, NeoBlockHash> request = neow3j.getBlockHash(new BlockParameterIndex(2));
+        NeoBlockHash hash = request.send();
+        assertThat(hash.getBlockHash(), is("0x02"));
+        assertThat(hash.getId(), is(request.getId()));
+        try {
+            neow3j.getBestBlockHash().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("node down"));
+        }
+        try {
+            neow3j.getConnectionCount().send();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("No recorded response for getconnectioncount"));
+        }
+    }
+
+    @Test
+    public void testIdenticalRequestsAreRepliedInOrder() throws IOException {
+        StubService node = new StubService().respond("getblockcount", "1");
+        File file = folder.newFile();
+        RecordingService recording = new RecordingService(node, file);
+        Neow3j.build(recording).getBlockCount().send();
+        node.respond("getblockcount", "2");
+        Neow3j.build(recording).getBlockCount().send();
+        recording.close();
+
+        ReplayService replay = new ReplayService(file);
+        replay.setTimeScale(0);
+        Neow3j neow3j = Neow3j.build(replay);
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.ONE));
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(2)));
+        assertThat(neow3j.getBlockCount().send().getBlockIndex(), is(BigInteger.valueOf(2)));
+    }
+
+    @Test
+    public void testLongErrorMessagesAreRecorded() throws IOException {
+        StringBuilder body = new StringBuilder();
+        while (body.length() < 100000) {
+            body.append("<html>Bad gateway</html>");
+        }
+        String message = "Invalid response received: 502; " + body;
+        StubService node = new StubService() {
+            @Override
+            protected InputStream performIO(String payload) throws IOException {
+                throw new IOException(message);
+            }
+        };
+        File file = folder.newFile();
+        RecordingService recording = new RecordingService(node, file);
+        Neow3j neow3j = Neow3j.build(recording);
+        for (int i = 0; i < 2; i++) {
+            try {
+                neow3j.getBlockCount().send();
+                fail();
+            } catch (IOException expected) {
+            }
+        }
+        recording.close();
+
+        List<RecordedExchange> exchanges = RecordedExchange.readAll(file);
+        assertThat(exchanges.size(), is(2));
+        assertThat(exchanges.get(1).getError(), is(message));
+    }
+
+    @Test
+    public void testTimingsAreScaled() throws IOException {
+        List<Long> sleeps = new ArrayList<>();
+        ReplayService replay = new ReplayService(record()) {
+            @Override
+            void sleep(long nanos) {
+                sleeps.add(nanos);
+            }
+        };
+        replay.setTimeScale(0.5);
+        long recorded = replay.getExchanges().get(0).getDurationNanos();
+
+        Neow3j.build(replay).getBlockCount().send();
+
+        assertThat(sleeps.get(0), is((long) (recorded * 0.5)));
+    }
+
+    private File record() throws IOException {
+        StubService node = new StubService() {
+            @Override
+            protected InputStream performIO(String payload) throws IOException {
+                if (payload.contains("getbestblockhash")) {
+                    throw new IOException("node down");
+                }
+                return super.performIO(payload);
+            }
+        };
+        node.respond("getblockcount", "1000").respond("getblockhash", "\"0x01\"");
+        File file = folder.newFile();
+        RecordingService recording = new RecordingService(node, file);
+        Neow3j neow3j = Neow3j.build(recording);
+        neow3j.getBlockCount().send();
+        neow3j.getBlockHash(new BlockParameterIndex(1)).send();
+        node.respond("getblockhash", "\"0x02\"");
+        neow3j.getBlockHash(new BlockParameterIndex(2)).send();
+        try {
+            neow3j.getBestBlockHash().send();
+            fail();
+        } catch (IOException expected) {
+            // recorded as failure
+        }
+        assertThat(recording.getRecordCount(), is(4L));
+        recording.close();
+        return file;
+    }
+}
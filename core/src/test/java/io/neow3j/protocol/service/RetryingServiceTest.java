@@ -0,0 +1,191 @@
+package io.neow3j.protocol.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.CircuitBreakerOpenException;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetryingServiceTest {
+
+    private Neow3jService node;
+    private NeoBlockCount blockCount;
+
+    @Before
+    public void setUp() {
+        node = mock(Neow3jService.class);
+        blockCount = new NeoBlockCount();
+    }
+
+    private RetryingService service(RetryBudget budget, CircuitBreaker breaker) {
+        return new RetryingService(node,
+                new RetryPolicy(3, 10, 100, TimeUnit.MILLISECONDS), budget, breaker) {
+            @Override
+            void sleep(long millis) {
+            }
+        };
+    }
+
+    @Test
+    public void testRetriesTransientFailures() throws Exception {
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new IOException("reset"))
+                .thenThrow(new ClientConnectionException("unavailable", 503))
+                .thenReturn(blockCount);
+        RetryingService service = service(new RetryBudget(), null);
+
+        assertThat(Neow3j.build(service).getBlockCount().send(), is(blockCount));
+        assertThat(service.getRetryCount(), is(2L));
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() throws Exception {
+        when(node.send(any(Request.class), any())).thenThrow(new IOException("reset"));
+
+        try {
+            Neow3j.build(service(new RetryBudget(), null)).getBlockCount().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("reset"));
+        }
+        verify(node, times(3)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrorsOrNonIdempotentMethods() throws Exception {
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new ClientConnectionException("bad request", 400))
+                .thenThrow(new IOException("reset"));
+        Neow3j neow3j = Neow3j.build(service(new RetryBudget(), null));
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException e) {
+            assertThat(e.getStatusCode(), is(400));
+        }
+        try {
+            neow3j.sendRawTransaction("80000001").send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("reset"));
+        }
+        verify(node, times(2)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testBudgetLimitsRetries() throws Exception {
+        when(node.send(any(Request.class), any())).thenThrow(new IOException("reset"));
+        RetryingService service = service(new RetryBudget(0.5, 1), null);
+        Neow3j neow3j = Neow3j.build(service);
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                neow3j.getBlockCount().send();
+                fail();
+            } catch (IOException expected) {
+            }
+        }
+        // one token in reserve, then one token per two requests
+        assertThat(service.getRetryCount(), is(2L));
+    }
+
+    @Test
+    public void testCircuitBreakerFailsFastAndRecovers() throws Exception {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(2, 1, TimeUnit.SECONDS, now::get);
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new IOException("down"))
+                .thenThrow(new IOException("down"))
+                .thenReturn(blockCount);
+        RetryingService service = service(RetryBudget.unlimited(), breaker);
+        Neow3j neow3j = Neow3j.build(service);
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (IOException e) {
+            assertThat(e, instanceOf(CircuitBreakerOpenException.class));
+        }
+        assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(service.getRejectedCount(), is(1L));
+
+        now.set(1000);
+        assertThat(neow3j.getBlockCount().send(), is(blockCount));
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+        verify(node, times(3)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testDoesNotRetryUnparseableResponses() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, TimeUnit.SECONDS);
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new JsonParseException(null, "Unexpected character"));
+        RetryingService service = service(new RetryBudget(), breaker);
+
+        try {
+            Neow3j.build(service).getBlockCount().send();
+            fail();
+        } catch (JsonParseException expected) {
+        }
+        assertThat(service.getRetryCount(), is(0L));
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+        verify(node, times(1)).send(any(Request.class), any());
+    }
+
+    @Test
+    public void testErrorDuringTrialReopensTheBreaker() throws Exception {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, TimeUnit.SECONDS, now::get);
+        when(node.send(any(Request.class), any()))
+                .thenThrow(new IOException("down"))
+                .thenThrow(new AssertionError("boom"))
+                .thenReturn(blockCount);
+        Neow3j neow3j = Neow3j.build(service(RetryBudget.unlimited(), breaker));
+
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (CircuitBreakerOpenException expected) {
+        }
+        now.set(1000);
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (AssertionError expected) {
+        }
+        assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+
+        now.set(2000);
+        assertThat(neow3j.getBlockCount().send(), is(blockCount));
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void testDelaysGrowExponentiallyUpToTheMaximum() {
+        RetryPolicy policy = new RetryPolicy(10, 100, 1000, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.getDelayMillis(1) <= 100, is(true));
+            assertThat(policy.getDelayMillis(3) <= 400, is(true));
+            assertThat(policy.getDelayMillis(9) <= 1000, is(true));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.neow3j.protocol.service;
+
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.Request;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory service answering requests with canned JSON-RPC results per method.
+ */
+public class StubService extends Service {
+
+    private final Map<String, String> results = new HashMap<>();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public StubService() {
+        this(false);
+    }
+
+    public StubService(boolean includeRawResponses) {
+        super(includeRawResponses);
+    }
+
+    /**
+     * @param method the JSON-RPC method
+     * @param result the JSON of the <code>result</code> field returned for the method
+     * @return this stub
+     */
+    public StubService respond(String method, String result) {
+        results.put(method, result);
+        return this;
+    }
+
+    public int getCallCount() {
+        return calls.get();
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        calls.incrementAndGet();
+        Request<?, ?> request = ObjectMapperFactory.getObjectMapper()
+                .readValue(payload, Request.class);
+        String result = results.get(request.getMethod());
+        String json;
+        if (result == null) {
+            json = "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId()
+                    + ",\"error\":{\"code\":-32601,\"message\":\"Method not found\"}}";
+        } else {
+            json = "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId() + ",\"result\":" + result + "}";
+        }
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+    }
+}
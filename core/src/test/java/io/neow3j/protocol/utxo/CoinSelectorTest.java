@@ -0,0 +1,267 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.crypto.transaction.ContractTransaction;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.exceptions.InsufficientFundsException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CoinSelectorTest {
+
+    private static final String NEO = "0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b";
+    private static final String GAS = "0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7";
+    private static final String ALICE = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String BOB = "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ";
+
+    private final CoinSelector selector = new CoinSelector();
+    private int txCount;
+
+    @Test
+    public void testLargestFirst() {
+        List<Utxo> coins = coins(GAS, "1", "7", "3", "5");
+
+        CoinSelection selection = selector.select(coins, pay(GAS, "9"), ALICE,
+                CoinSelectionStrategy.LARGEST_FIRST);
+
+        assertThat(values(selection.getInputs()), is(Arrays.asList("7", "5")));
+        assertThat(selection.getOutputs(), is(Arrays.asList(
+                new RawTransactionOutput(0, GAS, "9", BOB),
+                new RawTransactionOutput(1, GAS, "3", ALICE))));
+        assertThat(selection.getChangeOutputs(), is(Collections.singletonList(
+                new RawTransactionOutput(1, GAS, "3", ALICE))));
+    }
+
+    @Test
+    public void testBranchAndBoundFindsExactMatch() {
+        List<Utxo> coins = coins(GAS, "1", "7", "3", "5", "0.5");
+
+        CoinSelection selection = selector.select(coins, pay(GAS, "8.5"), ALICE);
+
+        assertThat(values(selection.getInputs()), is(Arrays.asList("7", "1", "0.5")));
+        assertTrue(selection.getChangeOutputs().isEmpty());
+        assertThat(selection.getOutputs().size(), is(1));
+    }
+
+    @Test
+    public void testBranchAndBoundFallsBackToLargestFirst() {
+        List<Utxo> coins = coins(NEO, "10", "10", "10");
+
+        CoinSelection selection = selector.select(coins, pay(NEO, "15"), ALICE);
+
+        assertThat(values(selection.getInputs()), is(Arrays.asList("10", "10")));
+        assertThat(selection.getChangeOutputs().get(0).getValue(), is("5"));
+    }
+
+    @Test
+    public void testConsolidation() {
+        List<Utxo> coins = coins(GAS, "1", "7", "0.25", "3", "0.75");
+
+        CoinSelection selection = selector.select(coins, pay(GAS, "2.5"), ALICE,
+                CoinSelectionStrategy.CONSOLIDATION);
+
+        assertThat(values(selection.getInputs()), is(Arrays.asList("3", "1", "0.75", "0.25")));
+        assertThat(selection.getChangeOutputs().get(0).getValue(), is("2.5"));
+    }
+
+    @Test
+    public void testMaxInputs() {
+        CoinSelector selector = new CoinSelector(2);
+        List<Utxo> coins = coins(GAS, "1", "1", "1", "4");
+
+        CoinSelection selection = selector.select(coins, pay(GAS, "3"), ALICE,
+                CoinSelectionStrategy.CONSOLIDATION);
+        assertThat(values(selection.getInputs()), is(Collections.singletonList("4")));
+        selection.release();
+
+        try {
+            selector.select(coins, pay(GAS, "6"), ALICE, CoinSelectionStrategy.LARGEST_FIRST);
+            fail();
+        } catch (InsufficientFundsException e) {
+            assertThat(e.getAvailable(), is(new BigDecimal("5.00000000")));
+        }
+    }
+
+    @Test
+    public void testFundsSeveralAssets() {
+        List<Utxo> coins = new ArrayList<>(coins(NEO, "10"));
+        coins.addAll(coins(GAS.substring(2).toUpperCase(), "2"));
+        List<RawTransactionOutput> payments = Arrays.asList(
+                new RawTransactionOutput(0, NEO, "4", BOB),
+                new RawTransactionOutput(0, GAS, "0.5", BOB),
+                new RawTransactionOutput(0, NEO, "1", BOB));
+
+        CoinSelection selection = selector.select(coins, payments, ALICE);
+
+        assertThat(selection.getInputs().size(), is(2));
+        assertThat(selection.getOutputs(), is(Arrays.asList(
+                new RawTransactionOutput(0, NEO, "4", BOB),
+                new RawTransactionOutput(1, GAS, "0.5", BOB),
+                new RawTransactionOutput(2, NEO, "1", BOB),
+                new RawTransactionOutput(3, NEO, "5", ALICE),
+                new RawTransactionOutput(4, GAS, "1.5", ALICE))));
+        ContractTransaction tx = selection.toContractTransaction();
+        assertThat(tx.getInputs(), is(selection.getRawInputs()));
+        assertThat(tx.getOutputs().size(), is(5));
+    }
+
+    @Test
+    public void testInsufficientFundsReservesNothing() {
+        List<Utxo> coins = new ArrayList<>(coins(NEO, "10"));
+        coins.addAll(coins(GAS, "1"));
+        List<RawTransactionOutput> payments = Arrays.asList(
+                new RawTransactionOutput(0, NEO, "4", BOB),
+                new RawTransactionOutput(0, GAS, "1.5", BOB));
+
+        try {
+            selector.select(coins, payments, ALICE);
+            fail();
+        } catch (InsufficientFundsException e) {
+            assertThat(e.getAssetId(), is(GAS));
+            assertThat(e.getRequired(), is(new BigDecimal("1.50000000")));
+        }
+        assertThat(selector.getReservedCount(), is(0));
+    }
+
+    @Test
+    public void testReservesSelectedOutputs() {
+        List<Utxo> coins = coins(GAS, "5", "3");
+
+        CoinSelection first = selector.select(coins, pay(GAS, "4"), ALICE,
+                CoinSelectionStrategy.LARGEST_FIRST);
+        CoinSelection second = selector.select(coins, pay(GAS, "2"), ALICE,
+                CoinSelectionStrategy.LARGEST_FIRST);
+
+        assertThat(values(first.getInputs()), is(Collections.singletonList("5")));
+        assertThat(values(second.getInputs()), is(Collections.singletonList("3")));
+        assertTrue(selector.isReserved(coins.get(0).getTxId(), 0));
+        try {
+            selector.select(coins, pay(GAS, "1"), ALICE);
+            fail();
+        } catch (InsufficientFundsException e) {
+            assertThat(e.getAvailable(), is(BigDecimal.valueOf(0, 8)));
+        }
+
+        first.release();
+        first.release();
+        assertFalse(selector.isReserved(coins.get(0).getTxId(), 0));
+        assertThat(selector.getReservedCount(), is(1));
+        assertThat(selector.select(coins, pay(GAS, "1"), ALICE).getInputs(),
+                is(first.getInputs()));
+    }
+
+    @Test
+    public void testReleasesSpentOutputsSeenOnChain() {
+        List<Utxo> coins = coins(GAS, "5", "3");
+        CoinSelection selection = selector.select(coins, pay(GAS, "8"), ALICE);
+        selection.markSpent();
+        selection.release();
+        Set<String> unspent = new HashSet<>(Collections.singletonList(coins.get(1).getTxId()));
+
+        assertThat(selector.releaseSpent((txId, index) -> unspent.contains(txId)), is(1));
+
+        assertThat(selector.getReservedCount(), is(1));
+        assertTrue(selector.isReserved(coins.get(1).getTxId().substring(2).toUpperCase(), 0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMarkSpentAfterRelease() {
+        CoinSelection selection = selector.select(coins(GAS, "5"), pay(GAS, "5"), ALICE);
+        selection.release();
+        selection.markSpent();
+    }
+
+    @Test
+    public void testConvertsUnspents() {
+        NeoGetUnspents.Unspents unspents = new NeoGetUnspents.Unspents(Arrays.asList(
+                new NeoGetUnspents.Balance(Arrays.asList(
+                        new NeoGetUnspents.UnspentTransaction(txId(1), 0, new BigDecimal("2")),
+                        new NeoGetUnspents.UnspentTransaction(txId(2), 1, new BigDecimal("3"))),
+                        GAS, "GAS", "GAS", new BigDecimal("5"))), ALICE);
+
+        List<Utxo> utxos = Utxo.fromUnspents(unspents);
+
+        assertThat(utxos.get(1), is(new Utxo(txId(2), 1, GAS, ALICE, new BigDecimal("3"), -1)));
+        assertThat(selector.select(utxos, pay(GAS, "3"), ALICE).getInputs(),
+                is(Collections.singletonList(utxos.get(1))));
+    }
+
+    @Test
+    public void testConcurrentSelectionsNeverShareOutputs() throws InterruptedException {
+        List<Utxo> coins = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            coins.add(new Utxo(txId(i), 0, GAS, ALICE, BigDecimal.valueOf(1 + i % 7), 0));
+        }
+        Set<Utxo> spent = ConcurrentHashMap.newKeySet();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(400);
+        for (int t = 0; t < 400; t++) {
+            boolean fail = t % 4 == 0;
+            executor.submit(() -> {
+                try {
+                    CoinSelection selection = selector.select(coins, pay(GAS, "5"), ALICE);
+                    if (fail) {
+                        selection.release();
+                        return;
+                    }
+                    for (Utxo input : selection.getInputs()) {
+                        if (!spent.add(input)) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    selection.markSpent();
+                } catch (InsufficientFundsException e) {
+                    // the coins may run out
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertThat(failures.get(), is(0));
+        assertThat(selector.getReservedCount(), is(spent.size()));
+    }
+
+    private List<Utxo> coins(String assetId, String... values) {
+        List<Utxo> coins = new ArrayList<>();
+        for (String value : values) {
+            coins.add(new Utxo(txId(++txCount), 0, assetId, ALICE, new BigDecimal(value), 0));
+        }
+        return coins;
+    }
+
+    private static List<RawTransactionOutput> pay(String assetId, String value) {
+        return Collections.singletonList(new RawTransactionOutput(0, assetId, value, BOB));
+    }
+
+    private static List<String> values(List<Utxo> utxos) {
+        List<String> values = new ArrayList<>();
+        for (Utxo utxo : utxos) {
+            values.add(utxo.getValue().toPlainString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,248 @@
+package io.neow3j.protocol.utxo;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.mock.MockNeoNode;
+import io.neow3j.protocol.rx.BlockEvent;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static io.neow3j.protocol.mock.TestChain.block;
+import static io.neow3j.protocol.mock.TestChain.contractTransaction;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class UtxoIndexTest {
+
+    private static final String NEO = "0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b";
+    private static final String GAS = "0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7";
+    private static final String ALICE = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String BOB = "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final UtxoIndex index = new UtxoIndex();
+
+    @Test
+    public void testAddsAndSpendsOutputs() {
+        index.addBlock(genesis());
+        index.addBlock(block(1, tx(2, inputs(txId(1), 0),
+                output(0, NEO, "60", BOB), output(1, NEO, "40", ALICE))));
+
+        assertThat(index.getHeight(), is(1L));
+        assertThat(index.size(), is(4));
+        assertThat(index.get(txId(1), 0), is(nullValue()));
+        assertThat(index.get(txId(1), 1),
+                is(new Utxo(txId(1), 1, GAS, ALICE, new BigDecimal("5.50000000"), 0)));
+        assertThat(index.get(txId(2), 1).getHeight(), is(1L));
+        assertThat(index.getUnspents(ALICE).size(), is(2));
+        assertThat(index.getUnspents(ALICE, NEO).size(), is(1));
+        assertThat(index.getUnspents(BOB, GAS).size(), is(0));
+        assertThat(index.getUnspents("unknown").size(), is(0));
+        assertThat(index.getBalance(ALICE, NEO), is(new BigDecimal("40.00000000")));
+        assertThat(index.getBalance(BOB, NEO.substring(2).toUpperCase()),
+                is(new BigDecimal("110.00000000")));
+    }
+
+    @Test
+    public void testRollsBackBlocks() {
+        index.addBlock(genesis());
+        Set<Utxo> before = new HashSet<>(index.getUnspents(ALICE));
+        // the second transaction spends an output of the first one in the same block
+        NeoBlock block = block(1,
+                tx(2, inputs(txId(1), 0), output(0, NEO, "100", BOB)),
+                tx(3, inputs(txId(2), 0, txId(1), 1), output(0, NEO, "100", ALICE)));
+        index.addBlock(block);
+        assertThat(index.size(), is(2));
+
+        index.rollBack(block);
+
+        assertThat(index.getHeight(), is(0L));
+        assertThat(index.size(), is(3));
+        assertThat(new HashSet<>(index.getUnspents(ALICE)), is(before));
+        assertThat(index.get(txId(2), 0), is(nullValue()));
+        assertThat(index.getBalance(BOB, NEO), is(new BigDecimal("50.00000000")));
+
+        index.addBlock(block);
+        assertThat(index.size(), is(2));
+    }
+
+    @Test
+    public void testAppliesBlockEvents() {
+        NeoBlock genesis = genesis();
+        NeoBlock block = block(1, tx(2, inputs(txId(1), 2), output(0, NEO, "50", ALICE)));
+        index.onBlockEvent(BlockEvent.added(genesis));
+        index.onBlockEvent(BlockEvent.added(block));
+        assertThat(index.getBalance(BOB, NEO), is(BigDecimal.valueOf(0, 8)));
+
+        index.onBlockEvent(BlockEvent.rolledBack(block));
+
+        assertThat(index.getBalance(BOB, NEO), is(new BigDecimal("50.00000000")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsBlocksNotExtendingTheChain() {
+        index.addBlock(genesis());
+        index.addBlock(block(2, tx(2)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsRollbackOfOtherBlocks() {
+        index.addBlock(genesis());
+        index.addBlock(block(1, tx(2)));
+        index.rollBack(genesis());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsRollbackBeyondDepth() {
+        UtxoIndex index = new UtxoIndex(1);
+        NeoBlock block1 = block(1, tx(2));
+        index.addBlock(genesis());
+        index.addBlock(block1);
+        index.rollBack(block1);
+        index.rollBack(genesis());
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        index.addBlock(genesis());
+        NeoBlock block1 = block(1, tx(2, inputs(txId(1), 0), output(0, NEO, "60", BOB)));
+        index.addBlock(block1);
+        File file = folder.newFile();
+
+        index.writeSnapshot(file);
+        UtxoIndex restored = UtxoIndex.readSnapshot(file, 10);
+
+        assertThat(restored.getHeight(), is(1L));
+        assertThat(restored.getBlockHash(), is(block1.getHash()));
+        assertThat(restored.size(), is(3));
+        assertThat(new HashSet<>(restored.getUnspents(BOB)),
+                is(new HashSet<>(index.getUnspents(BOB))));
+        assertThat(restored.get(txId(1), 1), is(index.get(txId(1), 1)));
+        NeoBlock block2 = block(2, tx(3, inputs(txId(2), 0), output(0, GAS, "1", ALICE)));
+        restored.addBlock(block2);
+        assertThat(restored.getBalance(BOB, NEO), is(new BigDecimal("50.00000000")));
+    }
+
+    @Test
+    public void testMatchesReferenceModelUnderChurn() {
+        Random random = new Random(42);
+        Map<String, String> reference = new HashMap<>();
+        List<String> unspent = new ArrayList<>();
+        List<NeoBlock> blocks = new ArrayList<>();
+        int txCount = 0;
+        for (int height = 0; height < 300; height++) {
+            List<Transaction> txs = new ArrayList<>();
+            for (int t = 0; t < 20; t++) {
+                List<TransactionInput> inputs = new ArrayList<>();
+                for (int i = 0; i < 3 && !unspent.isEmpty() && random.nextBoolean(); i++) {
+                    String spent = unspent.remove(random.nextInt(unspent.size()));
+                    reference.remove(spent);
+                    String[] parts = spent.split(":");
+                    inputs.add(new TransactionInput(parts[0], Integer.parseInt(parts[1])));
+                }
+                String id = txId(++txCount);
+                List<TransactionOutput> outputs = new ArrayList<>();
+                for (int o = 0; o < 1 + random.nextInt(3); o++) {
+                    String address = random.nextBoolean() ? ALICE : BOB;
+                    outputs.add(output(o, NEO, String.valueOf(1 + random.nextInt(100)), address));
+                    unspent.add(id + ":" + o);
+                    reference.put(id + ":" + o, address);
+                }
+                txs.add(contractTransaction(id, inputs, outputs));
+            }
+            NeoBlock block = block(height, txs.toArray(new Transaction[0]));
+            blocks.add(block);
+            index.addBlock(block);
+        }
+
+        assertThat(index.size(), is(reference.size()));
+        for (Map.Entry<String, String> entry : reference.entrySet()) {
+            String[] parts = entry.getKey().split(":");
+            Utxo utxo = index.get(parts[0], Integer.parseInt(parts[1]));
+            assertThat(utxo.getAddress(), is(entry.getValue()));
+        }
+        assertThat(index.getUnspents(ALICE).size() + index.getUnspents(BOB).size(),
+                is(reference.size()));
+
+        Collections.reverse(blocks);
+        for (NeoBlock block : blocks.subList(0, 100)) {
+            index.rollBack(block);
+        }
+        assertThat(index.getHeight(), is(199L));
+        for (NeoBlock block : blocks.subList(0, 100)) {
+            for (Transaction tx : block.getTransactions()) {
+                assertFalse(index.contains(tx.getTransactionId(), 0));
+            }
+        }
+        assertTrue(index.size() > 0);
+    }
+
+    @Test
+    public void testIndexesMockNodeBlocks() throws IOException {
+        MockNeoNode node = new MockNeoNode(100);
+        Neow3j neow3j = Neow3j.build(node.asService());
+        for (long i = 90; i <= 100; i++) {
+            index.addBlock(neow3j.getBlock(new BlockParameterIndex(i), true).send().getBlock());
+        }
+
+        // every block spends the outputs of its predecessor
+        assertThat(index.size(), is(2));
+        NeoBlock tip = neow3j.getBlock(new BlockParameterIndex(100), true).send().getBlock();
+        String address = tip.getTransactions().get(1).getOutputs().get(0).getAddress();
+        assertThat(index.getUnspents(address).size(), is(2));
+        assertThat(index.getBlockHash(), is(tip.getHash()));
+    }
+
+    private NeoBlock genesis() {
+        return block(0, tx(1, inputs(),
+                output(0, NEO, "100", ALICE),
+                output(1, GAS, "5.5", ALICE),
+                output(2, NEO, "50", BOB)));
+    }
+
+    private static Transaction tx(int id, List<TransactionInput> inputs,
+            TransactionOutput... outputs) {
+        return contractTransaction(txId(id), inputs, Arrays.asList(outputs));
+    }
+
+    private static Transaction tx(int id) {
+        return tx(id, inputs());
+    }
+
+    private static List<TransactionInput> inputs(Object... hashesAndIndexes) {
+        List<TransactionInput> inputs = new ArrayList<>();
+        for (int i = 0; i < hashesAndIndexes.length; i += 2) {
+            inputs.add(new TransactionInput((String) hashesAndIndexes[i],
+                    (Integer) hashesAndIndexes[i + 1]));
+        }
+        return inputs;
+    }
+
+    private static TransactionOutput output(int n, String asset, String value, String address) {
+        return new TransactionOutput(n, asset, value, address);
+    }
+}
@@ -0,0 +1,200 @@
+package io.neow3j.protocol.watch;
+
+import io.neow3j.crypto.KeyUtils;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.mock.MockNeoNode;
+import org.junit.Test;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.neow3j.protocol.mock.TestChain.contractTransaction;
+import static io.neow3j.protocol.mock.TestChain.txId;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AddressWatchListTest {
+
+    private static final String NEO = "0xc56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b";
+    private static final String ALICE = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String BOB = "AKYdmtzCD6DtGx16KHzSTKY8ji29sMTbEZ";
+
+    private final Random random = new Random(1);
+
+    @Test
+    public void testContainsOnlyWatchedAddresses() {
+        AddressWatchList watchList = new AddressWatchList(10_000);
+        List<String> watched = addresses(10_000);
+        for (String address : watched) {
+            assertTrue(watchList.add(address));
+        }
+
+        assertThat(watchList.size(), is(10_000));
+        for (String address : watched) {
+            assertTrue(watchList.contains(address));
+        }
+        int passedBloom = 0;
+        for (String address : addresses(10_000)) {
+            assertFalse(watchList.contains(address));
+            if (watchList.mightContain(address)) {
+                passedBloom++;
+            }
+        }
+        assertTrue("Bloom false positives: " + passedBloom, passedBloom < 300);
+        assertFalse(watchList.contains(null));
+        assertFalse(watchList.contains("not an address"));
+    }
+
+    @Test
+    public void testGrowsBeyondTheExpectedSize() {
+        AddressWatchList watchList = new AddressWatchList(4);
+        List<String> watched = addresses(3000);
+        for (String address : watched) {
+            watchList.add(address);
+        }
+
+        assertFalse(watchList.add(watched.get(17)));
+        assertThat(watchList.size(), is(3000));
+        for (String address : watched) {
+            assertTrue(watchList.contains(address));
+        }
+    }
+
+    @Test
+    public void testAddsAll() {
+        AddressWatchList watchList = new AddressWatchList(4);
+        List<String> watched = addresses(3000);
+        watchList.add(watched.get(0));
+
+        assertThat(watchList.addAll(watched), is(2999));
+        assertThat(watchList.addAll(Arrays.asList(ALICE, ALICE)), is(1));
+        assertThat(watchList.size(), is(3001));
+        for (String address : watched) {
+            assertTrue(watchList.contains(address));
+        }
+    }
+
+    @Test
+    public void testInvalidAddressAddsNothing() {
+        AddressWatchList watchList = new AddressWatchList();
+
+        try {
+            watchList.addAll(Arrays.asList(ALICE, "not an address"));
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertThat(watchList.size(), is(0));
+        assertFalse(watchList.contains(ALICE));
+    }
+
+    @Test
+    public void testReadersSeeAddressesWhileTheListGrows() throws Exception {
+        AddressWatchList watchList = new AddressWatchList(4);
+        List<String> watched = addresses(2000);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> missed = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                // addresses are added in order, so all before the last one seen must be found
+                int known = watchList.size();
+                for (int i = 0; i < known; i++) {
+                    if (!watchList.contains(watched.get(i))) {
+                        missed.set(watched.get(i));
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (String address : watched) {
+            watchList.add(address);
+        }
+        done.set(true);
+        reader.join();
+
+        assertThat(missed.get(), is((String) null));
+    }
+
+    @Test
+    public void testAddsScriptHashes() {
+        AddressWatchList watchList = new AddressWatchList();
+        byte[] scriptHash = KeyUtils.toScriptHash(ALICE);
+
+        assertTrue(watchList.addScriptHash(scriptHash));
+
+        assertFalse(watchList.add(ALICE));
+        assertTrue(watchList.contains(ALICE));
+        assertTrue(watchList.containsScriptHash(scriptHash));
+        assertFalse(watchList.containsScriptHash(KeyUtils.toScriptHash(BOB)));
+    }
+
+    @Test
+    public void testFiltersTransactions() {
+        AddressWatchList watchList = new AddressWatchList();
+        watchList.add(BOB);
+        Transaction toBob = transaction(1, ALICE, BOB);
+        Transaction toAlice = transaction(2, ALICE);
+
+        List<Transaction> matched = Observable.just(toAlice, toBob, transaction(3))
+                .compose(watchList.filter()).toList().toBlocking().single();
+
+        assertThat(matched, is(Arrays.asList(toBob)));
+    }
+
+    @Test
+    public void testFiltersCatchUpTransactions() throws IOException {
+        MockNeoNode node = new MockNeoNode(20);
+        node.addRecordedBlock("{\"hash\":\"0x" + repeat("ab", 32) + "\",\"index\":5,"
+                + "\"previousblockhash\":\"0x" + repeat("cd", 32) + "\",\"tx\":["
+                + "{\"txid\":\"0x" + repeat("ef", 32) + "\",\"type\":\"ContractTransaction\","
+                + "\"vin\":[],\"vout\":[{\"n\":0,\"asset\":\"" + NEO + "\",\"value\":\"1\","
+                + "\"address\":\"" + BOB + "\"}]}]}");
+        Neow3j neow3j = Neow3j.build(node.asService());
+        AddressWatchList watchList = new AddressWatchList();
+        watchList.add(BOB);
+
+        List<Transaction> matched = neow3j.catchUpToLatestTransactionObservable(
+                new BlockParameterIndex(0)).compose(watchList.filter())
+                .toList().toBlocking().single();
+        neow3j.shutdown();
+
+        assertThat(matched.size(), is(1));
+        assertThat(matched.get(0).getTransactionId(), is("0x" + repeat("ef", 32)));
+    }
+
+    private List<String> addresses(int count) {
+        List<String> addresses = new ArrayList<>();
+        byte[] scriptHash = new byte[20];
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(scriptHash);
+            addresses.add(KeyUtils.toAddress(scriptHash));
+        }
+        return addresses;
+    }
+
+    private static Transaction transaction(int n, String... recipients) {
+        List<TransactionOutput> outputs = new ArrayList<>();
+        for (String recipient : recipients) {
+            outputs.add(new TransactionOutput(outputs.size(), NEO, "1", recipient));
+        }
+        return contractTransaction(txId(n), null, outputs);
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(s);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package io.neow3j.utils;
+
+import org.junit.Test;
+import rx.Observable;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ObservablesTest {
+
+    @Test
+    public void testRange() {
+        assertThat(toList(Observables.range(3L, 6L)), is(Arrays.asList(3L, 4L, 5L, 6L)));
+        assertThat(toList(Observables.range(3L, 6L, false)), is(Arrays.asList(6L, 5L, 4L, 3L)));
+        assertThat(toList(Observables.range(5L, 5L)), is(Arrays.asList(5L)));
+    }
+
+    @Test
+    public void testRangeUpToMaxValue() {
+        assertThat(toList(Observables.range(Long.MAX_VALUE - 1, Long.MAX_VALUE)),
+                is(Arrays.asList(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testMappedRange() {
+        assertThat(toList(Observables.range(1, 3, true, i -> "block " + i)),
+                is(Arrays.asList("block 1", "block 2", "block 3")));
+    }
+
+    @Test
+    public void testBigIntegerRange() {
+        assertThat(toList(Observables.range(BigInteger.ONE, BigInteger.valueOf(3))),
+                is(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2), BigInteger.valueOf(3))));
+        assertThat(toList(Observables.range(BigInteger.ONE, BigInteger.valueOf(2), false)),
+                is(Arrays.asList(BigInteger.valueOf(2), BigInteger.ONE)));
+    }
+
+    @Test
+    public void testRangeStopsOnUnsubscribe() {
+        assertThat(toList(Observables.range(0, Long.MAX_VALUE).take(2)),
+                is(Arrays.asList(0L, 1L)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStart() {
+        Observables.range(-1L, 1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStartAfterEnd() {
+        Observables.range(2L, 1L);
+    }
+
+    private static <T> List<T> toList(Observable<T> observable) {
+        return observable.toList().toBlocking().single();
+    }
+}
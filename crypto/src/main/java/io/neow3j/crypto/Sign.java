@@ -1,6 +1,8 @@
 package io.neow3j.crypto;
 
 import io.neow3j.constants.NeoConstants;
+import io.neow3j.jfr.EventScope;
+import io.neow3j.jfr.FlightRecorderEvents;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
@@ -30,6 +32,20 @@ public class Sign {
     }
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
+        EventScope event = FlightRecorderEvents.signing();
+        try {
+            event.setSize(message.length);
+            return createSignatureData(message, keyPair, needToHash);
+        } catch (RuntimeException e) {
+            event.setSuccessful(false);
+            throw e;
+        } finally {
+            event.close();
+        }
+    }
+
+    private static SignatureData createSignatureData(
+            byte[] message, ECKeyPair keyPair, boolean needToHash) {
         BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
         if (needToHash) {
@@ -3,6 +3,8 @@ package io.neow3j.crypto;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
+import io.neow3j.jfr.EventScope;
+import io.neow3j.jfr.FlightRecorderEvents;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.crypto.generators.SCrypt;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -195,6 +197,20 @@ public class Wallet {
     public static ECKeyPair decrypt(String password, WalletFile walletFile, WalletFile.Account account, int n, int p, int r)
             throws CipherException, NEP2InvalidFormat, NEP2InvalidPassphrase {
 
+        EventScope event = FlightRecorderEvents.walletDecrypt(account.getAddress());
+        try {
+            return decryptAccount(password, walletFile, account, n, p, r);
+        } catch (Exception e) {
+            event.setSuccessful(false);
+            throw e;
+        } finally {
+            event.close();
+        }
+    }
+
+    private static ECKeyPair decryptAccount(String password, WalletFile walletFile, WalletFile.Account account, int n, int p, int r)
+            throws CipherException, NEP2InvalidFormat, NEP2InvalidPassphrase {
+
         validate(walletFile, n, p, r);
 
         WalletFile.ScryptParams scryptParams = walletFile.getScrypt();
@@ -0,0 +1,185 @@
+package io.neow3j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@link EventFactory} backed by <code>jdk.jfr</code> events. Only compiled when the build JDK
+ * provides the JFR API and only loaded by {@link FlightRecorderEvents} when it is available at
+ * runtime.
+ */
+class JfrEventFactory implements EventFactory {
+
+    @Override
+    public EventScope rpcCall(String method) {
+        RpcCall event = new RpcCall();
+        if (!event.isEnabled()) {
+            return EventScope.NOOP;
+        }
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public EventScope signing() {
+        Signing event = new Signing();
+        if (!event.isEnabled()) {
+            return EventScope.NOOP;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public EventScope walletDecrypt(String address) {
+        WalletDecrypt event = new WalletDecrypt();
+        if (!event.isEnabled()) {
+            return EventScope.NOOP;
+        }
+        event.address = address;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public EventScope serialization(Class<?> type) {
+        Serialization event = new Serialization();
+        if (!event.isEnabled()) {
+            return EventScope.NOOP;
+        }
+        event.type = type;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public EventScope blockPollingTick() {
+        BlockPollingTick event = new BlockPollingTick();
+        if (!event.isEnabled()) {
+            return EventScope.NOOP;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Category("neow3j")
+    abstract static class ScopedEvent extends Event implements EventScope {
+
+        @Label("Successful")
+        boolean successful = true;
+
+        @Override
+        public void setSize(long size) {
+        }
+
+        @Override
+        public void setResultSize(long size) {
+        }
+
+        @Override
+        public void setSuccessful(boolean successful) {
+            this.successful = successful;
+        }
+
+        @Override
+        public void close() {
+            end();
+            if (shouldCommit()) {
+                commit();
+            }
+        }
+    }
+
+    @Name("io.neow3j.RpcCall")
+    @Label("RPC Call")
+    @Description("A JSON-RPC request sent by a neow3j service")
+    static class RpcCall extends ScopedEvent {
+
+        @Label("Method")
+        String method;
+
+        @Label("Request Size")
+        @DataAmount
+        long requestSize;
+
+        @Label("Response Size")
+        @DataAmount
+        long responseSize;
+
+        @Override
+        public void setSize(long size) {
+            requestSize = size;
+        }
+
+        @Override
+        public void setResultSize(long size) {
+            responseSize = size;
+        }
+    }
+
+    @Name("io.neow3j.Signing")
+    @Label("Message Signing")
+    static class Signing extends ScopedEvent {
+
+        @Label("Message Size")
+        @DataAmount
+        long messageSize;
+
+        @Override
+        public void setSize(long size) {
+            messageSize = size;
+        }
+    }
+
+    @Name("io.neow3j.WalletDecrypt")
+    @Label("Wallet Decrypt")
+    @Description("Decryption of a NEP-2 encrypted wallet account")
+    static class WalletDecrypt extends ScopedEvent {
+
+        @Label("Address")
+        String address;
+    }
+
+    @Name("io.neow3j.Serialization")
+    @Label("Serialization")
+    static class Serialization extends ScopedEvent {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Serialized Size")
+        @DataAmount
+        long serializedSize;
+
+        @Override
+        public void setResultSize(long size) {
+            serializedSize = size;
+        }
+    }
+
+    @Name("io.neow3j.BlockPollingTick")
+    @Label("Block Polling Tick")
+    static class BlockPollingTick extends ScopedEvent {
+
+        @Label("Latest Block Index")
+        long latestBlockIndex;
+
+        @Label("New Blocks")
+        long newBlocks;
+
+        @Override
+        public void setSize(long size) {
+            latestBlockIndex = size;
+        }
+
+        @Override
+        public void setResultSize(long size) {
+            newBlocks = size;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.neow3j.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void testScopesAreNoopWithoutRecording() {
+        assertThat(FlightRecorderEvents.isAvailable(), is(true));
+        assertThat(FlightRecorderEvents.rpcCall("getblockcount"), is(EventScope.NOOP));
+    }
+
+    @Test
+    public void testEventsAreCommittedWhileRecording() throws Exception {
+        Path file = Files.createTempFile("neow3j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.neow3j.RpcCall");
+            recording.disable("io.neow3j.Signing");
+            recording.start();
+
+            EventScope event = FlightRecorderEvents.rpcCall("getblockcount");
+            assertThat(event.isEnabled(), is(true));
+            event.setSize(60);
+            event.setResultSize(40);
+            event.setSuccessful(false);
+            event.close();
+            // disabled in the recording
+            assertThat(FlightRecorderEvents.signing(), is(EventScope.NOOP));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("io.neow3j."))
+                .collect(Collectors.toList());
+        Files.delete(file);
+        assertThat(events.size(), is(1));
+        RecordedEvent event = events.get(0);
+        assertThat(event.getEventType().getName(), is("io.neow3j.RpcCall"));
+        assertThat(event.getString("method"), is("getblockcount"));
+        assertThat(event.getLong("requestSize"), is(60L));
+        assertThat(event.getLong("responseSize"), is(40L));
+        assertThat(event.getBoolean("successful"), is(false));
+    }
+}
@@ -1,5 +1,8 @@
 package io.neow3j.io;
 
+import io.neow3j.jfr.EventScope;
+import io.neow3j.jfr.FlightRecorderEvents;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -12,14 +15,20 @@ public interface NeoSerializableInterface {
     void serialize(BinaryWriter writer) throws IOException;
 
     default byte[] toArray() {
+        EventScope event = FlightRecorderEvents.serialization(getClass());
         try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
             try (BinaryWriter writer = new BinaryWriter(ms)) {
                 serialize(writer);
                 writer.flush();
-                return ms.toByteArray();
+                byte[] bytes = ms.toByteArray();
+                event.setResultSize(bytes.length);
+                return bytes;
             }
         } catch (IOException ex) {
+            event.setSuccessful(false);
             throw new UnsupportedOperationException(ex);
+        } finally {
+            event.close();
         }
     }
 
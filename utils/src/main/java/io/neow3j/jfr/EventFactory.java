@@ -0,0 +1,17 @@
+package io.neow3j.jfr;
+
+/**
+ * Creates the event scopes handed out by {@link FlightRecorderEvents}.
+ */
+interface EventFactory {
+
+    EventScope rpcCall(String method);
+
+    EventScope signing();
+
+    EventScope walletDecrypt(String address);
+
+    EventScope serialization(Class<?> type);
+
+    EventScope blockPollingTick();
+}
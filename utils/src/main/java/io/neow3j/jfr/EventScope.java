@@ -0,0 +1,62 @@
+package io.neow3j.jfr;
+
+/**
+ * A neow3j operation that is being recorded as a Java Flight Recorder event.
+ *
+ * <p>A scope is opened by one of the methods in {@link FlightRecorderEvents} and must be closed
+ * when the operation ends; closing it commits the event. If JFR is not available or the event
+ * is not enabled in the running recording, {@link #NOOP} is returned and all calls do nothing.
+ * Which of the sizes an event carries depends on the event type.
+ */
+public interface EventScope extends AutoCloseable {
+
+    EventScope NOOP = new EventScope() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void setSize(long size) {
+        }
+
+        @Override
+        public void setResultSize(long size) {
+        }
+
+        @Override
+        public void setSuccessful(boolean successful) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * @return true if this scope is recorded, i.e. it is worth collecting sizes for it.
+     */
+    boolean isEnabled();
+
+    /**
+     * Sets the size of the input of the operation, e.g. request or message bytes.
+     *
+     * @param size the size
+     */
+    void setSize(long size);
+
+    /**
+     * Sets the size of the output of the operation, e.g. response or serialized bytes.
+     *
+     * @param size the size
+     */
+    void setResultSize(long size);
+
+    void setSuccessful(boolean successful);
+
+    /**
+     * Ends the operation and commits the event.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,103 @@
+package io.neow3j.jfr;
+
+/**
+ * Entry point for the Java Flight Recorder events emitted by neow3j.
+ *
+ * <p>The event classes are only compiled when the build JDK provides the <code>jdk.jfr</code>
+ * API and are only used when it is also available at runtime. In every other case, or when the
+ * system property <code>neow3j.jfr.disabled</code> is set to true, all methods return
+ * {@link EventScope#NOOP}. When JFR is available but not recording, the cost of opening a scope
+ * is a check of the event's enabled flag.
+ *
+ * <p>Typical usage:
+ * <pre>
+ * EventScope event = FlightRecorderEvents.signing();
+ * try {
+ *     event.setSize(message.length);
+ *     ...
+ * } finally {
+ *     event.close();
+ * }
+ * </pre>
+ */
+public final class FlightRecorderEvents {
+
+    public static final String DISABLED_PROPERTY = "neow3j.jfr.disabled";
+
+    private static final String JFR_EVENT_FACTORY = "io.neow3j.jfr.JfrEventFactory";
+
+    private static final EventFactory FACTORY = loadFactory();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * @return true if the JFR events are compiled in and JFR is available in this JVM.
+     */
+    public static boolean isAvailable() {
+        return FACTORY != null;
+    }
+
+    /**
+     * Opens a scope for a JSON-RPC call. Size is the request, result size the response bytes.
+     *
+     * @param method the JSON-RPC method
+     * @return the scope
+     */
+    public static EventScope rpcCall(String method) {
+        return FACTORY == null ? EventScope.NOOP : FACTORY.rpcCall(method);
+    }
+
+    /**
+     * Opens a scope for signing a message. Size is the message length.
+     *
+     * @return the scope
+     */
+    public static EventScope signing() {
+        return FACTORY == null ? EventScope.NOOP : FACTORY.signing();
+    }
+
+    /**
+     * Opens a scope for decrypting a wallet account (NEP-2).
+     *
+     * @param address the address of the account
+     * @return the scope
+     */
+    public static EventScope walletDecrypt(String address) {
+        return FACTORY == null ? EventScope.NOOP : FACTORY.walletDecrypt(address);
+    }
+
+    /**
+     * Opens a scope for serializing an object. Result size is the serialized length.
+     *
+     * @param type the serialized type
+     * @return the scope
+     */
+    public static EventScope serialization(Class<?> type) {
+        return FACTORY == null ? EventScope.NOOP : FACTORY.serialization(type);
+    }
+
+    /**
+     * Opens a scope for one tick of a block poller. Size is the latest block index, result size
+     * the number of new blocks.
+     *
+     * @return the scope
+     */
+    public static EventScope blockPollingTick() {
+        return FACTORY == null ? EventScope.NOOP : FACTORY.blockPollingTick();
+    }
+
+    private static EventFactory loadFactory() {
+        if (Boolean.getBoolean(DISABLED_PROPERTY)) {
+            return null;
+        }
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (EventFactory) Class.forName(JFR_EVENT_FACTORY)
+                    .getDeclaredConstructor().newInstance();
+        } catch (Throwable e) {
+            // JFR not available in this JVM or events not compiled in.
+            return null;
+        }
+    }
+}
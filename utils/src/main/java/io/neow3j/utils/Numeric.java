@@ -27,6 +27,14 @@ public final class Numeric {
         }
     }
 
+    public static String encodeQuantity(long value) {
+        if (value >= 0) {
+            return HEX_PREFIX + Long.toHexString(value);
+        } else {
+            throw new MessageEncodingException("Negative values are not supported");
+        }
+    }
+
     public static BigInteger decodeQuantity(String value) {
         if (!isValidHexQuantity(value)) {
             throw new MessageDecodingException("Value must be in format 0x[1-9]+[0-9]* or 0x0");
@@ -84,6 +84,18 @@ public class NumericTest {
         Numeric.encodeQuantity(BigInteger.valueOf(-1));
     }
 
+    @Test
+    public void testLongQuantityEncode() {
+        assertThat(Numeric.encodeQuantity(0L), is("0x0"));
+        assertThat(Numeric.encodeQuantity(1024L), is("0x400"));
+        assertThat(Numeric.encodeQuantity(Long.MAX_VALUE), is("0x7fffffffffffffff"));
+    }
+
+    @Test(expected = MessageEncodingException.class)
+    public void testLongQuantityEncodeNegative() {
+        Numeric.encodeQuantity(-1L);
+    }
+
     @Test
     public void testCleanHexPrefix() {
         assertThat(Numeric.cleanHexPrefix(""), is(""));